@@ -20,6 +20,7 @@
 import java.util.Locale;
 
 import format.bind.annotation.FormatField;
+import format.bind.annotation.FormatField.Prefix;
 import format.bind.annotation.FormatField.Type;
 
 /**
@@ -62,6 +63,22 @@ public interface FormatFieldDescriptor {
 	 */
 	int length();
 
+	/**
+	 * The length prefix of the text format field.
+	 * 
+	 * <p>
+	 * The value of a prefixed field is converted without padding, the length of the field
+	 * being written and read by the processors.
+	 * </p>
+	 * 
+	 * @return The length prefix of the text format field.
+	 * 
+	 * @see FormatField#prefix()
+	 */
+	default Prefix prefix() {
+		return Prefix.NONE;
+	}
+
 	/**
 	 * The scale for numeric text format field.
 	 * 
@@ -101,6 +118,21 @@ public interface FormatFieldDescriptor {
 	 */
 	String placeholder();
 
+	/**
+	 * The encoded bytes of the placeholder of the text format field.
+	 * 
+	 * <p>
+	 * The default implementation encodes the {@linkplain #placeholder() placeholder} with the
+	 * {@linkplain #charset() charset} on each call. Implementations may instead return the same
+	 * precomputed array, which must therefore not be modified.
+	 * </p>
+	 * 
+	 * @return The encoded placeholder of the text format field.
+	 */
+	default byte[] placeholderBytes() {
+		return placeholder().getBytes(charset());
+	}
+
 	/**
 	 * Whether the text format field is read only.
 	 * 
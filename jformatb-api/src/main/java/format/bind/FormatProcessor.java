@@ -21,6 +21,14 @@
 /**
  * The common interface of text format processors.
  * 
+ * <p>
+ * Implementations are encouraged to be immutable once configured, the configuration
+ * methods ({@link #withCharset(Charset)}, {@link #withListener(Listener)}, ...) returning
+ * a new processor instead of modifying the current one. An immutable processor can be
+ * cached and safely shared by concurrent threads. The default implementation follows
+ * this contract, so the returned processor must always be used.
+ * </p>
+ * 
  * @param <T> The type of Java object to process.
  * @param <F> The type of text format processor.
  * 
@@ -55,8 +63,12 @@
 	 * Set the default charset to be used for encoding or decoding operations.
 	 * 
 	 * @param charset The default charset to use.
-	 * @return This {@code FormatProcessor}.
+	 * @return A {@code FormatProcessor} using the given charset, which is a new processor
+	 * 		if this processor is immutable.
+	 * @deprecated Immutable processors, such as the default implementation, are left unchanged
+	 * 		by this method, so its result must be used. Use {@link #withCharset(Charset)} instead.
 	 */
+	@Deprecated
 	F setCharset(final Charset charset);
 
 	/**
@@ -67,26 +79,36 @@
 	 * replaces the previous registered.
 	 * 
 	 * @param listener The post processing event callback for this {@link FormatProcessor}.
-	 * @return This {@code FormatProcessor}.
+	 * @return A {@code FormatProcessor} notifying the given listener, which is a new processor
+	 * 		if this processor is immutable.
+	 * @deprecated Immutable processors, such as the default implementation, are left unchanged
+	 * 		by this method, so its result must be used. Use {@link #withListener(Listener)} instead.
 	 */
+	@Deprecated
 	F setListener(final Listener<T> listener);
 
 	/**
 	 * Provides the default charset to be used for encoding or decoding operations.
 	 * 
 	 * @param charsetName The name of the default charset to use.
-	 * @return This {@code FormatProcessor}.
+	 * @return A {@code FormatProcessor} using the given charset.
 	 */
 	default F withCharset(final String charsetName) {
-		return setCharset(Charset.forName(charsetName));
+		return withCharset(Charset.forName(charsetName));
 	}
 
 	/**
 	 * Provides the default charset to be used for encoding or decoding operations.
 	 * 
+	 * <p>
+	 * The default implementation delegates to {@link #setCharset(Charset)}, for the
+	 * implementations predating this method.
+	 * </p>
+	 * 
 	 * @param charset The default charset to use.
-	 * @return This {@code FormatProcessor}.
+	 * @return A {@code FormatProcessor} using the given charset.
 	 */
+	@SuppressWarnings("deprecation")
 	default F withCharset(final Charset charset) {
 		return setCharset(charset);
 	}
@@ -98,9 +120,15 @@ default F withCharset(final Charset charset) {
 	 * There is only one {@code Listener} per {@code FormatProcessor}. Setting a {@code Listener}
 	 * replaces the previous registered.
 	 * 
+	 * <p>
+	 * The default implementation delegates to {@link #setListener(Listener)}, for the
+	 * implementations predating this method.
+	 * </p>
+	 * 
 	 * @param listener The post processing event callback for this {@link FormatProcessor}.
-	 * @return This {@code FormatProcessor}.
+	 * @return A {@code FormatProcessor} notifying the given listener.
 	 */
+	@SuppressWarnings("deprecation")
 	default F withListener(final Listener<T> listener) {
 		return setListener(listener);
 	}
@@ -15,6 +15,8 @@
  */
 package format.bind;
 
+import java.nio.ByteBuffer;
+
 /**
  * The {@code FormatReader} class is responsible for processing the deserialization
  * of text format data into newly created Java type.
@@ -44,4 +46,47 @@
 	 */
 	T readBytes(final byte[] bytes) throws FormatProcessingException;
 
+	/**
+	 * Deserialize the formatted data remaining in the given buffer into the resulting
+	 * Java type.
+	 * 
+	 * <p>
+	 * The data is read from the current position of the buffer, which can be a heap or a
+	 * direct buffer. On return, the position is advanced by the number of bytes consumed,
+	 * i.e. the length of the record read. Fixed length records can then be read one after
+	 * the other from the same buffer.
+	 * </p>
+	 * 
+	 * <p>
+	 * The default implementation reads a copy of the remaining bytes with
+	 * {@link #readBytes(byte[])} and consumes all of them.
+	 * </p>
+	 * 
+	 * @param buffer The buffer containing the formatted data to deserialize.
+	 * @return The newly created Java object.
+	 * @throws FormatProcessingException if an error occurs during the read process.
+	 */
+	default T readBuffer(final ByteBuffer buffer) throws FormatProcessingException {
+		byte[] bytes = new byte[buffer.remaining()];
+		buffer.duplicate().get(bytes);
+		T obj = readBytes(bytes);
+		buffer.position(buffer.limit());
+		return obj;
+	}
+
+	/**
+	 * Returns the length of the records read by this reader, if they all have the same length.
+	 * 
+	 * <p>
+	 * The default implementation returns {@code -1}, i.e. the record length is unknown.
+	 * </p>
+	 * 
+	 * @return The length of the records in bytes, or {@code -1} if the records have a variable
+	 * 		or unknown length.
+	 * @see RecordReader
+	 */
+	default int getRecordLength() {
+		return -1;
+	}
+
 }
@@ -15,7 +15,10 @@
  */
 package format.bind;
 
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
 import java.util.Map;
+import java.util.function.IntFunction;
 
 /**
  * The {@code FormatWriter} class is responsible for processing the serialization of
@@ -32,16 +35,26 @@
 	 * Set additional text field property values.
 	 * 
 	 * @param properties The additional text field property values to set
-	 * @return This {@code FormatWriter}.
+	 * @return A {@code FormatWriter} using the given property values, which is a new writer
+	 * 		if this writer is immutable.
+	 * @deprecated Immutable writers, such as the default implementation, are left unchanged
+	 * 		by this method, so its result must be used. Use {@link #withProperties(Map)} instead.
 	 */
+	@Deprecated
 	F setProperties(final Map<String, Object> properties);
 
 	/**
 	 * Set additional text field property values.
 	 * 
+	 * <p>
+	 * The default implementation delegates to {@link #setProperties(Map)}, for the
+	 * implementations predating this method.
+	 * </p>
+	 * 
 	 * @param properties The additional text field property values to set
-	 * @return This {@code FormatWriter}.
+	 * @return A {@code FormatWriter} using the given property values.
 	 */
+	@SuppressWarnings("deprecation")
 	default F withProperties(final Map<String, Object> properties) {
 		return setProperties(properties);
 	}
@@ -64,4 +77,57 @@ default F withProperties(final Map<String, Object> properties) {
 	 */
 	byte[] writeBytes(final T obj) throws FormatProcessingException;
 
+	/**
+	 * Serialize the specified {@code obj} into the given buffer.
+	 * 
+	 * <p>
+	 * The formatted data is written at the current position of the buffer, which can be a
+	 * heap or a direct buffer. On return, the position is advanced by the number of bytes
+	 * produced. If the remaining space of the buffer is too small, nothing is written and a
+	 * {@link BufferOverflowException} is thrown.
+	 * </p>
+	 * 
+	 * <p>
+	 * The default implementation puts the result of {@link #writeBytes(Object)} into the buffer.
+	 * </p>
+	 * 
+	 * @param obj The Java object to serialize.
+	 * @param buffer The buffer receiving the formatted data.
+	 * @return The number of bytes written.
+	 * @throws FormatProcessingException if an error occurs during the write process.
+	 * @throws BufferOverflowException if the buffer has not enough remaining space.
+	 */
+	default int writeTo(final T obj, final ByteBuffer buffer) throws FormatProcessingException {
+		byte[] bytes = writeBytes(obj);
+		buffer.put(bytes);
+		return bytes.length;
+	}
+
+	/**
+	 * Serialize the specified {@code obj} into the buffer provided for its formatted size.
+	 * 
+	 * <p>
+	 * The object is formatted first, then the given function is called once with the number
+	 * of bytes of the formatted data, and must return a buffer with at least as many bytes
+	 * remaining (e.g. after writing its content to an output). The formatted data is written
+	 * at the current position of that buffer, whose position is advanced by the number of
+	 * bytes produced. The object is thus formatted only once, whatever the buffer space.
+	 * </p>
+	 * 
+	 * <p>
+	 * The default implementation puts the result of {@link #writeBytes(Object)} into the buffer.
+	 * </p>
+	 * 
+	 * @param obj The Java object to serialize.
+	 * @param buffers The function providing the buffer receiving the given number of bytes.
+	 * @return The number of bytes written.
+	 * @throws FormatProcessingException if an error occurs during the write process.
+	 * @throws BufferOverflowException if the provided buffer has not enough remaining space.
+	 */
+	default int writeTo(final T obj, final IntFunction<ByteBuffer> buffers) throws FormatProcessingException {
+		byte[] bytes = writeBytes(obj);
+		buffers.apply(bytes.length).put(bytes);
+		return bytes.length;
+	}
+
 }
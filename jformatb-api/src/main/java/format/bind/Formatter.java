@@ -15,7 +15,13 @@
  */
 package format.bind;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.Charset;
+import java.nio.file.Path;
 import java.util.Optional;
 import java.util.function.BiFunction;
 
@@ -62,10 +68,23 @@
 	@With
 	private String pattern;
 
-	/** The {@link FormatProcessorFactory} instance. */
+	/** The {@link FormatProcessorFactory} instance, resolved on first use for the type and pattern. */
 	@EqualsAndHashCode.Exclude
 	@ToString.Exclude
-	private FormatProcessorFactory processorFactory = getProcessorFactory();
+	@Getter(value = AccessLevel.PRIVATE, lazy = true)
+	private FormatProcessorFactory processorFactory = findProcessorFactory(type, pattern);
+
+	/** The default reader of this {@code Formatter}, created on first use. */
+	@EqualsAndHashCode.Exclude
+	@ToString.Exclude
+	@Getter(value = AccessLevel.PRIVATE, lazy = true)
+	private FormatReader<T, ?> defaultReader = newReader();
+
+	/** The default writer of this {@code Formatter}, created on first use. */
+	@EqualsAndHashCode.Exclude
+	@ToString.Exclude
+	@Getter(value = AccessLevel.PRIVATE, lazy = true)
+	private FormatWriter<T, ?> defaultWriter = newWriter();
 
 	/**
 	 * Creates a new instance of {@link FormatReader}.
@@ -75,7 +94,7 @@
 	 * @see FormatProcessorFactory#createReader(Class, String)
 	 */
 	public final <F extends FormatReader<T, F>> FormatReader<T, F> createReader() {
-		return reader();
+		return reader(getProcessorFactory()::createReader);
 	}
 
 	/**
@@ -86,7 +105,7 @@ public final <F extends FormatReader<T, F>> FormatReader<T, F> createReader() {
 	 * @see FormatProcessorFactory#createWriter(Class, String)
 	 */
 	public final <F extends FormatWriter<T, F>> FormatWriter<T, F> createWriter() {
-		return writer();
+		return writer(getProcessorFactory()::createWriter);
 	}
 
 	/**
@@ -98,7 +117,7 @@ public final <F extends FormatWriter<T, F>> FormatWriter<T, F> createWriter() {
 	 * @see FormatWriter#write(Object)
 	 */
 	public final String format(final T obj) throws FormatProcessingException {
-		return createWriter().write(obj);
+		return writer().write(obj);
 	}
 
 	/**
@@ -110,7 +129,7 @@ public final String format(final T obj) throws FormatProcessingException {
 	 * @see FormatWriter#writeBytes(Object)
 	 */
 	public final byte[] formatBytes(final T obj) throws FormatProcessingException {
-		return createWriter().writeBytes(obj);
+		return writer().writeBytes(obj);
 	}
 
 	/**
@@ -124,7 +143,7 @@ public final byte[] formatBytes(final T obj) throws FormatProcessingException {
 	 * @see FormatProcessor#withCharset(String)
 	 */
 	public final byte[] formatBytes(final T obj, final String charsetName) throws FormatProcessingException {
-		return createWriter().withCharset(charsetName).writeBytes(obj);
+		return writer().withCharset(charsetName).writeBytes(obj);
 	}
 
 	/**
@@ -138,7 +157,29 @@ public final byte[] formatBytes(final T obj, final String charsetName) throws Fo
 	 * @see FormatProcessor#withCharset(Charset)
 	 */
 	public final byte[] formatBytes(final T obj, final Charset charset) throws FormatProcessingException {
-		return createWriter().withCharset(charset).writeBytes(obj);
+		return writer().withCharset(charset).writeBytes(obj);
+	}
+
+	/**
+	 * Formats records one after the other to the given stream.
+	 * 
+	 * @param output The stream receiving the formatted records.
+	 * @return The {@link RecordWriter} of the records.
+	 * @see RecordWriter#of(FormatWriter, OutputStream)
+	 */
+	public final RecordWriter<T> formatRecords(final OutputStream output) {
+		return RecordWriter.of(writer(), output);
+	}
+
+	/**
+	 * Formats records one after the other to the given channel.
+	 * 
+	 * @param output The channel receiving the formatted records.
+	 * @return The {@link RecordWriter} of the records.
+	 * @see RecordWriter#of(FormatWriter, WritableByteChannel)
+	 */
+	public final RecordWriter<T> formatRecords(final WritableByteChannel output) {
+		return RecordWriter.of(writer(), output);
 	}
 
 	/**
@@ -150,7 +191,7 @@ public final byte[] formatBytes(final T obj, final Charset charset) throws Forma
 	 * @see FormatReader#read(String)
 	 */
 	public final T parse(final String text) throws FormatProcessingException {
-		return createReader().read(text);
+		return reader().read(text);
 	}
 
 	/**
@@ -166,7 +207,7 @@ public final T parse(final String text) throws FormatProcessingException {
 	 * @see FormatReader#readBytes(byte[])
 	 */
 	public final T parseBytes(final byte[] bytes) throws FormatProcessingException {
-		return createReader().readBytes(bytes);
+		return reader().readBytes(bytes);
 	}
 
 	/**
@@ -180,7 +221,7 @@ public final T parseBytes(final byte[] bytes) throws FormatProcessingException {
 	 * @see FormatProcessor#withCharset(String)
 	 */
 	public final T parseBytes(final byte[] bytes, final String charsetName) throws FormatProcessingException {
-		return createReader().withCharset(charsetName).readBytes(bytes);
+		return reader().withCharset(charsetName).readBytes(bytes);
 	}
 
 	/**
@@ -194,18 +235,59 @@ public final T parseBytes(final byte[] bytes, final String charsetName) throws F
 	 * @see FormatProcessor#withCharset(Charset)
 	 */
 	public final T parseBytes(final byte[] bytes, final Charset charset) throws FormatProcessingException {
-		return createReader().withCharset(charset).readBytes(bytes);
+		return reader().withCharset(charset).readBytes(bytes);
+	}
+
+	/**
+	 * Parses the records of the given stream one after the other.
+	 * 
+	 * @param input The stream of the formatted records.
+	 * @return The {@link RecordReader} of the records.
+	 * @see RecordReader#of(FormatReader, InputStream)
+	 */
+	public final RecordReader<T> parseRecords(final InputStream input) {
+		return RecordReader.of(reader(), input);
+	}
+
+	/**
+	 * Parses the records of the given channel one after the other.
+	 * 
+	 * @param input The channel of the formatted records.
+	 * @return The {@link RecordReader} of the records.
+	 * @see RecordReader#of(FormatReader, ReadableByteChannel)
+	 */
+	public final RecordReader<T> parseRecords(final ReadableByteChannel input) {
+		return RecordReader.of(reader(), input);
+	}
+
+	/**
+	 * Parses the fixed length records of the given file from its memory mapped content.
+	 * 
+	 * @param path The path of the file of the formatted records.
+	 * @return The {@link RecordFile} of the records.
+	 * @throws IOException if the file cannot be opened.
+	 * @see RecordFile#open(FormatReader, Path)
+	 */
+	public final RecordFile<T> mapRecords(final Path path) throws IOException {
+		return RecordFile.open(reader(), path);
 	}
 
 	/**
 	 * Provides the default reader of this formatter.
 	 * 
+	 * <p>
+	 * The default reader is created once and then shared by all the parsing operations
+	 * of this formatter. It must not be reconfigured in place, which is guaranteed if the
+	 * {@link FormatProcessor} implementation is immutable.
+	 * </p>
+	 * 
 	 * @param <F> The instance type of the {@link FormatReader}.
 	 * @return The {@link FormatReader} instance.
 	 * @see FormatProcessorFactory#createReader(Class, String)
 	 */
+	@SuppressWarnings("unchecked")
 	public final <F extends FormatReader<T, F>> FormatReader<T, F> reader() {
-		return reader(processorFactory::createReader);
+		return (FormatReader<T, F>) getDefaultReader();
 	}
 
 	/**
@@ -223,12 +305,19 @@ public final <F extends FormatReader<T, F>> FormatReader<T, F> reader(
 	/**
 	 * Provides the default writer of this formatter.
 	 * 
+	 * <p>
+	 * The default writer is created once and then shared by all the formatting operations
+	 * of this formatter. It must not be reconfigured in place, which is guaranteed if the
+	 * {@link FormatProcessor} implementation is immutable.
+	 * </p>
+	 * 
 	 * @param <F> The instance type of the {@link FormatWriter}.
 	 * @return The {@link FormatWriter} instance.
 	 * @see FormatProcessorFactory#createWriter(Class, String)
 	 */
+	@SuppressWarnings("unchecked")
 	public final <F extends FormatWriter<T, F>> FormatWriter<T, F> writer() {
-		return writer(processorFactory::createWriter);
+		return (FormatWriter<T, F>) getDefaultWriter();
 	}
 
 	/**
@@ -257,15 +346,30 @@ public static final <T> Formatter<T> of(Class<T> type) {
 		return new Formatter<>(type, pattern);
 	}
 
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private FormatReader<T, ?> newReader() {
+		FormatReader reader = createReader();
+		return reader;
+	}
+
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private FormatWriter<T, ?> newWriter() {
+		FormatWriter writer = createWriter();
+		return writer;
+	}
+
 	/**
 	 * Obtain the {@link FormatProcessorFactory} SPI implementation instance.
 	 * 
+	 * @param type The base type to process.
+	 * @param pattern The text format pattern.
 	 * @return The {@link FormatProcessorFactory} instance.
 	 * @throws FormatException if no {@link FormatProcessorFactory}
 	 * 		implementation was found.
+	 * @see Providers#getProcessorFactory(Class, String)
 	 */
-	private static FormatProcessorFactory getProcessorFactory() {
-		return Providers.getInstance().getProcessorFactory();
+	private static FormatProcessorFactory findProcessorFactory(Class<?> type, String pattern) {
+		return Providers.getInstance().getProcessorFactory(type, pattern);
 	}
 
 }
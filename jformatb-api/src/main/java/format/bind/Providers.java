@@ -15,7 +15,10 @@
  */
 package format.bind;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
 import java.util.ServiceLoader;
 import java.util.concurrent.ConcurrentHashMap;
@@ -23,6 +26,7 @@
 
 import format.bind.converter.spi.FieldConverterProvider;
 import format.bind.spi.FormatProcessorFactory;
+import format.bind.spi.TypeFormatProcessorFactory;
 
 /**
  * Utility class used to obtain jFormat API service provider interfaces.
@@ -30,6 +34,7 @@
  * @author Yannick Ebongue
  * 
  * @see FormatProcessorFactory
+ * @see TypeFormatProcessorFactory
  * @see FieldConverterProvider
  */
 public class Providers {
@@ -47,9 +52,14 @@ private Providers() {
 	/**
 	 * Get the singleton instance if this class.
 	 * 
+	 * <p>
+	 * The instance is initialized once by the class loader (initialization-on-demand
+	 * holder), so that it is obtained without locking by the threads sharing formatters.
+	 * </p>
+	 * 
 	 * @return The singleton instance of this class.
 	 */
-	public static synchronized Providers getInstance() {
+	public static Providers getInstance() {
 		return Helper.INSTANCE;
 	}
 
@@ -62,6 +72,28 @@ public FormatProcessorFactory getProcessorFactory() {
 		return getInstance().get(FormatProcessorFactory.class);
 	}
 
+	/**
+	 * Obtain the {@link FormatProcessorFactory} SPI implementation for the given type and pattern.
+	 * 
+	 * <p>
+	 * The first {@link TypeFormatProcessorFactory} supporting the given type and pattern
+	 * is returned, otherwise the default {@link FormatProcessorFactory} is returned.
+	 * </p>
+	 * 
+	 * @param type The class instance of the Java type to process.
+	 * @param pattern The pattern of the text format to process.
+	 * @return The {@link FormatProcessorFactory} SPI implementation.
+	 */
+	public FormatProcessorFactory getProcessorFactory(Class<?> type, String pattern) {
+		for (TypeFormatProcessorFactory factory : getInstance().getAll(TypeFormatProcessorFactory.class)) {
+			if (factory.supports(type, pattern)) {
+				return factory;
+			}
+		}
+
+		return getProcessorFactory();
+	}
+
 	/**
 	 * Obtain the {@link FieldConverterProvider} SPI implementation.
 	 * 
@@ -96,6 +128,32 @@ private <T> T get(Class<T> serviceProviderInterface) {
 		}
 	}
 
+	/**
+	 * Obtain all the available SPI implementations of the given interface.
+	 * 
+	 * @param <T> The type of the SPI.
+	 * @param serviceProviderInterface The interface instance of the SPI implementations.
+	 * @return The unmodifiable list of SPI implementations, possibly empty.
+	 */
+	@SuppressWarnings("unchecked")
+	private <T> List<T> getAll(Class<T> serviceProviderInterface) {
+		String key = serviceProviderInterface.getName() + "[]";
+
+		if (cache.containsKey(key)) {
+			return (List<T>) cache.get(key);
+		} else {
+			List<T> found = new ArrayList<>();
+
+			ServiceLoader.load(serviceProviderInterface).forEach(found::add);
+
+			List<T> providers = Collections.unmodifiableList(found);
+
+			cache.put(key, providers);
+
+			return providers;
+		}
+	}
+
 	/**
 	 * Load and return the implementation of the given service provider interface.
 	 * 
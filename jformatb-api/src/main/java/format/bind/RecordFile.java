@@ -0,0 +1,314 @@
+/*
+ * Copyright 2024 jFormat-B
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package format.bind;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A file of fixed length records, deserialized by a {@link FormatReader} from the memory
+ * mapped content of the file.
+ *
+ * <p>
+ * Each record is passed to {@link FormatReader#readBuffer(java.nio.ByteBuffer)} as a slice of
+ * a mapped window, without reading the file through a stream. The mapped windows being
+ * direct buffers, readers working on byte arrays still copy each record once before
+ * deserializing it; the default implementation copies it into a buffer reused by the
+ * current thread, without any allocation.
+ * </p>
+ *
+ * <p>
+ * The offset of each record being known up front, the records are exposed through a
+ * {@link Spliterator} which splits the file evenly, so that a {@linkplain #parallelStream()
+ * parallel stream} processes the records on all the available cores. The file is mapped
+ * in windows of at most {@link #DEFAULT_WINDOW_SIZE} bytes by default, which allows files
+ * larger than 2 GB. The records are framed by the {@linkplain FormatReader#getRecordLength()
+ * record length} of the reader unless {@linkplain #withRecordLength(int) specified}; the last
+ * record may be truncated at the end of the file.
+ * </p>
+ *
+ * <pre>{@code
+ * try (RecordFile<Transaction> file = Formatter.of(Transaction.class).mapRecords(path)) {
+ *     long count = file.parallelStream().filter(...).count();
+ * }
+ * }</pre>
+ *
+ * <p>
+ * The reader is shared by the threads of a parallel stream, and must therefore be immutable,
+ * as are the default implementations. The file must not be modified while it is read.
+ * </p>
+ *
+ * @param <T> The Java type of the records.
+ *
+ * @author Yannick Ebongue
+ *
+ * @see RecordReader
+ */
+public final class RecordFile<T> implements Closeable {
+
+	/** The default maximum size of the mapped windows. */
+	public static final int DEFAULT_WINDOW_SIZE = 1 << 28;
+
+	/** The minimum number of records of a split of the file. */
+	private static final long MIN_SPLIT_SIZE = 1 << 10;
+
+	/** The reader deserializing the records. */
+	private final FormatReader<T, ?> reader;
+
+	/** The channel of the file. */
+	private final FileChannel channel;
+
+	/** The length of the records, or {@code -1} to use the reader record length. */
+	private final int recordLength;
+
+	/** The maximum size of the mapped windows. */
+	private final int windowSize;
+
+	private RecordFile(final FormatReader<T, ?> reader, final FileChannel channel, final int recordLength, final int windowSize) {
+		this.reader = Objects.requireNonNull(reader, "reader");
+		this.channel = Objects.requireNonNull(channel, "channel");
+		this.recordLength = recordLength;
+		this.windowSize = windowSize;
+	}
+
+	/**
+	 * Open the given file of records.
+	 *
+	 * @param <T> The Java type of the records.
+	 * @param reader The reader deserializing the records.
+	 * @param path The path of the file.
+	 * @return A new {@code RecordFile}.
+	 * @throws IOException if the file cannot be opened.
+	 */
+	public static <T> RecordFile<T> open(final FormatReader<T, ?> reader, final Path path) throws IOException {
+		return of(reader, FileChannel.open(path, StandardOpenOption.READ));
+	}
+
+	/**
+	 * Create a new {@code RecordFile} of the records of the given channel.
+	 *
+	 * @param <T> The Java type of the records.
+	 * @param reader The reader deserializing the records.
+	 * @param channel The channel of the file, opened for reading.
+	 * @return A new {@code RecordFile}.
+	 */
+	public static <T> RecordFile<T> of(final FormatReader<T, ?> reader, final FileChannel channel) {
+		return new RecordFile<>(reader, channel, -1, DEFAULT_WINDOW_SIZE);
+	}
+
+	/**
+	 * Frame the records by the given length, instead of the record length of the reader.
+	 *
+	 * @param length The length of each record, in bytes.
+	 * @return A {@code RecordFile} framing the records by the given length.
+	 * @throws IllegalArgumentException if the length is not positive.
+	 */
+	public RecordFile<T> withRecordLength(final int length) {
+		if (length <= 0) {
+			throw new IllegalArgumentException(String.format("Invalid record length %d", length));
+		}
+
+		return new RecordFile<>(reader, channel, length, windowSize);
+	}
+
+	/**
+	 * Map the file in windows of at most the given size. A window always holds at least one record.
+	 *
+	 * @param size The maximum size of the mapped windows, in bytes.
+	 * @return A {@code RecordFile} using windows of the given size.
+	 * @throws IllegalArgumentException if the size is not positive.
+	 */
+	public RecordFile<T> withWindowSize(final int size) {
+		if (size <= 0) {
+			throw new IllegalArgumentException(String.format("Invalid window size %d", size));
+		}
+
+		return new RecordFile<>(reader, channel, recordLength, size);
+	}
+
+	/**
+	 * Returns the number of records of the file.
+	 *
+	 * @return The number of records.
+	 * @throws IOException if the size of the file cannot be read.
+	 * @throws IllegalStateException if the records have no fixed length.
+	 */
+	public long size() throws IOException {
+		int length = getRecordLength();
+		return (channel.size() + length - 1) / length;
+	}
+
+	/**
+	 * Returns a splittable {@link Spliterator} over the records of the file.
+	 *
+	 * @return The spliterator of the records.
+	 * @throws UncheckedIOException if the size of the file cannot be read.
+	 * @throws IllegalStateException if the records have no fixed length.
+	 */
+	public Spliterator<T> spliterator() {
+		try {
+			int length = getRecordLength();
+			long fileSize = channel.size();
+			return new Records(length, fileSize, 0, (fileSize + length - 1) / length);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Returns a sequential stream of the records of the file.
+	 *
+	 * @return The stream of the records.
+	 */
+	public Stream<T> stream() {
+		return StreamSupport.stream(spliterator(), false);
+	}
+
+	/**
+	 * Returns a parallel stream of the records of the file.
+	 *
+	 * @return The stream of the records.
+	 */
+	public Stream<T> parallelStream() {
+		return StreamSupport.stream(spliterator(), true);
+	}
+
+	/**
+	 * Close the channel of the file. The mapped windows are released once they are no
+	 * longer referenced.
+	 */
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+
+	private int getRecordLength() {
+		int length = recordLength > 0 ? recordLength : reader.getRecordLength();
+
+		if (length <= 0) {
+			throw new IllegalStateException("The records have no fixed length");
+		}
+
+		return length;
+	}
+
+	/**
+	 * The spliterator of a range of records of the file.
+	 */
+	private final class Records implements Spliterator<T> {
+
+		/** The length of the records. */
+		private final int length;
+
+		/** The size of the file. */
+		private final long fileSize;
+
+		/** The maximum number of records of a window. */
+		private final long windowRecords;
+
+		/** The index of the next record. */
+		private long index;
+
+		/** The index after the last record of this range. */
+		private long end;
+
+		/** The mapped window of records, or {@code null}. */
+		private MappedByteBuffer window;
+
+		/** The index of the first record of the window. */
+		private long windowStart;
+
+		/** The index after the last record of the window. */
+		private long windowEnd;
+
+		private Records(final int length, final long fileSize, final long index, final long end) {
+			this.length = length;
+			this.fileSize = fileSize;
+			this.windowRecords = Math.max(1, windowSize / length);
+			this.index = index;
+			this.end = end;
+		}
+
+		@Override
+		public boolean tryAdvance(final Consumer<? super T> action) {
+			if (index >= end) {
+				return false;
+			}
+
+			if (window == null || index < windowStart || index >= windowEnd) {
+				map();
+			}
+
+			int position = (int) ((index - windowStart) * length);
+			window.limit(Math.min(position + length, window.capacity()));
+			window.position(position);
+			index++;
+			action.accept(reader.readBuffer(window));
+			return true;
+		}
+
+		@Override
+		public Spliterator<T> trySplit() {
+			long remaining = end - index;
+
+			if (remaining < MIN_SPLIT_SIZE << 1) {
+				return null;
+			}
+
+			long middle = index + (remaining >>> 1);
+			Records prefix = new Records(length, fileSize, index, middle);
+			index = middle;
+			return prefix;
+		}
+
+		@Override
+		public long estimateSize() {
+			return end - index;
+		}
+
+		@Override
+		public int characteristics() {
+			return ORDERED | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+		}
+
+		/**
+		 * Map the window starting at the next record.
+		 */
+		private void map() {
+			long offset = index * length;
+			windowStart = index;
+			windowEnd = Math.min(end, index + windowRecords);
+
+			try {
+				window = channel.map(FileChannel.MapMode.READ_ONLY, offset, Math.min(fileSize - offset, (windowEnd - windowStart) * length));
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,398 @@
+/*
+ * Copyright 2024 jFormat-B
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package format.bind;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * An iterator over the records of a formatted input, deserialized one after the other
+ * by a {@link FormatReader}.
+ *
+ * <p>
+ * The input is read through a single reusable buffer, each record being handed to
+ * {@link FormatReader#readBuffer(ByteBuffer)} as a slice of that buffer. The records are
+ * framed either by their fixed length, which defaults to the
+ * {@linkplain FormatReader#getRecordLength() record length} of the reader, or by a
+ * {@linkplain #withDelimiter(byte[]) delimiter}. The memory used does not depend on the
+ * input size: the buffer only grows when a single record does not fit in it.
+ * </p>
+ *
+ * <pre>{@code
+ * try (Stream<Transaction> transactions = Formatter.of(Transaction.class).parseRecords(input).stream()) {
+ *     transactions.forEach(...);
+ * }
+ * }</pre>
+ *
+ * <p>
+ * A {@code RecordReader} is not thread safe. The input must be a blocking stream or channel;
+ * it is closed when this reader (or its {@link #stream()}) is closed.
+ * </p>
+ *
+ * @param <T> The Java type of the records.
+ *
+ * @author Yannick Ebongue
+ */
+public final class RecordReader<T> implements Iterator<T>, Closeable {
+
+	/** The default capacity of the buffer. */
+	public static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+
+	/** The reader deserializing the records. */
+	private final FormatReader<T, ?> reader;
+
+	/** The input of the records. */
+	private final ReadableByteChannel input;
+
+	/** The fixed length of the records, or {@code -1} to use the reader record length. */
+	private final int recordLength;
+
+	/** The bytes following each record, or {@code null} for fixed length records. */
+	private final byte[] delimiter;
+
+	/** The initial capacity of the buffer. */
+	private final int bufferSize;
+
+	/** The buffer holding the bytes read from the input, between its position and its limit. */
+	private ByteBuffer buffer;
+
+	/** Whether the end of the input has been reached. */
+	private boolean endOfInput;
+
+	/** The limit of the framed record in the buffer, or {@code -1} if no record is framed. */
+	private int recordLimit = -1;
+
+	/** The position of the bytes following the framed record in the buffer. */
+	private int recordNext;
+
+	/** The position where to resume the search of the delimiter in the buffer. */
+	private int scanPosition;
+
+	private RecordReader(final FormatReader<T, ?> reader, final ReadableByteChannel input, final int recordLength,
+			final byte[] delimiter, final int bufferSize) {
+		this.reader = Objects.requireNonNull(reader, "reader");
+		this.input = Objects.requireNonNull(input, "input");
+		this.recordLength = recordLength;
+		this.delimiter = delimiter;
+		this.bufferSize = bufferSize;
+	}
+
+	/**
+	 * Create a new {@code RecordReader} of the records of the given stream.
+	 *
+	 * @param <T> The Java type of the records.
+	 * @param reader The reader deserializing the records.
+	 * @param input The stream of the formatted records.
+	 * @return A new {@code RecordReader}.
+	 */
+	public static <T> RecordReader<T> of(final FormatReader<T, ?> reader, final InputStream input) {
+		return new RecordReader<>(reader, new StreamChannel(Objects.requireNonNull(input, "input")), -1, null, DEFAULT_BUFFER_SIZE);
+	}
+
+	/**
+	 * Create a new {@code RecordReader} of the records of the given channel.
+	 *
+	 * @param <T> The Java type of the records.
+	 * @param reader The reader deserializing the records.
+	 * @param input The channel of the formatted records.
+	 * @return A new {@code RecordReader}.
+	 */
+	public static <T> RecordReader<T> of(final FormatReader<T, ?> reader, final ReadableByteChannel input) {
+		return new RecordReader<>(reader, input, -1, null, DEFAULT_BUFFER_SIZE);
+	}
+
+	/**
+	 * Frame the records by the given length, instead of the record length of the reader.
+	 *
+	 * @param length The length of each record, in bytes.
+	 * @return A {@code RecordReader} framing the records by the given length.
+	 * @throws IllegalArgumentException if the length is not positive.
+	 * @throws IllegalStateException if the records have already been read.
+	 */
+	public RecordReader<T> withRecordLength(final int length) {
+		if (length <= 0) {
+			throw new IllegalArgumentException(String.format("Invalid record length %d", length));
+		}
+
+		return copy(length, delimiter, bufferSize);
+	}
+
+	/**
+	 * Frame the records by the given delimiter, i.e. the bytes following each record. The
+	 * last record of the input may not be followed by the delimiter.
+	 *
+	 * @param delimiter The bytes of the delimiter (e.g. a line separator).
+	 * @return A {@code RecordReader} framing the records by the given delimiter.
+	 * @throws IllegalArgumentException if the delimiter is empty.
+	 * @throws IllegalStateException if the records have already been read.
+	 */
+	public RecordReader<T> withDelimiter(final byte[] delimiter) {
+		if (delimiter.length == 0) {
+			throw new IllegalArgumentException("Empty record delimiter");
+		}
+
+		return copy(recordLength, delimiter.clone(), bufferSize);
+	}
+
+	/**
+	 * Read the input through a buffer of the given initial capacity.
+	 *
+	 * @param size The initial capacity of the buffer, in bytes.
+	 * @return A {@code RecordReader} using a buffer of the given capacity.
+	 * @throws IllegalArgumentException if the size is not positive.
+	 * @throws IllegalStateException if the records have already been read.
+	 */
+	public RecordReader<T> withBufferSize(final int size) {
+		if (size <= 0) {
+			throw new IllegalArgumentException(String.format("Invalid buffer size %d", size));
+		}
+
+		return copy(recordLength, delimiter, size);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @throws UncheckedIOException if an I/O error occurs while reading the input.
+	 * @throws IllegalStateException if the records have neither a fixed length nor a delimiter.
+	 */
+	@Override
+	public boolean hasNext() {
+		if (recordLimit < 0 && !(endOfInput && !buffer.hasRemaining())) {
+			try {
+				frame();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+
+		return recordLimit >= 0;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @throws FormatProcessingException if an error occurs while deserializing the record.
+	 * @throws UncheckedIOException if an I/O error occurs while reading the input.
+	 */
+	@Override
+	public T next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+
+		ByteBuffer record = buffer.duplicate();
+		record.limit(recordLimit);
+		buffer.position(recordNext);
+		recordLimit = -1;
+		return reader.readBuffer(record);
+	}
+
+	/**
+	 * Returns a sequential stream of the remaining records. Closing the stream closes this reader.
+	 *
+	 * @return The stream of the records.
+	 */
+	public Stream<T> stream() {
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false)
+				.onClose(() -> {
+					try {
+						close();
+					} catch (IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				});
+	}
+
+	@Override
+	public void close() throws IOException {
+		input.close();
+	}
+
+	private RecordReader<T> copy(final int recordLength, final byte[] delimiter, final int bufferSize) {
+		if (buffer != null) {
+			throw new IllegalStateException("The records have already been read");
+		}
+
+		return new RecordReader<>(reader, input, recordLength, delimiter, bufferSize);
+	}
+
+	/**
+	 * Frame the next record in the buffer, reading the input as needed.
+	 */
+	private void frame() throws IOException {
+		if (delimiter != null) {
+			frameDelimited();
+		} else {
+			frameFixedLength();
+		}
+	}
+
+	private void frameFixedLength() throws IOException {
+		int length = recordLength > 0 ? recordLength : reader.getRecordLength();
+
+		if (length <= 0) {
+			throw new IllegalStateException("The records have no fixed length, a record delimiter is required");
+		}
+
+		if (buffer == null) {
+			buffer = allocate(Math.max(bufferSize, length));
+		}
+
+		while (buffer.remaining() < length && !endOfInput) {
+			fill(length);
+		}
+
+		if (buffer.hasRemaining()) {
+			// The last record may be truncated at the end of the input
+			recordLimit = buffer.position() + Math.min(length, buffer.remaining());
+			recordNext = recordLimit;
+		}
+	}
+
+	private void frameDelimited() throws IOException {
+		if (buffer == null) {
+			buffer = allocate(Math.max(bufferSize, delimiter.length));
+		}
+
+		scanPosition = buffer.position();
+
+		while (true) {
+			int index = indexOfDelimiter();
+
+			if (index >= 0) {
+				recordLimit = index;
+				recordNext = index + delimiter.length;
+				return;
+			}
+
+			if (endOfInput) {
+				if (buffer.hasRemaining()) {
+					recordLimit = buffer.limit();
+					recordNext = recordLimit;
+				}
+
+				return;
+			}
+
+			// Resume the search where a delimiter may start once the buffer is compacted
+			int scanned = Math.max(scanPosition, buffer.limit() - delimiter.length + 1) - buffer.position();
+			fill(buffer.remaining() + 1);
+			scanPosition = buffer.position() + Math.max(scanned, 0);
+		}
+	}
+
+	private int indexOfDelimiter() {
+		byte[] bytes = buffer.array();
+		int offset = buffer.arrayOffset();
+		int last = buffer.limit() - delimiter.length;
+
+		for (int i = scanPosition; i <= last; i++) {
+			int j = 0;
+
+			while (j < delimiter.length && bytes[offset + i + j] == delimiter[j]) {
+				j++;
+			}
+
+			if (j == delimiter.length) {
+				return i;
+			}
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Move the remaining bytes to the beginning of the buffer and read more bytes from the input.
+	 *
+	 * @param required The number of bytes the buffer must be able to hold.
+	 */
+	private void fill(final int required) throws IOException {
+		if (required > buffer.capacity()) {
+			ByteBuffer larger = ByteBuffer.allocate(Math.max(buffer.capacity() << 1, required));
+			larger.put(buffer);
+			buffer = larger;
+		} else {
+			buffer.compact();
+		}
+
+		int count;
+
+		do {
+			count = input.read(buffer);
+		} while (count == 0 && buffer.hasRemaining());
+
+		endOfInput = count < 0;
+		buffer.flip();
+	}
+
+	private static ByteBuffer allocate(final int capacity) {
+		ByteBuffer buffer = ByteBuffer.allocate(capacity);
+		buffer.limit(0);
+		return buffer;
+	}
+
+	/**
+	 * A channel reading an {@link InputStream} directly into the array of the (heap) buffer.
+	 */
+	private static final class StreamChannel implements ReadableByteChannel {
+
+		/** The stream to read. */
+		private final InputStream input;
+
+		/** Whether this channel is open. */
+		private boolean open = true;
+
+		private StreamChannel(final InputStream input) {
+			this.input = input;
+		}
+
+		@Override
+		public int read(final ByteBuffer target) throws IOException {
+			int count = input.read(target.array(), target.arrayOffset() + target.position(), target.remaining());
+
+			if (count > 0) {
+				target.position(target.position() + count);
+			}
+
+			return count;
+		}
+
+		@Override
+		public boolean isOpen() {
+			return open;
+		}
+
+		@Override
+		public void close() throws IOException {
+			open = false;
+			input.close();
+		}
+
+	}
+
+}
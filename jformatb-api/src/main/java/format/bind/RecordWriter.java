@@ -0,0 +1,312 @@
+/*
+ * Copyright 2024 jFormat-B
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package format.bind;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
+
+/**
+ * A writer appending records to a formatted output, serialized one after the other
+ * by a {@link FormatWriter}.
+ *
+ * <p>
+ * The records are formatted with {@link FormatWriter#writeTo(Object, IntFunction)} into a
+ * single reusable buffer, which is written to the output in large chunks whenever the next
+ * record does not fit in it, and when this writer is {@linkplain #flush() flushed} or
+ * {@linkplain #close() closed}. Each record is formatted once, the buffer being drained
+ * once its size is known. Each record can be followed by a {@linkplain #withDelimiter(byte[])
+ * delimiter}. The buffer only grows when a single record does not fit in it.
+ * </p>
+ *
+ * <pre>{@code
+ * try (RecordWriter<Transaction> writer = Formatter.of(Transaction.class).formatRecords(output)) {
+ *     writer.writeAll(transactions);
+ * }
+ * }</pre>
+ *
+ * <p>
+ * A {@code RecordWriter} is not thread safe. The output is closed when this writer is closed.
+ * </p>
+ *
+ * @param <T> The Java type of the records.
+ *
+ * @author Yannick Ebongue
+ *
+ * @see RecordReader
+ */
+public final class RecordWriter<T> implements Closeable, Flushable {
+
+	/** The default capacity of the buffer. */
+	public static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+
+	/** The writer serializing the records. */
+	private final FormatWriter<T, ?> writer;
+
+	/** The output of the records. */
+	private final WritableByteChannel output;
+
+	/** The bytes following each record, or {@code null}. */
+	private final byte[] delimiter;
+
+	/** The initial capacity of the buffer. */
+	private final int bufferSize;
+
+	/** The buffer holding the formatted bytes not yet written to the output. */
+	private ByteBuffer buffer;
+
+	private RecordWriter(final FormatWriter<T, ?> writer, final WritableByteChannel output, final byte[] delimiter,
+			final int bufferSize) {
+		this.writer = Objects.requireNonNull(writer, "writer");
+		this.output = Objects.requireNonNull(output, "output");
+		this.delimiter = delimiter;
+		this.bufferSize = bufferSize;
+	}
+
+	/**
+	 * Create a new {@code RecordWriter} of records to the given stream.
+	 *
+	 * @param <T> The Java type of the records.
+	 * @param writer The writer serializing the records.
+	 * @param output The stream receiving the formatted records.
+	 * @return A new {@code RecordWriter}.
+	 */
+	public static <T> RecordWriter<T> of(final FormatWriter<T, ?> writer, final OutputStream output) {
+		return new RecordWriter<>(writer, new StreamChannel(Objects.requireNonNull(output, "output")), null, DEFAULT_BUFFER_SIZE);
+	}
+
+	/**
+	 * Create a new {@code RecordWriter} of records to the given channel.
+	 *
+	 * @param <T> The Java type of the records.
+	 * @param writer The writer serializing the records.
+	 * @param output The channel receiving the formatted records.
+	 * @return A new {@code RecordWriter}.
+	 */
+	public static <T> RecordWriter<T> of(final FormatWriter<T, ?> writer, final WritableByteChannel output) {
+		return new RecordWriter<>(writer, output, null, DEFAULT_BUFFER_SIZE);
+	}
+
+	/**
+	 * Follow each record by the given delimiter (e.g. a line separator).
+	 *
+	 * @param delimiter The bytes of the delimiter.
+	 * @return A {@code RecordWriter} following each record by the given delimiter.
+	 * @throws IllegalArgumentException if the delimiter is empty.
+	 * @throws IllegalStateException if records have already been written.
+	 */
+	public RecordWriter<T> withDelimiter(final byte[] delimiter) {
+		if (delimiter.length == 0) {
+			throw new IllegalArgumentException("Empty record delimiter");
+		}
+
+		return copy(delimiter.clone(), bufferSize);
+	}
+
+	/**
+	 * Write the output through a buffer of the given initial capacity.
+	 *
+	 * @param size The initial capacity of the buffer, in bytes.
+	 * @return A {@code RecordWriter} using a buffer of the given capacity.
+	 * @throws IllegalArgumentException if the size is not positive.
+	 * @throws IllegalStateException if records have already been written.
+	 */
+	public RecordWriter<T> withBufferSize(final int size) {
+		if (size <= 0) {
+			throw new IllegalArgumentException(String.format("Invalid buffer size %d", size));
+		}
+
+		return copy(delimiter, size);
+	}
+
+	/**
+	 * Append the given record.
+	 *
+	 * @param record The record to write.
+	 * @throws FormatProcessingException if an error occurs while serializing the record.
+	 * @throws IOException if an I/O error occurs while writing the output.
+	 */
+	public void write(final T record) throws IOException {
+		if (buffer == null) {
+			buffer = ByteBuffer.allocate(bufferSize);
+		}
+
+		try {
+			writer.writeTo(record, this::reserve);
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+
+		if (delimiter != null) {
+			ensureRemaining(delimiter.length);
+			buffer.put(delimiter);
+		}
+	}
+
+	/**
+	 * Append the given records in iteration order.
+	 *
+	 * @param records The records to write.
+	 * @throws FormatProcessingException if an error occurs while serializing a record.
+	 * @throws IOException if an I/O error occurs while writing the output.
+	 */
+	public void writeAll(final Iterable<? extends T> records) throws IOException {
+		for (T record : records) {
+			write(record);
+		}
+	}
+
+	/**
+	 * Append the records of the given stream in encounter order.
+	 *
+	 * @param records The records to write.
+	 * @throws FormatProcessingException if an error occurs while serializing a record.
+	 * @throws IOException if an I/O error occurs while writing the output.
+	 */
+	public void writeAll(final Stream<? extends T> records) throws IOException {
+		Iterator<? extends T> iterator = records.iterator();
+
+		while (iterator.hasNext()) {
+			write(iterator.next());
+		}
+	}
+
+	/**
+	 * Write the buffered records to the output and flush it.
+	 *
+	 * @throws IOException if an I/O error occurs while writing the output.
+	 */
+	@Override
+	public void flush() throws IOException {
+		if (buffer != null) {
+			drain();
+		}
+
+		if (output instanceof Flushable) {
+			((Flushable) output).flush();
+		}
+	}
+
+	/**
+	 * Write the buffered records to the output and close it.
+	 *
+	 * @throws IOException if an I/O error occurs while writing the output.
+	 */
+	@Override
+	public void close() throws IOException {
+		try {
+			flush();
+		} finally {
+			output.close();
+		}
+	}
+
+	private RecordWriter<T> copy(final byte[] delimiter, final int bufferSize) {
+		if (buffer != null) {
+			throw new IllegalStateException("Records have already been written");
+		}
+
+		return new RecordWriter<>(writer, output, delimiter, bufferSize);
+	}
+
+	/**
+	 * Provide the buffer receiving a formatted record of the given size.
+	 */
+	private ByteBuffer reserve(final int size) {
+		try {
+			ensureRemaining(size);
+			return buffer;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Make room for the given number of bytes, by draining the buffer or growing it if needed.
+	 */
+	private void ensureRemaining(final int size) throws IOException {
+		if (size > buffer.remaining()) {
+			drain();
+
+			if (size > buffer.capacity()) {
+				buffer = ByteBuffer.allocate(Math.max(size, buffer.capacity() << 1));
+			}
+		}
+	}
+
+	/**
+	 * Write the content of the buffer to the output and clear it.
+	 */
+	private void drain() throws IOException {
+		buffer.flip();
+
+		while (buffer.hasRemaining()) {
+			output.write(buffer);
+		}
+
+		buffer.clear();
+	}
+
+	/**
+	 * A channel writing the array of the (heap) buffer directly to an {@link OutputStream}.
+	 */
+	private static final class StreamChannel implements WritableByteChannel, Flushable {
+
+		/** The stream to write. */
+		private final OutputStream output;
+
+		/** Whether this channel is open. */
+		private boolean open = true;
+
+		private StreamChannel(final OutputStream output) {
+			this.output = output;
+		}
+
+		@Override
+		public int write(final ByteBuffer source) throws IOException {
+			int count = source.remaining();
+			output.write(source.array(), source.arrayOffset() + source.position(), count);
+			source.position(source.limit());
+			return count;
+		}
+
+		@Override
+		public void flush() throws IOException {
+			output.flush();
+		}
+
+		@Override
+		public boolean isOpen() {
+			return open;
+		}
+
+		@Override
+		public void close() throws IOException {
+			open = false;
+			output.close();
+		}
+
+	}
+
+}
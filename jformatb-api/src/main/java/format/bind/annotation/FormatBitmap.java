@@ -0,0 +1,81 @@
+/*
+ * Copyright 2024 jFormat-B
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package format.bind.annotation;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Maps a map property to the numbered data elements of a bitmap message (e.g. ISO 8583),
+ * keyed by their number.
+ * 
+ * <p>
+ * The text format field of the property starts with a primary bitmap of 64 bits, whose
+ * bit {@code n} (counted from 1, most significant bit first) indicates whether the data
+ * element {@code n} is present. The bit 1 indicates a secondary bitmap, for the data
+ * elements 65 to 128. The bitmaps are followed by the present data elements in order of
+ * number, each one described by the {@link FormatMapEntryField} of its number, which
+ * should specify its {@link FormatField#targetClass() target class}.
+ * </p>
+ * 
+ * <p>
+ * The data elements of a map entry with a {@code null} value are absent.
+ * </p>
+ * 
+ * <p><b>Example:</b></p>
+ * <pre>
+ * &#64;FormatField(name = "DE")
+ * &#64;FormatBitmap
+ * &#64;FormatMapEntryField(keys = "2", field = &#64;FormatField(prefix = Prefix.LL, length = 19, targetClass = String.class))
+ * &#64;FormatMapEntryField(keys = "4", field = &#64;FormatField(length = 12, targetClass = Long.class))
+ * private Map&lt;String, Object&gt; dataElements;
+ * </pre>
+ * 
+ * @author Yannick Ebongue
+ * 
+ * @see FormatMapEntryField
+ */
+@Documented
+@Retention(RUNTIME)
+@Target({ FIELD, METHOD })
+public @interface FormatBitmap {
+
+	/**
+	 * (Optional) The encoding of the bitmaps.
+	 * 
+	 * @return The encoding of the bitmaps.
+	 */
+	Encoding encoding() default Encoding.BINARY;
+
+	/**
+	 * Used in {@link FormatBitmap#encoding()} to specify the encoding of the bitmaps.
+	 */
+	enum Encoding {
+
+		/** Eight bytes per bitmap. */
+		BINARY,
+
+		/** Sixteen hexadecimal digits per bitmap, in the charset of the field. */
+		HEX
+
+	}
+
+}
@@ -80,6 +80,19 @@
 	 */
 	int length() default 0;
 
+	/**
+	 * (Optional) The length prefix of a variable length text format field.
+	 * 
+	 * <p>
+	 * The value of a prefixed field is preceded by its length in bytes, and is neither
+	 * padded nor truncated. The {@link #length()} of a prefixed field, if specified, is
+	 * the maximum length of its value.
+	 * </p>
+	 * 
+	 * @return The length prefix of the text format field.
+	 */
+	Prefix prefix() default Prefix.NONE;
+
 	/**
 	 * (Optional) The scale for numeric text format field.
 	 * 
@@ -176,7 +189,52 @@ enum Type {
 		NUMERIC,
 
 		/** Binary text format field. */
-		BINARY
+		BINARY,
+
+		/**
+		 * Packed decimal (COBOL {@code COMP-3}) format field, whose {@link FormatField#length()}
+		 * bytes hold two decimal digits each, except the last one which holds a digit and the
+		 * sign ({@code 0xC} or {@code 0xF} if positive, {@code 0xD} if negative).
+		 */
+		PACKED_DECIMAL,
+
+		/**
+		 * Big-endian two's complement binary integer (COBOL {@code COMP} or {@code COMP-5})
+		 * format field, of at most 8 bytes.
+		 */
+		BINARY_INTEGER
+
+	}
+
+	/**
+	 * Used in {@link FormatField#prefix()} to specify the length prefix of a
+	 * variable length text format field (e.g. the ISO 8583 {@code LLVAR} fields).
+	 */
+	enum Prefix {
+
+		/** Fixed length text format field. */
+		NONE,
+
+		/** Two decimal digits, in the charset of the field, for at most 99 bytes. */
+		LL,
+
+		/** Three decimal digits, in the charset of the field, for at most 999 bytes. */
+		LLL,
+
+		/** Four decimal digits, in the charset of the field, for at most 9999 bytes. */
+		LLLL,
+
+		/** Two BCD digits in one byte, for at most 99 bytes. */
+		BCD_LL,
+
+		/** Three BCD digits in two bytes, for at most 999 bytes. */
+		BCD_LLL,
+
+		/** One unsigned binary byte, for at most 255 bytes. */
+		BINARY_1,
+
+		/** Two big-endian unsigned binary bytes, for at most 65535 bytes. */
+		BINARY_2
 
 	}
 
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2024 jFormat-B
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package format.bind.annotation;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import format.bind.converter.FieldConverter;
+
+/**
+ * Marks a {@link FieldConverter} implementation as stateless, i.e. safe to be shared by all
+ * the fields it converts and by concurrent threads.
+ * 
+ * <p>
+ * A single instance of a stateless converter referenced by {@link FormatFieldConverter} or
+ * {@link FormatMapEntryField} is created and then reused. The other converters are instantiated
+ * once per field of each compiled format.
+ * </p>
+ * 
+ * <p><b>Example:</b></p>
+ * <pre>
+ * &#64;FormatStateless
+ * public class AmountConverter implements FieldConverter&lt;BigDecimal&gt; {
+ *     ...
+ * }
+ * </pre>
+ * 
+ * @author Yannick Ebongue
+ * 
+ * @see FormatFieldConverter
+ */
+@Documented
+@Retention(RUNTIME)
+@Target(TYPE)
+public @interface FormatStateless {
+
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2024 jFormat-B
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package format.bind.converter;
+
+import format.bind.FormatFieldDescriptor;
+
+/**
+ * A {@link FieldConverter} of {@code double} values, which converts them from and to byte
+ * array slices without boxing.
+ * 
+ * <p>
+ * The processors use the primitive methods to read and write the {@code double} fields of
+ * the beans whose text format field has no placeholder, i.e. whose value cannot be
+ * {@code null}. The other values go through the {@link FieldConverter} methods.
+ * </p>
+ * 
+ * @author Yannick Ebongue
+ * 
+ * @see FieldConverter
+ */
+public interface DoubleFieldConverter extends FieldConverter<Double> {
+
+	/**
+	 * Converts a slice of a byte array to a {@code double} value.
+	 * 
+	 * @param descriptor The text format field descriptor.
+	 * @param source The byte array containing the value to be converted.
+	 * @param offset The index of the first byte of the value in the source.
+	 * @param length The number of bytes of the value. Cannot be zero.
+	 * @return The {@code double} value.
+	 * @throws FieldConversionException if there is an error during the conversion.
+	 */
+	double parseDouble(final FormatFieldDescriptor descriptor, final byte[] source, final int offset, final int length) throws FieldConversionException;
+
+	/**
+	 * Converts a {@code double} value to a byte array format value written into the given
+	 * byte array.
+	 * 
+	 * <p>
+	 * As {@link #formatBytes(FormatFieldDescriptor, Object, byte[], int)}, the method returns
+	 * the negated number of bytes it needs if the formatted value does not fit in the target.
+	 * </p>
+	 * 
+	 * @param descriptor The text format field descriptor.
+	 * @param value The {@code double} value to be converted.
+	 * @param target The byte array receiving the formatted value.
+	 * @param offset The index of the first byte to write in the target.
+	 * @return The number of bytes written, or the negated number of bytes needed if the
+	 * 		target is too small.
+	 * @throws FieldConversionException if there is an error during the conversion.
+	 */
+	int formatDouble(final FormatFieldDescriptor descriptor, final double value, final byte[] target, final int offset) throws FieldConversionException;
+
+}
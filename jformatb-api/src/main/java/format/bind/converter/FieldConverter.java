@@ -16,6 +16,7 @@
 package format.bind.converter;
 
 import java.time.ZoneId;
+import java.util.Arrays;
 import java.util.Locale;
 import java.util.Optional;
 
@@ -59,6 +60,40 @@ default String format(final FormatFieldDescriptor descriptor, final T value) thr
 	 */
 	byte[] formatBytes(final FormatFieldDescriptor descriptor, final T value) throws FieldConversionException;
 
+	/**
+	 * Converts a bound type value to a byte array format value written into the given
+	 * byte array, e.g. a buffer shared by all the fields of a record.
+	 * 
+	 * <p>
+	 * If the formatted value does not fit in the target, the method returns the negated number
+	 * of bytes it needs, so that the caller can make room for it and call it again. The bytes
+	 * of the target after the offset are then unspecified.
+	 * </p>
+	 * 
+	 * <p>
+	 * The default implementation copies the result of {@link #formatBytes(FormatFieldDescriptor, Object)}
+	 * into the target. Converters should override it to write the formatted value directly.
+	 * </p>
+	 * 
+	 * @param descriptor The text format field descriptor.
+	 * @param value The Java value to be converted. Can be null.
+	 * @param target The byte array receiving the formatted value.
+	 * @param offset The index of the first byte to write in the target.
+	 * @return The number of bytes written, or the negated number of bytes needed if the
+	 * 		target is too small.
+	 * @throws FieldConversionException if there is an error during the conversion.
+	 */
+	default int formatBytes(final FormatFieldDescriptor descriptor, final T value, final byte[] target, final int offset) throws FieldConversionException {
+		byte[] bytes = formatBytes(descriptor, value);
+
+		if (bytes.length > target.length - offset) {
+			return -bytes.length;
+		}
+
+		System.arraycopy(bytes, 0, target, offset, bytes.length);
+		return bytes.length;
+	}
+
 	/**
 	 * Converts a text format value to a bound type value.
 	 * 
@@ -82,6 +117,26 @@ default T parse(final FormatFieldDescriptor descriptor, final String source) thr
 	 */
 	T parseBytes(final FormatFieldDescriptor descriptor, final byte[] source) throws FieldConversionException;
 
+	/**
+	 * Converts a slice of a byte array to a bound type value, e.g. a field of a record
+	 * buffer, without copying it.
+	 * 
+	 * <p>
+	 * The default implementation calls {@link #parseBytes(FormatFieldDescriptor, byte[])}
+	 * with a copy of the slice. Converters should override it to read the slice directly.
+	 * </p>
+	 * 
+	 * @param descriptor The text format field descriptor.
+	 * @param source The byte array containing the value to be converted.
+	 * @param offset The index of the first byte of the value in the source.
+	 * @param length The number of bytes of the value. Cannot be zero.
+	 * @return The bound type value.
+	 * @throws FieldConversionException if there is an error during the conversion.
+	 */
+	default T parseBytes(final FormatFieldDescriptor descriptor, final byte[] source, final int offset, final int length) throws FieldConversionException {
+		return parseBytes(descriptor, Arrays.copyOfRange(source, offset, offset + length));
+	}
+
 	/**
 	 * Returns the {@link Locale} of the given language tag if specified.
 	 * 
@@ -28,6 +28,11 @@ public interface FieldConverterProvider {
 
 	/**
 	 * Obtain the {@link FieldConverter} of the specified field type and converter type.
+	 * 
+	 * <p>
+	 * The converter types annotated with {@link format.bind.annotation.FormatStateless} should
+	 * be instantiated once and shared.
+	 * </p>
 	 * @param <T> The Java type of the field.
 	 * @param fieldType The class instance of the field Java type.
 	 * @param converterType The class instance of the field converter to obtain.
@@ -0,0 +1,221 @@
+/*
+ * Copyright 2024 jFormat-B
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package format.bind.spi;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import format.bind.FormatFieldDescriptor;
+import format.bind.converter.FieldConversionException;
+import format.bind.converter.FieldConverter;
+
+/**
+ * A growable byte array holding a formatted record while it is read or written.
+ *
+ * <p>
+ * Each thread keeps a stack of buffers that are reused from record to record. A buffer is
+ * {@linkplain #acquire() acquired} for the processing of a record and {@linkplain #release()
+ * released} afterwards, so that nested processing (e.g. a field converted by another
+ * {@link format.bind.Formatter}) gets its own buffer, which is reused as well.
+ * </p>
+ *
+ * <p>
+ * The buffers are shared by the format processor implementations, i.e. the reference
+ * implementation and the processors generated by the jFormat-B annotation processor. A
+ * buffer must only be used by the thread that acquired it, and not after its release.
+ * </p>
+ *
+ * @author Yannick Ebongue
+ */
+public final class RecordBuffer {
+
+	/** The initial capacity of the buffers. */
+	private static final int INITIAL_CAPACITY = 256;
+
+	/** The maximum capacity of the buffers kept for reuse. */
+	private static final int MAX_RETAINED_CAPACITY = 1 << 20;
+
+	/** The free space made before formatting a variable length value. */
+	private static final int VARIABLE_LENGTH_HEADROOM = 64;
+
+	/** The top of the stack of free buffers of each thread, or {@code null} while they are all in use. */
+	private static final ThreadLocal<RecordBuffer> buffers = new ThreadLocal<>();
+
+	/** The next free buffer of the stack, while this buffer is free. */
+	private RecordBuffer next;
+
+	/** The content of this buffer. */
+	private byte[] bytes = new byte[INITIAL_CAPACITY];
+
+	/** The number of bytes of the content. */
+	private int size;
+
+	private RecordBuffer() {
+	}
+
+	/**
+	 * Obtain an empty buffer for the current thread.
+	 *
+	 * @return The buffer to {@linkplain #release() release} once the record is processed.
+	 */
+	public static RecordBuffer acquire() {
+		RecordBuffer buffer = buffers.get();
+
+		if (buffer == null) {
+			buffer = new RecordBuffer();
+		} else {
+			buffers.set(buffer.next);
+			buffer.next = null;
+		}
+
+		buffer.size = 0;
+		return buffer;
+	}
+
+	/**
+	 * Give this buffer back to the current thread for reuse.
+	 */
+	public void release() {
+		if (bytes.length <= MAX_RETAINED_CAPACITY) {
+			next = buffers.get();
+			buffers.set(this);
+		}
+	}
+
+	/**
+	 * Returns the content of this buffer. Only the first {@link #size()} bytes are relevant.
+	 *
+	 * @return The backing byte array.
+	 */
+	public byte[] array() {
+		return bytes;
+	}
+
+	/**
+	 * Returns the number of bytes of the content.
+	 *
+	 * @return The content size.
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Replace the content of this buffer with the bytes remaining in the given buffer. The
+	 * position of the given buffer is not modified.
+	 *
+	 * @param buffer The buffer to copy.
+	 * @param length The maximum number of bytes to copy.
+	 */
+	public void load(final ByteBuffer buffer, final int length) {
+		size = 0;
+		ensureCapacity(length);
+
+		// Restore the position rather than reading a duplicate, which would be allocated
+		int position = buffer.position();
+		buffer.get(bytes, 0, length);
+		buffer.position(position);
+		size = length;
+	}
+
+	/**
+	 * Append the given bytes.
+	 *
+	 * @param source The bytes to append.
+	 */
+	public void write(final byte[] source) {
+		ensureCapacity(source.length);
+		System.arraycopy(source, 0, bytes, size, source.length);
+		size += source.length;
+	}
+
+	/**
+	 * Append the given number of bytes, to be written directly into the {@linkplain #array() array}.
+	 *
+	 * @param length The number of bytes to append.
+	 * @return The index of the first appended byte.
+	 */
+	public int reserve(final int length) {
+		ensureCapacity(length);
+		int start = size;
+		size += length;
+		return start;
+	}
+
+	/**
+	 * Append the formatted bytes of the given field value.
+	 *
+	 * <p>
+	 * The values are directly formatted into this buffer, after making room for the fixed
+	 * length ones and some headroom for the variable length ones. A value that does not fit
+	 * (e.g. a value longer than its field, or a variable length value longer than the free
+	 * space) reports the number of bytes it needs, and is formatted again once the buffer
+	 * has grown. Conversion errors are propagated as is.
+	 * </p>
+	 *
+	 * @param <X> The Java type of the value.
+	 * @param value The value to format.
+	 * @param descriptor The text format field descriptor.
+	 * @param converter The text format field converter.
+	 * @throws FieldConversionException if there is an error during the conversion.
+	 */
+	public <X> void write(final X value, final FormatFieldDescriptor descriptor, final FieldConverter<X> converter) {
+		ensureCapacity(descriptor.length() > 0 ? descriptor.length() : VARIABLE_LENGTH_HEADROOM);
+		int length = converter.formatBytes(descriptor, value, bytes, size);
+
+		if (length < 0) {
+			ensureCapacity(-length);
+			length = checkLength(converter.formatBytes(descriptor, value, bytes, size), value, descriptor);
+		}
+
+		size += length;
+	}
+
+	/**
+	 * Copy the content of this buffer into the given buffer.
+	 *
+	 * @param buffer The buffer receiving the content.
+	 * @throws java.nio.BufferOverflowException if the buffer has not enough remaining space.
+	 */
+	public void writeTo(final ByteBuffer buffer) {
+		buffer.put(bytes, 0, size);
+	}
+
+	/**
+	 * Returns a copy of the content of this buffer.
+	 *
+	 * @return The content bytes.
+	 */
+	public byte[] toByteArray() {
+		return Arrays.copyOf(bytes, size);
+	}
+
+	private static int checkLength(final int length, final Object value, final FormatFieldDescriptor descriptor) {
+		if (length < 0) {
+			// The converter needs more room than it reported
+			throw new FieldConversionException(String.format("Not enough space to format value [%s] for field '%s'", value, descriptor.name()));
+		}
+
+		return length;
+	}
+
+	private void ensureCapacity(final int length) {
+		if (length > bytes.length - size) {
+			bytes = Arrays.copyOf(bytes, Math.max(bytes.length << 1, size + length));
+		}
+	}
+
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2024 jFormat-B
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package format.bind.spi;
+
+import format.bind.Formatter;
+import format.bind.Providers;
+
+/**
+ * A {@link FormatProcessorFactory} dedicated to a set of Java types and patterns,
+ * e.g. the factories generated at compile time by the jFormat-B annotation processor.
+ *
+ * <p>
+ * The type specific factories are registered with the {@link java.util.ServiceLoader}
+ * mechanism under this interface name. When a {@link Formatter} is created, the first
+ * factory supporting its type and pattern is used. Otherwise the default
+ * {@link FormatProcessorFactory} is used.
+ * </p>
+ *
+ * @author Yannick Ebongue
+ *
+ * @see Providers#getProcessorFactory(Class, String)
+ */
+public interface TypeFormatProcessorFactory extends FormatProcessorFactory {
+
+	/**
+	 * Check whether this factory can create processors for the given type and pattern.
+	 *
+	 * @param type The class instance of the Java type to process.
+	 * @param pattern The pattern of the text format to process or {@code null} for
+	 * 		the pattern declared on the type.
+	 * @return {@code true} if this factory supports the given type and pattern.
+	 */
+	boolean supports(Class<?> type, String pattern);
+
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2024 jFormat-B
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package format.bind.benchmarks;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.example.datatype.Amount;
+
+import format.bind.Formatter;
+
+/**
+ * Benchmark of the reading and writing of a flat record of two fields.
+ *
+ * @author Yannick Ebongue
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AmountBenchmark {
+
+	private Formatter<Amount> formatter;
+
+	private Amount amount;
+
+	private String text;
+
+	@Setup
+	public void setup() {
+		formatter = Formatter.of(Amount.class).withPattern("${currency:3}${value:12}");
+		amount = Amount.of(Locale.FRANCE, 100000L);
+		text = formatter.format(amount);
+	}
+
+	@Benchmark
+	public String format() {
+		return formatter.format(amount);
+	}
+
+	@Benchmark
+	public Amount parse() {
+		return formatter.parse(text);
+	}
+
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2024 jFormat-B
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package format.bind.benchmarks;
+
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.example.datatype.BankStatement;
+import com.example.datatype.BankStatement.Transaction;
+import com.opencsv.bean.CsvToBeanBuilder;
+
+import format.bind.Formatter;
+
+/**
+ * Benchmark of the reading and writing of a bank statement, i.e. an open ended list
+ * of fixed length transactions, by number of transactions.
+ *
+ * @author Yannick Ebongue
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BankStatementBenchmark {
+
+	@Param({ "1", "100", "10000" })
+	private int transactionCount;
+
+	private Formatter<BankStatement> formatter;
+
+	private BankStatement statement;
+
+	private String text;
+
+	@Setup
+	public void setup() {
+		List<Transaction> rows = new CsvToBeanBuilder<Transaction>(new InputStreamReader(Thread.currentThread()
+				.getContextClassLoader()
+				.getResourceAsStream("transactions.csv"), StandardCharsets.UTF_8))
+				.withType(Transaction.class)
+				.build().parse();
+		List<Transaction> transactions = new ArrayList<>(transactionCount);
+
+		// Repeat the sample transactions up to the expected count
+		for (int i = 0; i < transactionCount; i++) {
+			transactions.add(rows.get(i % rows.size()));
+		}
+
+		formatter = Formatter.of(BankStatement.class);
+		statement = BankStatement.builder()
+				.transactions(transactions)
+				.build();
+		text = formatter.format(statement);
+	}
+
+	@Benchmark
+	public String format() {
+		return formatter.format(statement);
+	}
+
+	@Benchmark
+	public BankStatement parse() {
+		return formatter.parse(text);
+	}
+
+}
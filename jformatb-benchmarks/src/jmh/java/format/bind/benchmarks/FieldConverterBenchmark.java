@@ -0,0 +1,180 @@
+/*
+ * Copyright 2024 jFormat-B
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package format.bind.benchmarks;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Month;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Calendar;
+import java.util.Currency;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.TimeZone;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import format.bind.FormatFieldDescriptor;
+import format.bind.annotation.FormatField.Type;
+import format.bind.converter.FieldConverter;
+import format.bind.runtime.impl.FormatFieldDescriptorBuilderImpl;
+
+/**
+ * Benchmark of the built-in field converters in isolation, by converter and field
+ * descriptor, through the methods used by the readers and writers, i.e. reading a
+ * slice of a record and writing into a record.
+ *
+ * <p>
+ * The allocations per operation ({@code gc.alloc.rate.norm}) of each case are the
+ * allocation budget of the converter: a change of the converters must not raise them.
+ * </p>
+ *
+ * @author Yannick Ebongue
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FieldConverterBenchmark {
+
+	@Param
+	private Case field;
+
+	private FieldConverter<Object> converter;
+
+	private FormatFieldDescriptor descriptor;
+
+	private Object value;
+
+	private byte[] source;
+
+	private byte[] target;
+
+	@Setup
+	@SuppressWarnings("unchecked")
+	public void setup() {
+		converter = (FieldConverter<Object>) FieldConverter.provider().getConverter(field.type);
+		descriptor = field.descriptor;
+		value = field.value;
+		source = converter.formatBytes(descriptor, value);
+		target = new byte[source.length];
+
+		if (descriptor.length() != source.length) {
+			throw new IllegalStateException(String.format("Invalid length %d of the %s field", source.length, field));
+		}
+	}
+
+	@Benchmark
+	public int formatBytes() {
+		return converter.formatBytes(descriptor, value, target, 0);
+	}
+
+	@Benchmark
+	public Object parseBytes() {
+		return converter.parseBytes(descriptor, source, 0, source.length);
+	}
+
+	private static FormatFieldDescriptorBuilderImpl field(final int length) {
+		return new FormatFieldDescriptorBuilderImpl()
+				.charset(StandardCharsets.US_ASCII)
+				.length(length);
+	}
+
+	/**
+	 * The benchmarked fields, i.e. a Java type, a field descriptor and a value.
+	 */
+	public enum Case {
+
+		BOOLEAN(Boolean.class, field(1), true),
+		BYTE(Byte.class, field(3), (byte) 42),
+		SHORT(Short.class, field(5), (short) 1234),
+		INTEGER(Integer.class, field(9), 123456),
+		LONG(Long.class, field(12), 123456789L),
+		LONG_PLACEHOLDER(Long.class, field(12).placeholder("0"), null),
+		LONG_PACKED_DECIMAL(Long.class, field(7).type(Type.PACKED_DECIMAL), -123456789L),
+		LONG_BINARY_INTEGER(Long.class, field(4).type(Type.BINARY_INTEGER), 123456789L),
+		FLOAT_SCALE_2(Float.class, field(10).scale(2), 1234.5f),
+		DOUBLE_SCALE_4(Double.class, field(12).scale(4), 1234.5678),
+		BIG_INTEGER(BigInteger.class, field(18), new BigInteger("123456789012")),
+		BIG_DECIMAL_SCALE_2(BigDecimal.class, field(13).scale(2), new BigDecimal("12345.67")),
+		CHARACTER(Character.class, field(1), 'A'),
+		STRING_ALPHANUMERIC(String.class, field(20), "PAGAMENTO CARTA"),
+		STRING_NUMERIC(String.class, field(16).type(Type.NUMERIC), "4111111111111111"),
+		STRING_PLACEHOLDER(String.class, field(20).placeholder("*"), null),
+		CURRENCY_ALPHANUMERIC(Currency.class, field(3), Currency.getInstance("EUR")),
+		CURRENCY_NUMERIC(Currency.class, field(3).type(Type.NUMERIC), Currency.getInstance("EUR")),
+		ENUM_ALPHANUMERIC(Month.class, field(9).type(Type.ALPHANUMERIC), Month.MARCH),
+		ENUM_NUMERIC(Month.class, field(2).type(Type.NUMERIC), Month.MARCH),
+		UUID_ALPHANUMERIC(UUID.class, field(36), UUID.fromString("3f2504e0-4f89-11d3-9a0c-0305e82c3301")),
+		UUID_BINARY(UUID.class, field(16).type(Type.BINARY), UUID.fromString("3f2504e0-4f89-11d3-9a0c-0305e82c3301")),
+		BYTE_ARRAY_HEX(byte[].class, field(16), new byte[] { 0x01, 0x23, 0x45, 0x67, (byte) 0x89, (byte) 0xAB, (byte) 0xCD, (byte) 0xEF }),
+		BYTE_ARRAY_BINARY(byte[].class, field(8).type(Type.BINARY), new byte[] { 0x01, 0x23, 0x45, 0x67, (byte) 0x89, (byte) 0xAB, (byte) 0xCD, (byte) 0xEF }),
+		LOCAL_DATE_YYYYMMDD(LocalDate.class, field(8).format("yyyyMMdd"), LocalDate.of(2024, 3, 15)),
+		LOCAL_DATE_DDMMYY(LocalDate.class, field(6).format("ddMMyy"), LocalDate.of(2024, 3, 15)),
+		LOCAL_DATE_DD_MMM_YYYY(LocalDate.class, field(11).format("dd MMM yyyy").locale("en-US"), LocalDate.of(2024, 3, 15)),
+		LOCAL_TIME_HHMMSS(LocalTime.class, field(6).format("HHmmss"), LocalTime.of(10, 30, 15)),
+		LOCAL_DATE_TIME_YYYYMMDDHHMMSS(LocalDateTime.class, field(14).format("yyyyMMddHHmmss"), LocalDateTime.of(2024, 3, 15, 10, 30, 15)),
+		LOCAL_DATE_TIME_ISO(LocalDateTime.class, field(19).format("yyyy-MM-dd'T'HH:mm:ss"), LocalDateTime.of(2024, 3, 15, 10, 30, 15)),
+		INSTANT(Instant.class, field(10).format("yyMMddHHmm").zone("UTC"), Instant.parse("2024-03-15T10:30:00Z")),
+		OFFSET_TIME(OffsetTime.class, field(11).format("HHmmssxx"), OffsetTime.of(10, 30, 15, 0, ZoneOffset.UTC)),
+		OFFSET_DATE_TIME(OffsetDateTime.class, field(19).format("yyyyMMddHHmmssxx"), OffsetDateTime.of(2024, 3, 15, 10, 30, 15, 0, ZoneOffset.ofHours(1))),
+		ZONED_DATE_TIME(ZonedDateTime.class, field(14).format("yyyyMMddHHmmss").zone("Europe/Rome"), ZonedDateTime.of(2024, 3, 15, 10, 30, 15, 0, ZoneId.of("Europe/Rome"))),
+		DATE(Date.class, field(12).format("yyyyMMddHHmm").zone("UTC"), Date.from(Instant.parse("2024-03-15T10:30:00Z"))),
+		CALENDAR(Calendar.class, field(12).format("yyyyMMddHHmm").zone("UTC"), calendar()),
+		TIMESTAMP(Timestamp.class, field(23).format("yyyy-MM-dd HH:mm:ss.SSS"), Timestamp.valueOf("2024-03-15 10:30:15.250"));
+
+		/** The Java type of the field. */
+		private final Class<?> type;
+
+		/** The descriptor of the field. */
+		private final FormatFieldDescriptor descriptor;
+
+		/** The value of the field. */
+		private final Object value;
+
+		<T> Case(final Class<T> type, final FormatFieldDescriptorBuilderImpl builder, final T value) {
+			this.type = type;
+			this.descriptor = builder.build();
+			this.value = value;
+		}
+
+		private static Calendar calendar() {
+			Calendar calendar = new GregorianCalendar(TimeZone.getTimeZone("UTC"));
+			calendar.setTime(Date.from(Instant.parse("2024-03-15T10:30:00Z")));
+			return calendar;
+		}
+
+	}
+
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2024 jFormat-B
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package format.bind.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.example.datatype.IBAN;
+
+import format.bind.Formatter;
+
+/**
+ * Benchmark of the reading and writing of an IBAN, whose BBAN subtype is resolved
+ * by the country code.
+ *
+ * @author Yannick Ebongue
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class IBANBenchmark {
+
+	@Param({ "BE", "DE", "FR", "GB", "IT" })
+	private String countryCode;
+
+	private Formatter<IBAN> formatter;
+
+	private IBAN iban;
+
+	private String text;
+
+	@Setup
+	public void setup() throws IOException {
+		formatter = Formatter.of(IBAN.class);
+		text = Samples.lines("iban.csv")
+				.filter(line -> line.startsWith(countryCode + ","))
+				.map(line -> line.substring(line.lastIndexOf(',') + 1))
+				.findFirst()
+				.orElseThrow(() -> new IllegalArgumentException("Unknown country code " + countryCode));
+		iban = formatter.parse(text);
+	}
+
+	@Benchmark
+	public String format() {
+		return formatter.format(iban);
+	}
+
+	@Benchmark
+	public IBAN parse() {
+		return formatter.parse(text);
+	}
+
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2024 jFormat-B
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package format.bind.benchmarks;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.example.datatype.ISO8583;
+import com.example.datatype.ISO8583.MessageTypeIndicator;
+
+import format.bind.Formatter;
+
+/**
+ * Benchmark of the reading and writing of ISO 8583 messages, either as a raw bitmap
+ * or as the data elements selected by the bitmaps.
+ *
+ * @author Yannick Ebongue
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ISO8583Benchmark {
+
+	@Param({ "BITMAP", "DATA" })
+	private String layout;
+
+	private Formatter<ISO8583> formatter;
+
+	private ISO8583 message;
+
+	private byte[] bytes;
+
+	@Setup
+	public void setup() {
+		if ("BITMAP".equals(layout)) {
+			formatter = Formatter.of(ISO8583.class).withPattern("${MTI:4}${BITMAP:16}");
+			message = ISO8583.fromString("01107010001102C04804");
+		} else {
+			Map<String, Object> data = new LinkedHashMap<>();
+			data.put("2", "4111111111111111");
+			data.put("3", "000000");
+			data.put("4", 1000L);
+			data.put("11", 1);
+			data.put("70", 301);
+
+			formatter = Formatter.of(ISO8583.class).withPattern("${MTI:4}${DATA}");
+			message = ISO8583.builder()
+					.messageTypeIndicator(MessageTypeIndicator.fromString("0200"))
+					.data(data)
+					.build();
+		}
+
+		bytes = formatter.formatBytes(message, StandardCharsets.US_ASCII);
+	}
+
+	@Benchmark
+	public byte[] format() {
+		return formatter.formatBytes(message, StandardCharsets.US_ASCII);
+	}
+
+	@Benchmark
+	public ISO8583 parse() {
+		return formatter.parseBytes(bytes, StandardCharsets.US_ASCII);
+	}
+
+}
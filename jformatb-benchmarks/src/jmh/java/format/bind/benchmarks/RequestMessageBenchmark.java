@@ -0,0 +1,86 @@
+/*
+ * Copyright 2024 jFormat-B
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package format.bind.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.params.provider.Arguments;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import format.bind.Formatter;
+import it.bancomat.message.RequestMessage;
+import it.bancomat.message.formatter.MessageArgumentsProvider;
+
+/**
+ * Benchmark of the reading and writing of the bancomat request messages, whose
+ * subtype is resolved by the message type.
+ *
+ * @author Yannick Ebongue
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RequestMessageBenchmark {
+
+	/** The names of the sample messages of {@link MessageArgumentsProvider}. */
+	@Param({
+			"AccountingClosureRequestMessage",
+			"CashLoadingRequestMessage",
+			"CashDepositRecoveryRequestMessage",
+			"CheckDepositRecoveryRequestMessage",
+			"UndefinedDepositRecoveryRequestMessage",
+			"CashDepositRequestMessage",
+			"CheckDepositRequestMessage",
+			"EndDepositRequestMessage" })
+	private String name;
+
+	private Formatter<RequestMessage> formatter;
+
+	private RequestMessage message;
+
+	private String text;
+
+	@Setup
+	public void setup() throws Exception {
+		Object[] arguments = new MessageArgumentsProvider().provideArguments(null)
+				.map(Arguments::get)
+				.filter(args -> name.equals(args[0]))
+				.findFirst()
+				.orElseThrow(() -> new IllegalArgumentException("Unknown message " + name));
+
+		formatter = Formatter.of(RequestMessage.class);
+		text = (String) arguments[1];
+		message = (RequestMessage) arguments[2];
+	}
+
+	@Benchmark
+	public String format() {
+		return formatter.format(message);
+	}
+
+	@Benchmark
+	public RequestMessage parse() {
+		return formatter.parse(text);
+	}
+
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2024 jFormat-B
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package format.bind.benchmarks;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Loads the sample data shared with the tests of the reference implementation.
+ *
+ * @author Yannick Ebongue
+ */
+final class Samples {
+
+	private Samples() {
+	}
+
+	/**
+	 * Returns the lines of the given resource, without its header line.
+	 *
+	 * @param name The name of the resource.
+	 * @return The data lines of the resource.
+	 * @throws IOException if the resource cannot be read.
+	 */
+	static Stream<String> lines(final String name) throws IOException {
+		InputStream input = Thread.currentThread().getContextClassLoader().getResourceAsStream(name);
+
+		if (input == null) {
+			throw new IOException("Resource not found: " + name);
+		}
+
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+			List<String> lines = reader.lines().skip(1).collect(Collectors.toList());
+			return lines.stream();
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+	}
+
+}
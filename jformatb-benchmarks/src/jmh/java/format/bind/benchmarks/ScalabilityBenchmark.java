@@ -0,0 +1,96 @@
+/*
+ * Copyright 2024 jFormat-B
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package format.bind.benchmarks;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.params.provider.Arguments;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.example.datatype.Amount;
+
+import format.bind.Formatter;
+import it.bancomat.message.RequestMessage;
+import it.bancomat.message.formatter.MessageArgumentsProvider;
+
+/**
+ * Benchmark of formatters shared by all the benchmark threads, as they are by the
+ * request threads of an application. It is run by the {@link ScalabilityHarness}
+ * at an increasing number of threads.
+ *
+ * @author Yannick Ebongue
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ScalabilityBenchmark {
+
+	private Formatter<Amount> amountFormatter;
+
+	private Amount amount;
+
+	private String amountText;
+
+	private Formatter<RequestMessage> messageFormatter;
+
+	private RequestMessage message;
+
+	private String messageText;
+
+	@Setup
+	public void setup() throws Exception {
+		Object[] arguments = new MessageArgumentsProvider().provideArguments(null)
+				.map(Arguments::get)
+				.filter(args -> "CashDepositRequestMessage".equals(args[0]))
+				.findFirst()
+				.orElseThrow(IllegalStateException::new);
+
+		amountFormatter = Formatter.of(Amount.class).withPattern("${currency:3}${value:12}");
+		amount = Amount.of(Locale.FRANCE, 100000L);
+		amountText = amountFormatter.format(amount);
+		messageFormatter = Formatter.of(RequestMessage.class);
+		messageText = (String) arguments[1];
+		message = (RequestMessage) arguments[2];
+	}
+
+	@Benchmark
+	public String formatAmount() {
+		return amountFormatter.format(amount);
+	}
+
+	@Benchmark
+	public Amount parseAmount() {
+		return amountFormatter.parse(amountText);
+	}
+
+	@Benchmark
+	public String formatMessage() {
+		return messageFormatter.format(message);
+	}
+
+	@Benchmark
+	public RequestMessage parseMessage() {
+		return messageFormatter.parse(messageText);
+	}
+
+}
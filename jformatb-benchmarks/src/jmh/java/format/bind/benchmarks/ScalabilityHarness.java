@@ -0,0 +1,206 @@
+/*
+ * Copyright 2024 jFormat-B
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package format.bind.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import jdk.jfr.consumer.RecordedClass;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Runs the {@link ScalabilityBenchmark} at 1, 2, 4... up to the available processors
+ * threads, and reports the scaling curve of each benchmark along with the contended
+ * monitors and locks of the library, recorded by the Flight Recorder of the benchmark JVM.
+ *
+ * <p>
+ * The scaling efficiency at {@code n} threads is the throughput at {@code n} threads
+ * divided by {@code n} times the throughput at one thread. The harness fails if the
+ * efficiency of a benchmark drops below the threshold. It is configured by the system
+ * properties:
+ * </p>
+ * <ul>
+ * <li>{@code scaling.threads}: the maximum number of threads (the available processors by default)</li>
+ * <li>{@code scaling.efficiency}: the minimum scaling efficiency ({@value #DEFAULT_EFFICIENCY} by default)</li>
+ * <li>{@code scaling.iterations}: the number of warmup and measurement iterations of one second (5 by default)</li>
+ * <li>{@code scaling.dir}: the directory of the flight recordings ({@code build/results/jmh/scaling} by default)</li>
+ * </ul>
+ *
+ * @author Yannick Ebongue
+ */
+public final class ScalabilityHarness {
+
+	/** The default minimum scaling efficiency. */
+	static final String DEFAULT_EFFICIENCY = "0.6";
+
+	/** The number of contention sites reported by number of threads. */
+	private static final int MAX_SITES = 10;
+
+	/** The package of the library, whose frames locate the contention sites. */
+	private static final String LIBRARY_PACKAGE = "format.bind.";
+
+	private ScalabilityHarness() {
+	}
+
+	public static void main(final String[] args) throws RunnerException, IOException {
+		int maxThreads = Integer.getInteger("scaling.threads", Runtime.getRuntime().availableProcessors());
+		double threshold = Double.parseDouble(System.getProperty("scaling.efficiency", DEFAULT_EFFICIENCY));
+		int iterations = Integer.getInteger("scaling.iterations", 5);
+		Path dir = Paths.get(System.getProperty("scaling.dir", "build/results/jmh/scaling"));
+		Map<String, Double> baseline = new HashMap<>();
+		List<String> report = new ArrayList<>();
+		List<String> failures = new ArrayList<>();
+
+		Files.createDirectories(dir);
+
+		for (int threads : threadCounts(maxThreads)) {
+			Path recording = dir.resolve("scaling-" + threads + ".jfr").toAbsolutePath();
+			Options options = new OptionsBuilder()
+					.include(ScalabilityBenchmark.class.getName())
+					.threads(threads)
+					.forks(1)
+					.warmupIterations(iterations)
+					.warmupTime(TimeValue.seconds(1))
+					.measurementIterations(iterations)
+					.measurementTime(TimeValue.seconds(1))
+					.jvmArgsAppend("-XX:StartFlightRecording=filename=" + recording + ",settings=profile"
+							+ ",jdk.JavaMonitorEnter#threshold=0ms,jdk.ThreadPark#threshold=0ms")
+					.build();
+
+			for (RunResult result : new Runner(options).run()) {
+				String benchmark = result.getParams().getBenchmark();
+				double score = result.getPrimaryResult().getScore();
+				double efficiency = score / (threads * baseline.computeIfAbsent(benchmark, name -> score));
+
+				report.add(String.format("%-60s %7d %12.1f %8.2fx %10.0f%%", benchmark, threads, score,
+						efficiency * threads, efficiency * 100));
+
+				if (efficiency < threshold) {
+					failures.add(String.format("%s: efficiency %.2f at %d threads", benchmark, efficiency, threads));
+				}
+			}
+
+			report.add(String.format("Contention at %d threads (%s):", threads, recording.getFileName()));
+			report.addAll(contentionSites(recording));
+		}
+
+		System.out.println();
+		System.out.println(String.format("%-60s %7s %12s %9s %11s", "Benchmark", "Threads", "ops/ms", "Speedup", "Efficiency"));
+		report.forEach(System.out::println);
+
+		if (!failures.isEmpty()) {
+			throw new IllegalStateException(String.format("Scaling efficiency below %.2f:%n%s", threshold, String.join(System.lineSeparator(), failures)));
+		}
+	}
+
+	/**
+	 * Returns the numbers of threads to run, i.e. the powers of two up to the given
+	 * maximum, followed by the maximum.
+	 */
+	private static List<Integer> threadCounts(final int maxThreads) {
+		List<Integer> counts = new ArrayList<>();
+
+		for (int threads = 1; threads < maxThreads; threads <<= 1) {
+			counts.add(threads);
+		}
+
+		counts.add(Math.max(1, maxThreads));
+		return counts;
+	}
+
+	/**
+	 * Returns the monitors and locks on which the threads blocked in the library, by
+	 * total blocked time, read from the given flight recording.
+	 */
+	private static List<String> contentionSites(final Path recording) throws IOException {
+		Map<String, long[]> sites = new LinkedHashMap<>();
+
+		for (RecordedEvent event : RecordingFile.readAllEvents(recording)) {
+			String type = event.getEventType().getName();
+			RecordedClass monitor;
+
+			if ("jdk.JavaMonitorEnter".equals(type)) {
+				monitor = event.getClass("monitorClass");
+			} else if ("jdk.ThreadPark".equals(type)) {
+				monitor = event.getClass("parkedClass");
+			} else {
+				continue;
+			}
+
+			String frame = libraryFrame(event);
+
+			if (frame != null) {
+				String site = String.format("%s on %s at %s", type.substring(4), monitor != null ? monitor.getName() : "?", frame);
+				long[] totals = sites.computeIfAbsent(site, key -> new long[2]);
+				totals[0]++;
+				totals[1] += event.getDuration().toNanos();
+			}
+		}
+
+		List<String> lines = new ArrayList<>();
+
+		sites.entrySet().stream()
+				.sorted(Comparator.comparingLong((Map.Entry<String, long[]> entry) -> entry.getValue()[1]).reversed())
+				.limit(MAX_SITES)
+				.forEach(entry -> lines.add(String.format("  %8d events %10.3f ms  %s", entry.getValue()[0],
+						entry.getValue()[1] / (double) TimeUnit.MILLISECONDS.toNanos(1), entry.getKey())));
+
+		if (lines.isEmpty()) {
+			lines.add("  none");
+		}
+
+		return lines;
+	}
+
+	/**
+	 * Returns the innermost frame of the library (other than the benchmarks) of the
+	 * stack trace of the given event, or {@code null}.
+	 */
+	private static String libraryFrame(final RecordedEvent event) {
+		if (event.getStackTrace() == null) {
+			return null;
+		}
+
+		for (RecordedFrame frame : event.getStackTrace().getFrames()) {
+			String className = frame.getMethod().getType().getName();
+
+			if (className.startsWith(LIBRARY_PACKAGE) && !className.startsWith(ScalabilityHarness.class.getPackage().getName())) {
+				return String.format("%s.%s:%d", className, frame.getMethod().getName(), frame.getLineNumber());
+			}
+		}
+
+		return null;
+	}
+
+}
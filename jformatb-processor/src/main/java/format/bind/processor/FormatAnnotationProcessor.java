@@ -0,0 +1,424 @@
+/*
+ * Copyright 2024 jFormat-B
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package format.bind.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+
+import format.bind.annotation.Format;
+import format.bind.annotation.FormatAccess;
+import format.bind.annotation.FormatField;
+import format.bind.annotation.FormatFieldConverter;
+import format.bind.annotation.FormatFieldOverride;
+import format.bind.annotation.FormatFieldOverrides;
+import format.bind.annotation.FormatTypeInfo;
+import format.bind.annotation.FormatTypeValue;
+import format.bind.spi.TypeFormatProcessorFactory;
+
+/**
+ * An annotation processor generating the readers and writers of the types annotated
+ * with {@link Format}.
+ *
+ * <p>
+ * For every supported type, a {@link TypeFormatProcessorFactory} is generated in the
+ * package of the type and registered as a service. The generated readers and writers
+ * process the fields of the pattern in sequence, without reflection nor pattern matching.
+ * </p>
+ *
+ * <p>
+ * Only flat types are supported: the pattern must only contain simple fields (no nested,
+ * indexed or mapped field), with an optional length and placeholder (no inline options
+ * nor length prefix). The types using type info, property access or field overrides are
+ * not supported either. The unsupported types are reported as notes and keep being
+ * processed at runtime by the default {@link format.bind.spi.FormatProcessorFactory}.
+ * </p>
+ *
+ * @author Yannick Ebongue
+ */
+public class FormatAnnotationProcessor extends AbstractProcessor {
+
+	private static final Pattern FIELD_PATTERN = Pattern.compile("\\$\\{(?<property>[^\\}]+)\\}");
+
+	private static final String SERVICE_FILE = "META-INF/services/" + TypeFormatProcessorFactory.class.getName();
+
+	private static final String LOMBOK_DATA = "lombok.Data";
+	private static final String LOMBOK_VALUE = "lombok.Value";
+	private static final String LOMBOK_GETTER = "lombok.Getter";
+	private static final String LOMBOK_SETTER = "lombok.Setter";
+
+	/** The qualified names of the generated factories. */
+	private final Set<String> factories = new LinkedHashSet<>();
+
+	@Override
+	public Set<String> getSupportedAnnotationTypes() {
+		return Collections.singleton(Format.class.getName());
+	}
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+		for (TypeElement element : ElementFilter.typesIn(roundEnv.getElementsAnnotatedWith(Format.class))) {
+			try {
+				FormatTypeModel model = analyze(element);
+				generate(element, model);
+			} catch (UnsupportedTypeException e) {
+				processingEnv.getMessager().printMessage(Kind.NOTE,
+						String.format("No format processor generated for %s: %s", element.getQualifiedName(), e.getMessage()), element);
+			} catch (IOException e) {
+				processingEnv.getMessager().printMessage(Kind.ERROR,
+						String.format("Unable to generate the format processor of %s: %s", element.getQualifiedName(), e.getMessage()), element);
+			}
+		}
+
+		if (roundEnv.processingOver() && !factories.isEmpty()) {
+			writeServiceFile();
+		}
+
+		return false;
+	}
+
+	private FormatTypeModel analyze(final TypeElement element) {
+		checkType(element);
+
+		String pattern = element.getAnnotation(Format.class).pattern();
+		List<VariableElement> candidates = getFormatFields(element);
+		List<FormatTypeModel.Field> fields = new ArrayList<>();
+		StringBuilder literal = new StringBuilder();
+		Matcher matcher = FIELD_PATTERN.matcher(pattern);
+		int lastIndex = 0;
+
+		while (matcher.find()) {
+			literal.append(pattern, lastIndex, matcher.start());
+			lastIndex = matcher.end();
+
+			String[] options = matcher.group("property").split(":");
+			String name = options[0];
+
+			if (name.matches(".*[\\.\\[\\]].*")) {
+				throw new UnsupportedTypeException(String.format("field '%s' is nested, indexed or mapped", name));
+			}
+
+			if (options.length > 1 && !options[1].matches("\\d+")) {
+				throw new UnsupportedTypeException(String.format("field '%s' has inline options", name));
+			}
+
+			Optional<VariableElement> field = candidates.stream()
+					.filter(candidate -> name.equals(candidate.getAnnotation(FormatField.class).name())
+							|| candidate.getSimpleName().contentEquals(name))
+					.findFirst();
+
+			if (field.isPresent()) {
+				fields.add(analyzeField(element, field.get(), literal.toString(), options));
+				literal.setLength(0);
+			} else {
+				// Unresolved fields are processed as literal text
+				literal.append(matcher.group());
+			}
+		}
+
+		literal.append(pattern.substring(lastIndex));
+
+		return new FormatTypeModel(
+				processingEnv.getElementUtils().getPackageOf(element).getQualifiedName().toString(),
+				element.getQualifiedName().toString(),
+				getFactoryName(element),
+				pattern,
+				Collections.unmodifiableList(fields),
+				literal.toString());
+	}
+
+	private void checkType(final TypeElement element) {
+		if (element.getKind() != ElementKind.CLASS || element.getModifiers().contains(Modifier.ABSTRACT)) {
+			throw new UnsupportedTypeException("not a concrete class");
+		}
+
+		for (Element current = element; current instanceof TypeElement; current = current.getEnclosingElement()) {
+			boolean nested = current.getEnclosingElement() instanceof TypeElement;
+
+			if (current.getModifiers().contains(Modifier.PRIVATE) || (nested && !current.getModifiers().contains(Modifier.STATIC))) {
+				throw new UnsupportedTypeException("not accessible from its package");
+			}
+		}
+
+		boolean constructor = ElementFilter.constructorsIn(element.getEnclosedElements()).stream()
+				.anyMatch(method -> method.getParameters().isEmpty() && !method.getModifiers().contains(Modifier.PRIVATE));
+
+		if (!constructor && !hasAnnotation(element, "lombok.NoArgsConstructor")) {
+			throw new UnsupportedTypeException("no accessible no-arg constructor");
+		}
+
+		for (TypeElement type : getHierarchy(element)) {
+			if (type.getAnnotation(FormatTypeInfo.class) != null || type.getAnnotation(FormatTypeValue.class) != null) {
+				throw new UnsupportedTypeException("type info is not supported");
+			}
+
+			if (type.getAnnotation(FormatFieldOverride.class) != null || type.getAnnotation(FormatFieldOverrides.class) != null) {
+				throw new UnsupportedTypeException("field overrides are not supported");
+			}
+
+			FormatAccess access = type.getAnnotation(FormatAccess.class);
+
+			if (type == element && access != null && access.value() == FormatAccess.Type.PROPERTY) {
+				throw new UnsupportedTypeException("property access is not supported");
+			}
+		}
+	}
+
+	private FormatTypeModel.Field analyzeField(final TypeElement element, final VariableElement field, final String literal, final String[] options) {
+		TypeMirror type = field.asType();
+
+		if (isAssignable(type, "java.util.List") || isAssignable(type, "java.util.Map")) {
+			throw new UnsupportedTypeException(String.format("field '%s' is a list or a map", field.getSimpleName()));
+		}
+
+		if (field.getAnnotation(Format.class) != null || field.getAnnotation(FormatTypeInfo.class) != null
+				|| (type.getKind() == TypeKind.DECLARED && ((DeclaredType) type).asElement().getAnnotation(FormatTypeInfo.class) != null)) {
+			throw new UnsupportedTypeException(String.format("field '%s' is formatted with a nested formatter", field.getSimpleName()));
+		}
+
+		FormatField annotation = field.getAnnotation(FormatField.class);
+
+		if (annotation.prefix() != FormatField.Prefix.NONE) {
+			throw new UnsupportedTypeException(String.format("field '%s' is length prefixed", field.getSimpleName()));
+		}
+
+		String property = field.getSimpleName().toString();
+		String propertyType = type.getKind().isPrimitive()
+				? processingEnv.getTypeUtils().boxedClass((javax.lang.model.type.PrimitiveType) type).getQualifiedName().toString()
+				: processingEnv.getTypeUtils().erasure(type).toString();
+		int length = options.length > 1 ? Integer.parseInt(options[1]) : annotation.length();
+		String placeholder = options.length > 2 ? options[2] : annotation.placeholder();
+
+		return new FormatTypeModel.Field(
+				literal,
+				property,
+				propertyType,
+				getGetter(element, field),
+				annotation.readOnly() ? null : getSetter(element, field),
+				getClassValue(field, FormatFieldConverter.class.getName(), "value"),
+				annotation.name().isEmpty() ? property : annotation.name(),
+				annotation.type().name(),
+				annotation.charset(),
+				length,
+				annotation.scale(),
+				annotation.format(),
+				annotation.locale(),
+				annotation.zone(),
+				placeholder,
+				annotation.readOnly(),
+				getClassValue(field, FormatField.class.getName(), "targetClass"));
+	}
+
+	private String getGetter(final TypeElement element, final VariableElement field) {
+		String name = field.getSimpleName().toString();
+		String prefix = field.asType().getKind() == TypeKind.BOOLEAN ? "is" : "get";
+		String method = prefix + capitalize(name);
+
+		if (isAccessible(element, field)) {
+			return "obj." + name;
+		}
+
+		if (hasMethod(element, method, 0) || hasLombokAccessor(field, LOMBOK_GETTER, LOMBOK_DATA, LOMBOK_VALUE)) {
+			return "obj." + method + "()";
+		}
+
+		throw new UnsupportedTypeException(String.format("field '%s' has no accessible getter", name));
+	}
+
+	private String getSetter(final TypeElement element, final VariableElement field) {
+		String name = field.getSimpleName().toString();
+		String method = "set" + capitalize(name);
+
+		if (isAccessible(element, field) && !field.getModifiers().contains(Modifier.FINAL)) {
+			return "obj." + name + " = %s;";
+		}
+
+		if (hasMethod(element, method, 1)
+				|| (!field.getModifiers().contains(Modifier.FINAL) && hasLombokAccessor(field, LOMBOK_SETTER, LOMBOK_DATA))) {
+			return "obj." + method + "(%s);";
+		}
+
+		throw new UnsupportedTypeException(String.format("field '%s' has no accessible setter", name));
+	}
+
+	private List<VariableElement> getFormatFields(final TypeElement element) {
+		List<VariableElement> fields = new ArrayList<>();
+
+		for (TypeElement type : getHierarchy(element)) {
+			ElementFilter.fieldsIn(type.getEnclosedElements()).stream()
+					.filter(field -> !field.getModifiers().contains(Modifier.STATIC))
+					.filter(field -> field.getAnnotation(FormatField.class) != null)
+					.forEach(fields::add);
+		}
+
+		return fields;
+	}
+
+	private List<TypeElement> getHierarchy(final TypeElement element) {
+		List<TypeElement> types = new ArrayList<>();
+		TypeElement type = element;
+
+		while (type != null) {
+			types.add(type);
+			TypeMirror superclass = type.getSuperclass();
+			type = superclass.getKind() == TypeKind.DECLARED ? (TypeElement) ((DeclaredType) superclass).asElement() : null;
+		}
+
+		return types;
+	}
+
+	private boolean hasMethod(final TypeElement element, final String name, final int parameters) {
+		return getHierarchy(element).stream()
+				.flatMap(type -> ElementFilter.methodsIn(type.getEnclosedElements()).stream())
+				.filter(method -> isAccessible(element, method) && !method.getModifiers().contains(Modifier.STATIC))
+				.anyMatch(method -> method.getSimpleName().contentEquals(name) && method.getParameters().size() == parameters);
+	}
+
+	private boolean hasLombokAccessor(final VariableElement field, final String... annotationNames) {
+		for (String annotationName : annotationNames) {
+			if (hasAnnotation(field, annotationName) || hasAnnotation(field.getEnclosingElement(), annotationName)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private boolean hasAnnotation(final Element element, final String annotationName) {
+		return element.getAnnotationMirrors().stream()
+				.anyMatch(mirror -> ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(annotationName));
+	}
+
+	private boolean isAccessible(final TypeElement element, final Element member) {
+		if (member.getModifiers().contains(Modifier.PRIVATE)) {
+			return false;
+		}
+
+		return member.getModifiers().contains(Modifier.PUBLIC)
+				|| processingEnv.getElementUtils().getPackageOf(member).equals(processingEnv.getElementUtils().getPackageOf(element));
+	}
+
+	private boolean isAssignable(final TypeMirror type, final String className) {
+		TypeElement element = processingEnv.getElementUtils().getTypeElement(className);
+		return element != null && processingEnv.getTypeUtils().isAssignable(
+				processingEnv.getTypeUtils().erasure(type), processingEnv.getTypeUtils().erasure(element.asType()));
+	}
+
+	private String getClassValue(final Element element, final String annotationName, final String attribute) {
+		for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+			if (((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(annotationName)) {
+				Map<? extends ExecutableElement, ? extends AnnotationValue> values = processingEnv.getElementUtils().getElementValuesWithDefaults(mirror);
+				for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : values.entrySet()) {
+					if (entry.getKey().getSimpleName().contentEquals(attribute)) {
+						return processingEnv.getTypeUtils().erasure((TypeMirror) entry.getValue().getValue()).toString();
+					}
+				}
+			}
+		}
+
+		return null;
+	}
+
+	private String getFactoryName(final TypeElement element) {
+		StringBuilder name = new StringBuilder(element.getSimpleName());
+
+		for (Element current = element.getEnclosingElement(); current instanceof TypeElement; current = current.getEnclosingElement()) {
+			name.insert(0, '_').insert(0, current.getSimpleName());
+		}
+
+		return name.append("FormatProcessorFactory").toString();
+	}
+
+	private void generate(final TypeElement element, final FormatTypeModel model) throws IOException {
+		String qualifiedName = model.getPackageName().isEmpty()
+				? model.getFactoryName()
+				: model.getPackageName() + "." + model.getFactoryName();
+
+		JavaFileObject file = processingEnv.getFiler().createSourceFile(qualifiedName, element);
+
+		try (Writer writer = file.openWriter()) {
+			writer.write(new FormatProcessorFactoryWriter(model, processingEnv.getElementUtils()::getConstantExpression).write());
+		}
+
+		factories.add(qualifiedName);
+	}
+
+	private void writeServiceFile() {
+		try {
+			FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+
+			try (Writer writer = file.openWriter()) {
+				for (String factory : factories) {
+					writer.write(factory);
+					writer.write('\n');
+				}
+			}
+		} catch (IOException e) {
+			processingEnv.getMessager().printMessage(Kind.ERROR, String.format("Unable to write %s: %s", SERVICE_FILE, e.getMessage()));
+		}
+	}
+
+	private static String capitalize(final String name) {
+		return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+	}
+
+	/**
+	 * Thrown when a type cannot be processed by the generated code.
+	 */
+	private static class UnsupportedTypeException extends RuntimeException {
+
+		private static final long serialVersionUID = 3470237839446232157L;
+
+		UnsupportedTypeException(final String message) {
+			super(message);
+		}
+
+	}
+
+}
@@ -0,0 +1,526 @@
+/*
+ * Copyright 2024 jFormat-B
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package format.bind.processor;
+
+import java.util.List;
+import java.util.function.Function;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Writes the source code of the {@link format.bind.spi.TypeFormatProcessorFactory}
+ * generated for a {@link FormatTypeModel}.
+ *
+ * <p>
+ * The generated factory contains a reader and a writer processing the fields of the
+ * pattern one after the other, with their descriptors and converters resolved once
+ * when the reader or the writer is created. The values are formatted directly into a
+ * {@link format.bind.spi.RecordBuffer} reused by the current thread, as the records of
+ * direct buffers are copied before being parsed.
+ * </p>
+ *
+ * @author Yannick Ebongue
+ */
+@RequiredArgsConstructor
+class FormatProcessorFactoryWriter {
+
+	/** The model of the type to generate the factory of. */
+	private final FormatTypeModel model;
+
+	/** The function returning the Java constant expression of a value. */
+	private final Function<Object, String> constants;
+
+	/** The generated source code. */
+	private final StringBuilder out = new StringBuilder();
+
+	/** The current indentation level. */
+	private int indent;
+
+	String write() {
+		String type = model.getTypeName();
+		List<FormatTypeModel.Field> fields = model.getFields();
+
+		if (!model.getPackageName().isEmpty()) {
+			line("package %s;", model.getPackageName());
+			line();
+		}
+
+		line("import java.nio.ByteBuffer;");
+		line("import java.nio.charset.Charset;");
+		line("import java.util.Collections;");
+		line("import java.util.LinkedHashMap;");
+		line("import java.util.Map;");
+		line("import java.util.function.IntFunction;");
+		line();
+		line("import format.bind.FormatFieldDescriptor;");
+		line("import format.bind.FormatProcessingException;");
+		line("import format.bind.FormatReader;");
+		line("import format.bind.FormatWriter;");
+		line("import format.bind.Formatter;");
+		line("import format.bind.annotation.FormatField;");
+		line("import format.bind.converter.FieldConverter;");
+		line("import format.bind.converter.spi.FieldConverterProvider;");
+		line("import format.bind.spi.RecordBuffer;");
+		line("import format.bind.spi.TypeFormatProcessorFactory;");
+		line();
+		line("/**");
+		line(" * The format processor factory of {@link %s}.", type);
+		line(" *");
+		line(" * <p>");
+		line(" * Generated by {@code %s}, do not edit.", FormatAnnotationProcessor.class.getName());
+		line(" * </p>");
+		line(" */");
+		open("public final class %s implements TypeFormatProcessorFactory", model.getFactoryName());
+		line("private static final String PATTERN = %s;", constants.apply(model.getPattern()));
+		line();
+		line("@Override");
+		open("public boolean supports(Class<?> type, String pattern)");
+		line("return type == %s.class && (pattern == null || PATTERN.equals(pattern));", type);
+		close();
+		line();
+		line("@SuppressWarnings(\"unchecked\")");
+		line("@Override");
+		open("public <T, F extends FormatReader<T, F>> FormatReader<T, F> createReader(Class<? extends T> type, String pattern)");
+		line("return (FormatReader<T, F>) (FormatReader<?, ?>) new Reader(Charset.defaultCharset(), null);");
+		close();
+		line();
+		line("@SuppressWarnings(\"unchecked\")");
+		line("@Override");
+		open("public <T, F extends FormatWriter<T, F>> FormatWriter<T, F> createWriter(Class<? extends T> type, String pattern)");
+		line("return (FormatWriter<T, F>) (FormatWriter<?, ?>) new Writer(Charset.defaultCharset(), null, Collections.emptyMap());");
+		close();
+		line();
+		writeHelpers();
+		line();
+		writeReader(type, fields);
+		line();
+		writeWriter(type, fields);
+		line();
+		writeDescriptor();
+		close();
+
+		return out.toString();
+	}
+
+	private void writeHelpers() {
+		line("@SuppressWarnings({ \"unchecked\", \"rawtypes\" })");
+		open("private static <T> FieldConverter<T> converter(Class<T> type, Class<?> converterType)");
+		line("FieldConverterProvider provider = FieldConverter.provider();");
+		line("FieldConverter<T> converter = converterType == null ? provider.getConverter(type) : provider.getConverter(type, (Class) converterType);");
+		line("return converter != null ? converter : provider.getConverter(Formatter.of(type));");
+		close();
+		line();
+		open("private static Charset charset(String charsetName, Charset charset)");
+		line("return charsetName.isEmpty() ? charset : Charset.forName(charsetName);");
+		close();
+		line();
+		open("private static String hex(byte[] bytes, int offset, int length)");
+		line("StringBuilder sb = new StringBuilder(length * 2);");
+		open("for (int i = offset; i < offset + length; i++)");
+		line("byte b = bytes[i];");
+		line("sb.append(Character.toUpperCase(Character.forDigit((b >> 4) & 0xF, 16)))");
+		line("\t\t.append(Character.toUpperCase(Character.forDigit(b & 0xF, 16)));");
+		close();
+		line("return sb.toString();");
+		close();
+	}
+
+	private int recordLength(final List<FormatTypeModel.Field> fields) {
+		int length = model.getTrailer().length();
+
+		for (FormatTypeModel.Field field : fields) {
+			if (field.getLength() <= 0) {
+				return -1;
+			}
+
+			length += field.getLiteral().length() + field.getLength();
+		}
+
+		return length;
+	}
+
+	private void writeFieldDeclarations(final List<FormatTypeModel.Field> fields) {
+		for (int i = 0; i < fields.size(); i++) {
+			FormatTypeModel.Field field = fields.get(i);
+			line("private final Descriptor descriptor%d;", i);
+			line("private final FieldConverter<%s> converter%d;", field.getPropertyType(), i);
+		}
+	}
+
+	private void writeFieldInitializations(final List<FormatTypeModel.Field> fields) {
+		for (int i = 0; i < fields.size(); i++) {
+			FormatTypeModel.Field field = fields.get(i);
+			line("descriptor%d = new Descriptor(%s, FormatField.Type.%s, charset(%s, this.charset), %d, %d, %s, %s, %s, %s, %s, %s.class);",
+					i, constants.apply(field.getName()), field.getType(), constants.apply(field.getCharset()),
+					field.getLength(), field.getScale(), constants.apply(field.getFormat()), constants.apply(field.getLocale()),
+					constants.apply(field.getZone()), constants.apply(field.getPlaceholder()), field.isReadOnly(), field.getTargetClass());
+			line("converter%d = converter(%s.class, %s);", i, field.getPropertyType(),
+					field.getConverterType() == null ? "null" : field.getConverterType() + ".class");
+		}
+	}
+
+	private void writeReader(final String type, final List<FormatTypeModel.Field> fields) {
+		open("static final class Reader implements FormatReader<%s, Reader>", type);
+		line("private final Charset charset;");
+		line();
+		line("private final Listener<%s> listener;", type);
+		line();
+		writeFieldDeclarations(fields);
+		line();
+		open("Reader(Charset charset, Listener<%s> listener)", type);
+		line("this.charset = charset;");
+		line("this.listener = listener;");
+		writeFieldInitializations(fields);
+		close();
+		line();
+		line("@Override");
+		line("@Deprecated");
+		open("public Reader setCharset(Charset charset)");
+		line("return withCharset(charset);");
+		close();
+		line();
+		line("@Override");
+		line("@Deprecated");
+		open("public Reader setListener(Listener<%s> listener)", type);
+		line("return withListener(listener);");
+		close();
+		line();
+		line("@Override");
+		open("public Reader withCharset(Charset charset)");
+		line("return new Reader(charset, listener);");
+		close();
+		line();
+		line("@Override");
+		open("public Reader withListener(Listener<%s> listener)", type);
+		line("return new Reader(charset, listener);");
+		close();
+		line();
+		line("@Override");
+		open("public %s read(String text)", type);
+		open("try");
+		line("return readBytes(text.getBytes(charset));");
+		dedent("} catch (FormatProcessingException e) {");
+		line("throw new FormatProcessingException(String.format(\"Unable to parse text [%s]\", text), e.getCause());");
+		close();
+		close();
+		line();
+		line("@Override");
+		open("public %s readBytes(byte[] bytes)", type);
+		line("return read(bytes, 0, bytes.length, null);");
+		close();
+		line();
+		line("@Override");
+		open("public %s readBuffer(ByteBuffer buffer)", type);
+		open("if (buffer.hasArray())");
+		line("return read(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining(), buffer);");
+		close();
+		line();
+		line("RecordBuffer input = RecordBuffer.acquire();");
+		line();
+		open("try");
+		line("int length = %s;", recordLength(fields) > 0 ? "Math.min(getRecordLength(), buffer.remaining())" : "buffer.remaining()");
+		line("input.load(buffer, length);");
+		line("return read(input.array(), 0, length, buffer);");
+		dedent("} finally {");
+		line("input.release();");
+		close();
+		close();
+		line();
+		line("@Override");
+		open("public int getRecordLength()");
+		line("return %d;", recordLength(fields));
+		close();
+		line();
+		open("private %s read(byte[] bytes, int offset, int length, ByteBuffer buffer)", type);
+		open("try");
+		line("%s obj = new %s();", type, type);
+		line("Map<String, Object> fields = listener != null ? new LinkedHashMap<>() : null;");
+		line("int position = 0;");
+
+		for (int i = 0; i < fields.size(); i++) {
+			FormatTypeModel.Field field = fields.get(i);
+			line();
+			line("// %s", field.getProperty());
+
+			if (!field.getLiteral().isEmpty()) {
+				line("position += %d;", field.getLiteral().length());
+			}
+
+			open("if (position < length)");
+			line("int end = %s;", field.getLength() > 0 ? String.format("Math.min(position + %d, length)", field.getLength()) : "length");
+			line("%s value = converter%d.parseBytes(descriptor%d, bytes, offset + position, end - position);", field.getPropertyType(), i, i);
+			line("position = end;");
+			open("if (fields != null)");
+			line("fields.put(%s, value);", constants.apply(field.getProperty()));
+			close();
+
+			if (field.getSetter() != null) {
+				open("if (value != null)");
+				line(field.getSetter().replace("%s", "value"));
+				close();
+			}
+
+			close();
+		}
+
+		line();
+		open("if (listener != null)");
+		line("listener.postProcessing(obj, fields);");
+		close();
+		line();
+		open("if (buffer != null)");
+		line("buffer.position(buffer.position() + Math.min(position + %d, length));", model.getTrailer().length());
+		close();
+		line();
+		line("return obj;");
+		dedent("} catch (Exception e) {");
+		line("throw new FormatProcessingException(String.format(\"Unable to parse byte array [%s]\", hex(bytes, offset, length)), e);");
+		close();
+		close();
+		close();
+	}
+
+	private void writeWriter(final String type, final List<FormatTypeModel.Field> fields) {
+		open("static final class Writer implements FormatWriter<%s, Writer>", type);
+		line("private final Charset charset;");
+		line();
+		line("private final Listener<%s> listener;", type);
+		line();
+		line("private final Map<String, Object> properties;");
+		line();
+
+		for (int i = 0; i < fields.size(); i++) {
+			if (!fields.get(i).getLiteral().isEmpty()) {
+				line("private final byte[] literal%d;", i);
+			}
+		}
+
+		line("private final byte[] trailer;");
+		line();
+		writeFieldDeclarations(fields);
+		line();
+		open("Writer(Charset charset, Listener<%s> listener, Map<String, Object> properties)", type);
+		line("this.charset = charset;");
+		line("this.listener = listener;");
+		line("this.properties = properties;");
+
+		for (int i = 0; i < fields.size(); i++) {
+			if (!fields.get(i).getLiteral().isEmpty()) {
+				line("literal%d = %s.getBytes(charset);", i, constants.apply(fields.get(i).getLiteral()));
+			}
+		}
+
+		line("trailer = %s.getBytes(charset);", constants.apply(model.getTrailer()));
+		writeFieldInitializations(fields);
+		close();
+		line();
+		line("@Override");
+		line("@Deprecated");
+		open("public Writer setCharset(Charset charset)");
+		line("return withCharset(charset);");
+		close();
+		line();
+		line("@Override");
+		line("@Deprecated");
+		open("public Writer setListener(Listener<%s> listener)", type);
+		line("return withListener(listener);");
+		close();
+		line();
+		line("@Override");
+		open("public Writer withCharset(Charset charset)");
+		line("return new Writer(charset, listener, properties);");
+		close();
+		line();
+		line("@Override");
+		open("public Writer withListener(Listener<%s> listener)", type);
+		line("return new Writer(charset, listener, properties);");
+		close();
+		line();
+		line("@Override");
+		line("@Deprecated");
+		open("public Writer setProperties(Map<String, Object> properties)");
+		line("return withProperties(properties);");
+		close();
+		line();
+		line("@Override");
+		open("public Writer withProperties(Map<String, Object> properties)");
+		line("return new Writer(charset, listener, properties == null ? Collections.emptyMap() : Collections.unmodifiableMap(new LinkedHashMap<>(properties)));");
+		close();
+		line();
+		line("@Override");
+		open("public String write(%s obj)", type);
+		line("RecordBuffer output = RecordBuffer.acquire();");
+		line();
+		open("try");
+		line("format(obj, output);");
+		line("return new String(output.array(), 0, output.size(), charset);");
+		dedent("} catch (FormatProcessingException e) {");
+		line("throw new FormatProcessingException(String.format(\"Unable to format object [%s]\", obj), e.getCause());");
+		dedent("} finally {");
+		line("output.release();");
+		close();
+		close();
+		line();
+		line("@Override");
+		open("public byte[] writeBytes(%s obj)", type);
+		line("RecordBuffer output = RecordBuffer.acquire();");
+		line();
+		open("try");
+		line("format(obj, output);");
+		line("return output.toByteArray();");
+		dedent("} finally {");
+		line("output.release();");
+		close();
+		close();
+		line();
+		line("@Override");
+		open("public int writeTo(%s obj, ByteBuffer buffer)", type);
+		line("RecordBuffer output = RecordBuffer.acquire();");
+		line();
+		open("try");
+		line("format(obj, output);");
+		line("output.writeTo(buffer);");
+		line("return output.size();");
+		dedent("} finally {");
+		line("output.release();");
+		close();
+		close();
+		line();
+		line("@Override");
+		open("public int writeTo(%s obj, IntFunction<ByteBuffer> buffers)", type);
+		line("RecordBuffer output = RecordBuffer.acquire();");
+		line();
+		open("try");
+		line("format(obj, output);");
+		line("output.writeTo(buffers.apply(output.size()));");
+		line("return output.size();");
+		dedent("} finally {");
+		line("output.release();");
+		close();
+		close();
+		line();
+		open("private void format(%s obj, RecordBuffer output)", type);
+		open("try");
+		line("Map<String, Object> fields = listener != null ? new LinkedHashMap<>() : null;");
+
+		for (int i = 0; i < fields.size(); i++) {
+			FormatTypeModel.Field field = fields.get(i);
+			String property = constants.apply(field.getProperty());
+			line();
+			line("// %s", field.getProperty());
+			line("%s value%d = %s;", field.getPropertyType(), i, field.getGetter());
+			open("if (value%d == null)", i);
+			line("value%d = (%s) properties.get(%s);", i, field.getPropertyType(), property);
+			close();
+
+			if (!field.getLiteral().isEmpty()) {
+				line("output.write(literal%d);", i);
+			}
+
+			line("output.write(value%d, descriptor%d, converter%d);", i, i, i);
+			open("if (fields != null)");
+			line("fields.put(%s, value%d);", property, i);
+			close();
+		}
+
+		line();
+		line("output.write(trailer);");
+		line();
+		open("if (listener != null)");
+		line("listener.postProcessing(obj, fields);");
+		close();
+		dedent("} catch (Exception e) {");
+		line("throw new FormatProcessingException(String.format(\"Unable to format object [%s]\", obj), e);");
+		close();
+		close();
+		close();
+	}
+
+	private void writeDescriptor() {
+		String[][] attributes = {
+				{ "String", "name" }, { "FormatField.Type", "type" }, { "Charset", "charset" }, { "int", "length" },
+				{ "int", "scale" }, { "String", "format" }, { "String", "locale" }, { "String", "zone" },
+				{ "String", "placeholder" }, { "boolean", "readOnly" }, { "Class<?>", "targetClass" } };
+
+		open("static final class Descriptor implements FormatFieldDescriptor");
+
+		for (String[] attribute : attributes) {
+			line("private final %s %s;", attribute[0], attribute[1]);
+		}
+
+		line("private final byte[] placeholderBytes;");
+
+		line();
+		StringBuilder parameters = new StringBuilder();
+
+		for (String[] attribute : attributes) {
+			parameters.append(parameters.length() == 0 ? "" : ", ").append(attribute[0]).append(' ').append(attribute[1]);
+		}
+
+		open("Descriptor(%s)", parameters);
+
+		for (String[] attribute : attributes) {
+			line("this.%s = %s;", attribute[1], attribute[1]);
+		}
+
+		line("this.placeholderBytes = placeholder.getBytes(charset);");
+		close();
+
+		for (String[] attribute : attributes) {
+			line();
+			line("@Override");
+			open("public %s %s()", attribute[0], attribute[1]);
+			line("return %s;", attribute[1]);
+			close();
+		}
+
+		line();
+		line("@Override");
+		open("public byte[] placeholderBytes()");
+		line("return placeholderBytes;");
+		close();
+		close();
+	}
+
+	private void line() {
+		out.append('\n');
+	}
+
+	private void line(final String format, final Object... args) {
+		for (int i = 0; i < indent; i++) {
+			out.append('\t');
+		}
+
+		out.append(args.length == 0 ? format : String.format(format, args)).append('\n');
+	}
+
+	private void open(final String format, final Object... args) {
+		line((args.length == 0 ? format : String.format(format, args)) + " {");
+		indent++;
+	}
+
+	private void dedent(final String text) {
+		indent--;
+		line(text);
+		indent++;
+	}
+
+	private void close() {
+		indent--;
+		line("}");
+	}
+
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2024 jFormat-B
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package format.bind.processor;
+
+import java.util.List;
+
+import lombok.Value;
+
+/**
+ * The compile time model of a text format type, i.e. the sequence of literal text and
+ * fields of its pattern.
+ *
+ * @author Yannick Ebongue
+ */
+@Value
+class FormatTypeModel {
+
+	/** The package name of the type. */
+	private String packageName;
+
+	/** The canonical name of the type. */
+	private String typeName;
+
+	/** The simple name of the generated factory class. */
+	private String factoryName;
+
+	/** The text format pattern of the type. */
+	private String pattern;
+
+	/** The fields of the pattern in order of appearance. */
+	private List<Field> fields;
+
+	/** The literal text following the last field of the pattern. */
+	private String trailer;
+
+	/**
+	 * A field of the text format pattern.
+	 */
+	@Value
+	static class Field {
+
+		/** The literal text between the previous field and this field. */
+		private String literal;
+
+		/** The bean property name. */
+		private String property;
+
+		/** The canonical name of the (boxed) property type. */
+		private String propertyType;
+
+		/** The expression reading the property value from the {@code obj} variable. */
+		private String getter;
+
+		/** The format of the statement writing the {@code %s} value into the {@code obj} variable, or {@code null}. */
+		private String setter;
+
+		/** The canonical name of the field converter class, or {@code null}. */
+		private String converterType;
+
+		/** The descriptor name. */
+		private String name;
+
+		/** The name of the {@code FormatField.Type} constant. */
+		private String type;
+
+		/** The charset name, or an empty string for the processor charset. */
+		private String charset;
+
+		/** The field length, {@code 0} for the remaining bytes. */
+		private int length;
+
+		private int scale;
+
+		private String format;
+
+		private String locale;
+
+		private String zone;
+
+		private String placeholder;
+
+		private boolean readOnly;
+
+		/** The canonical name of the target class. */
+		private String targetClass;
+
+	}
+
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright 2024 jFormat-B
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package format.bind.runtime.impl;
+
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.Map;
+
+import format.bind.annotation.FormatBitmap;
+import format.bind.annotation.FormatBitmap.Encoding;
+
+/**
+ * The compiled layout of a {@link FormatBitmap} field, i.e. its data elements by number
+ * and the encoding of its bitmaps.
+ *
+ * <p>
+ * The data elements are compiled once with the {@link FormatPlan}, so that processing
+ * a message only dispatches the present elements, found by walking the set bits of its
+ * bitmaps, to their properties.
+ * </p>
+ *
+ * @author Yannick Ebongue
+ */
+final class BitmapLayout {
+
+	/** The highest data element number, i.e. the number of bits of the primary and secondary bitmaps. */
+	static final int MAX_ELEMENTS = 128;
+
+	/** The bits of a bitmap. */
+	static final int WORD_BITS = Long.SIZE;
+
+	/** The hexadecimal digits of the {@link Encoding#HEX} encoding. */
+	private static final String HEX_DIGITS = "0123456789ABCDEF";
+
+	/** The data element properties by number, {@code null} for the undeclared ones. */
+	private final FormatPlan.Property[] elements;
+
+	/** The map keys of the data elements by number. */
+	private final String[] keys;
+
+	/** The encoded hexadecimal digits, or {@code null} for binary bitmaps. */
+	private final byte[] digits;
+
+	/** The values of the encoded hexadecimal digits by unsigned byte, {@code -1} for the other bytes, or {@code null}. */
+	private final byte[] digitValues;
+
+	/** The number of bytes of a bitmap. */
+	private final int wordSize;
+
+	BitmapLayout(final FormatBitmap bitmap, final FormatPlan.Property[] elements, final String[] keys, final Charset charset) {
+		this.elements = elements;
+		this.keys = keys;
+
+		if (bitmap.encoding() == Encoding.HEX) {
+			this.digits = HEX_DIGITS.getBytes(charset);
+
+			if (digits.length != HEX_DIGITS.length()) {
+				throw new IllegalArgumentException(String.format("Unsupported bitmap charset %s", charset));
+			}
+
+			// Also accept the lower case digits
+			byte[] lowerCaseDigits = HEX_DIGITS.toLowerCase().getBytes(charset);
+			this.digitValues = new byte[256];
+			Arrays.fill(digitValues, (byte) -1);
+
+			for (int i = 0; i < digits.length; i++) {
+				digitValues[lowerCaseDigits[i] & 0xFF] = (byte) i;
+				digitValues[digits[i] & 0xFF] = (byte) i;
+			}
+
+			this.wordSize = WORD_BITS / 4;
+		} else {
+			this.digits = null;
+			this.digitValues = null;
+			this.wordSize = WORD_BITS / 8;
+		}
+	}
+
+	/**
+	 * Returns the number of bytes of a bitmap.
+	 *
+	 * @return The bitmap size.
+	 */
+	int getWordSize() {
+		return wordSize;
+	}
+
+	/**
+	 * Returns the property of the given data element.
+	 *
+	 * @param number The data element number.
+	 * @return The data element property.
+	 * @throws IllegalArgumentException if the data element is not declared.
+	 */
+	FormatPlan.Property getElement(final int number) {
+		FormatPlan.Property element = number < elements.length ? elements[number] : null;
+
+		if (element == null) {
+			throw new IllegalArgumentException(String.format("Undeclared data element %d", number));
+		}
+
+		return element;
+	}
+
+	/**
+	 * Returns the map key of the given data element.
+	 *
+	 * @param number The data element number.
+	 * @return The map key.
+	 */
+	String getKey(final int number) {
+		return keys[number];
+	}
+
+	/**
+	 * Compute the primary and secondary bitmaps of the given data elements.
+	 *
+	 * @param values The data elements by key, or {@code null}.
+	 * @return The bitmaps, the secondary one being {@code 0} if absent.
+	 * @throws IllegalArgumentException if a present data element is not declared.
+	 */
+	long[] compute(final Map<?, ?> values) {
+		long[] words = new long[MAX_ELEMENTS / WORD_BITS];
+
+		if (values != null) {
+			for (Map.Entry<?, ?> entry : values.entrySet()) {
+				if (entry.getValue() != null) {
+					int number = number(String.valueOf(entry.getKey()));
+					words[(number - 1) / WORD_BITS] |= Long.MIN_VALUE >>> ((number - 1) % WORD_BITS);
+				}
+			}
+		}
+
+		if (words[1] != 0) {
+			words[0] |= Long.MIN_VALUE;
+		}
+
+		return words;
+	}
+
+	/**
+	 * Read the bitmap at the given offset.
+	 *
+	 * @param bytes The formatted byte array to read.
+	 * @param offset The index of the first byte of the bitmap.
+	 * @param available The number of bytes available for the bitmap.
+	 * @return The bitmap.
+	 * @throws IllegalArgumentException if the bitmap is truncated or invalid.
+	 */
+	long read(final byte[] bytes, final int offset, final int available) {
+		if (available < wordSize) {
+			throw new IllegalArgumentException(String.format("Truncated bitmap at offset %d", offset));
+		}
+
+		long word = 0;
+
+		for (int i = offset; i < offset + wordSize; i++) {
+			if (digitValues == null) {
+				word = (word << 8) | (bytes[i] & 0xFF);
+			} else {
+				int digit = digitValues[bytes[i] & 0xFF];
+
+				if (digit < 0) {
+					throw new IllegalArgumentException(String.format("Invalid bitmap digit at offset %d", i));
+				}
+
+				word = (word << 4) | digit;
+			}
+		}
+
+		return word;
+	}
+
+	/**
+	 * Write the given bitmap at the given offset.
+	 *
+	 * @param word The bitmap.
+	 * @param bytes The byte array receiving the bitmap.
+	 * @param offset The index of the first byte of the bitmap.
+	 */
+	void write(final long word, final byte[] bytes, final int offset) {
+		long rest = word;
+
+		for (int i = offset + wordSize - 1; i >= offset; i--) {
+			if (digits == null) {
+				bytes[i] = (byte) rest;
+				rest >>>= 8;
+			} else {
+				bytes[i] = digits[(int) (rest & 0x0F)];
+				rest >>>= 4;
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of the data element of the given key.
+	 *
+	 * @param key The map key of the data element.
+	 * @return The data element number.
+	 * @throws IllegalArgumentException if the data element is not declared.
+	 */
+	private int number(final String key) {
+		try {
+			int number = Integer.parseInt(key);
+
+			if (number > 1 && number < keys.length && key.equals(keys[number])) {
+				return number;
+			}
+		} catch (NumberFormatException e) {
+			// Not a data element number
+		}
+
+		throw new IllegalArgumentException(String.format("Undeclared data element '%s'", key));
+	}
+
+}
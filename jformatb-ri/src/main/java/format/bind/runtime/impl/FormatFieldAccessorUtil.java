@@ -134,7 +134,16 @@ FormatFieldAccessor getFieldAccessor(final Class<?> beanType, final String name)
 	 * @return The filtered list of field accessors.
 	 */
 	<A extends Annotation> List<FormatFieldAccessor> getFieldAccessors(final Strategy strategy, final Class<?> beanType, final Class<A> annotationType) {
-		return accessors.computeIfAbsent(beanType, type -> builders.get(strategy).apply(type)).stream()
+		List<FormatFieldAccessor> list = accessors.get(beanType);
+
+		if (list == null) {
+			// Unlike computeIfAbsent on Java 8, a lookup of a present type does not lock its bin
+			list = builders.get(strategy).apply(beanType);
+			List<FormatFieldAccessor> previous = accessors.putIfAbsent(beanType, list);
+			list = previous != null ? previous : list;
+		}
+
+		return list.stream()
 				.filter(accessor -> accessor.isAnnotationPresent(annotationType))
 				.collect(Collectors.toList());
 	}
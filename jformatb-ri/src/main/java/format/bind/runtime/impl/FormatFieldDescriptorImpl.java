@@ -21,9 +21,15 @@
 
 import format.bind.FormatFieldDescriptor;
 import format.bind.annotation.FormatField;
+import format.bind.annotation.FormatField.Prefix;
 import format.bind.annotation.FormatField.Type;
+import format.bind.runtime.impl.converter.ResolvedFieldDescriptor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import lombok.Value;
 import lombok.experimental.Accessors;
+import lombok.experimental.NonFinal;
 
 @Data
 @Accessors(fluent = true)
@@ -37,6 +43,8 @@ class FormatFieldDescriptorImpl implements FormatFieldDescriptor {
 
 	private int length;
 
+	private Prefix prefix = Prefix.NONE;
+
 	private int scale;
 
 	private String format;
@@ -61,6 +69,7 @@ public static final FormatFieldDescriptorImpl from(FormatField field, Charset ch
 						.map(Charset::forName)
 						.orElse(charset))
 				.length(field.length())
+				.prefix(field.prefix())
 				.scale(field.scale())
 				.format(field.format())
 				.locale(field.locale())
@@ -70,4 +79,83 @@ public static final FormatFieldDescriptorImpl from(FormatField field, Charset ch
 				.targetClass(field.targetClass());
 	}
 
+	/**
+	 * Returns an immutable copy of this descriptor, holding the data derived from the options.
+	 * 
+	 * <p>
+	 * The resolved descriptor of a prefixed field has no length, its values being converted
+	 * without padding, the maximum length being checked by the {@link LengthPrefix}.
+	 * </p>
+	 * 
+	 * @return The resolved field descriptor.
+	 */
+	FormatFieldDescriptor resolve() {
+		return new Resolved(this);
+	}
+
+	/**
+	 * An immutable field descriptor, resolved once per field of a compiled format, also
+	 * holding the format resolved by the converter of the field.
+	 */
+	@Value
+	@Accessors(fluent = true)
+	static class Resolved implements ResolvedFieldDescriptor {
+
+		private String name;
+
+		private Type type;
+
+		private Charset charset;
+
+		private int length;
+
+		private Prefix prefix;
+
+		private int scale;
+
+		private String format;
+
+		private String locale;
+
+		private String zone;
+
+		private String placeholder;
+
+		private boolean readOnly;
+
+		private Class<?> targetClass;
+
+		/** The encoded placeholder. */
+		@ToString.Exclude
+		private byte[] placeholderBytes;
+
+		/** The format resolved by the converter of the field. */
+		@NonFinal
+		@ToString.Exclude
+		@EqualsAndHashCode.Exclude
+		private volatile Object resolvedFormat;
+
+		private Resolved(final FormatFieldDescriptorImpl descriptor) {
+			this.name = descriptor.name();
+			this.type = descriptor.type();
+			this.charset = descriptor.charset();
+			this.length = descriptor.prefix() == Prefix.NONE ? descriptor.length() : 0;
+			this.prefix = descriptor.prefix();
+			this.scale = descriptor.scale();
+			this.format = descriptor.format();
+			this.locale = descriptor.locale();
+			this.zone = descriptor.zone();
+			this.placeholder = descriptor.placeholder();
+			this.readOnly = descriptor.readOnly();
+			this.targetClass = descriptor.targetClass();
+			this.placeholderBytes = descriptor.placeholderBytes();
+		}
+
+		@Override
+		public void resolvedFormat(final Object format) {
+			this.resolvedFormat = format;
+		}
+
+	}
+
 }
@@ -0,0 +1,716 @@
+/*
+ * Copyright 2024 jFormat-B
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package format.bind.runtime.impl;
+
+import static format.bind.runtime.impl.FormatUtil.*;
+
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.apache.commons.lang3.math.NumberUtils;
+
+import format.bind.FormatFieldAccessor;
+import format.bind.FormatFieldAccessor.Strategy;
+import format.bind.FormatFieldDescriptor;
+import format.bind.Formatter;
+import format.bind.annotation.FormatAccess;
+import format.bind.annotation.FormatBitmap;
+import format.bind.annotation.FormatField;
+import format.bind.annotation.FormatFieldConverter;
+import format.bind.annotation.FormatMapEntry;
+import format.bind.annotation.FormatMapEntryField;
+import format.bind.annotation.FormatTypeInfo;
+import format.bind.annotation.FormatTypeValue;
+import format.bind.converter.FieldConverter;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Value;
+
+/**
+ * The compiled form of a text format pattern for a given Java type and charset.
+ * 
+ * <p>
+ * A plan is compiled once per type, pattern and charset, then cached and shared by
+ * the {@link FormatReaderImpl} and the {@link FormatWriterImpl}. It contains the
+ * field slots of the pattern with their position, their resolved bean properties and
+ * the literal byte runs between them. The field descriptors and converters of each
+ * property are built on first use and kept with the plan, so that processing a
+ * record only consists of the byte conversions.
+ * </p>
+ * 
+ * <p>
+ * A plan is immutable once compiled and can be safely used by concurrent threads.
+ * </p>
+ * 
+ * @author Yannick Ebongue
+ */
+@Getter
+final class FormatPlan {
+
+	static final String REGEX = "\\$\\{(?<property>[^\\}]+)\\}";
+
+	static final String PROPERTY_GROUP = "property";
+
+	static final String INDEXED_PROP_FORMAT = "%s[%s]";
+	static final String MAPPED_PROP_FORMAT = "%s[\"%s\"]";
+
+	static final String OPEN_ENDED_REGEX = "\\[(\\d+::)?\\*\\]";
+	static final String OPEN_INDEX_REGEX = "\\[(?<start>\\d+)\\+\\]";
+
+	private static final Pattern PATTERN = Pattern.compile(REGEX);
+	private static final Pattern OPEN_ENDED_PATTERN = Pattern.compile(OPEN_ENDED_REGEX);
+	private static final Pattern OPEN_INDEX_PATTERN = Pattern.compile(OPEN_INDEX_REGEX);
+
+	/** The cache of compiled plans. */
+	private static final ConcurrentMap<Key, FormatPlan> plans = new ConcurrentHashMap<>();
+
+	/** The property name expression resolver used to compile plans. */
+	private static final PropertyResolver resolver = new PropertyResolver();
+
+	/** The class instance of the Java type processed by this plan. */
+	private final Class<?> type;
+
+	/** The text format pattern of this plan. */
+	private final String pattern;
+
+	/** The default charset of this plan. */
+	private final Charset charset;
+
+	/** The field slots of the pattern in order of appearance. */
+	private final List<Slot> slots;
+
+	/** The literal bytes following the last field slot of the pattern. */
+	private final byte[] trailer;
+
+	/** The length in bytes of the records of this plan, or {@code -1} for variable length records. */
+	@Getter(lazy = true)
+	private final int recordLength = computeRecordLength();
+
+	private FormatPlan(final Class<?> type, final String pattern, final Charset charset) {
+		this.type = type;
+		this.pattern = pattern;
+		this.charset = charset;
+
+		Strategy strategy = getStrategy(type);
+		FormatTypeInfo typeInfo = type.getAnnotation(FormatTypeInfo.class);
+		Matcher matcher = PATTERN.matcher(pattern);
+		List<Slot> list = new ArrayList<>();
+		int lastIndex = 0;
+
+		while (matcher.find()) {
+			String expression = matcher.group(PROPERTY_GROUP);
+			String[] options = expression.split(":");
+			String name = options[0].replace("..", "::");
+
+			// Resolve bean property names
+			Map<String, FormatFieldAccessor> resolvedProperties = new LinkedHashMap<>();
+			List<String> properties = resolveProperty(strategy, type, name, null, resolvedProperties);
+
+			boolean typeInfoField = typeInfo != null && typeInfo.fieldName().equals(name) && properties.isEmpty();
+
+			if (typeInfoField || !properties.isEmpty()) {
+				// Unresolved fields are processed as literal text
+				byte[] literal = pattern.substring(lastIndex, matcher.start()).getBytes(charset);
+				List<Property> slotProperties = properties.stream()
+						.map(property -> new Property(property, resolvedProperties.get(property), options))
+						.collect(Collectors.toList());
+				boolean openEnded = OPEN_ENDED_PATTERN.matcher(name).find();
+				BitmapLayout bitmap = slotProperties.size() == 1 ? compileBitmap(slotProperties.get(0)) : null;
+				list.add(new Slot(name, matcher.start(), matcher.end(), literal, typeInfoField, openEnded, bitmap,
+						Collections.unmodifiableList(slotProperties)));
+				lastIndex = matcher.end();
+			}
+		}
+
+		this.slots = Collections.unmodifiableList(list);
+		this.trailer = pattern.substring(lastIndex).getBytes(charset);
+	}
+
+	/**
+	 * Obtain the compiled plan of the given type, pattern and charset.
+	 * 
+	 * @param type The class instance of the Java type to process.
+	 * @param pattern The text format pattern.
+	 * @param charset The default charset for encoding or decoding operations.
+	 * @return The compiled plan.
+	 */
+	static FormatPlan of(final Class<?> type, final String pattern, final Charset charset) {
+		Key key = new Key(type, pattern, charset);
+		FormatPlan plan = plans.get(key);
+
+		if (plan == null) {
+			plan = new FormatPlan(type, pattern, charset);
+			FormatPlan previous = plans.putIfAbsent(key, plan);
+			plan = previous != null ? previous : plan;
+		}
+
+		return plan;
+	}
+
+	/**
+	 * Returns the type info value of the Java type processed by this plan.
+	 * 
+	 * @return The type info value.
+	 * @throws IllegalStateException if the type has no {@link FormatTypeValue}.
+	 */
+	String getTypeValue() {
+		return Optional.ofNullable(type.getAnnotation(FormatTypeValue.class))
+				.map(FormatTypeValue::value)
+				.orElseThrow(() -> new IllegalStateException(String.format("No type value found for class %s", type)));
+	}
+
+	/**
+	 * Compile the data elements of the given property if it is a {@link FormatBitmap} field.
+	 * 
+	 * @param property The property of a field slot.
+	 * @return The bitmap layout of the property, or {@code null}.
+	 * @throws IllegalArgumentException if a data element key is not a number from 2 to 128.
+	 */
+	private BitmapLayout compileBitmap(final Property property) {
+		FormatBitmap bitmap = property.getAccessor().getAnnotation(FormatBitmap.class);
+
+		if (bitmap == null || property.getName().endsWith("]")) {
+			return null;
+		}
+
+		Property[] elements = new Property[BitmapLayout.MAX_ELEMENTS + 1];
+		String[] keys = new String[BitmapLayout.MAX_ELEMENTS + 1];
+
+		for (FormatMapEntryField field : property.getAccessor().getAnnotationsByType(FormatMapEntryField.class)) {
+			for (String key : field.keys()) {
+				int number = NumberUtils.toInt(key, -1);
+
+				if (number < 2 || number > BitmapLayout.MAX_ELEMENTS || !String.valueOf(number).equals(key)) {
+					throw new IllegalArgumentException(String.format("Invalid data element '%s' of field %s", key, property.getName()));
+				}
+
+				String name = String.format(MAPPED_PROP_FORMAT, property.getName(), key);
+				elements[number] = new Property(name, property.getAccessor(), new String[] { name });
+				keys[number] = key;
+			}
+		}
+
+		return new BitmapLayout(bitmap, elements, keys, charset);
+	}
+
+	private int computeRecordLength() {
+		int length = trailer.length;
+
+		for (Slot slot : slots) {
+			length += slot.getLiteral().length;
+
+			if (slot.isTypeInfo()) {
+				length += type.getAnnotation(FormatTypeInfo.class).length();
+				continue;
+			}
+
+			if (slot.isOpenEnded() || slot.getBitmap() != null) {
+				return -1;
+			}
+
+			for (Property property : slot.getProperties()) {
+				if (property.isTemplate() || property.getTypeInfo() != null) {
+					return -1;
+				}
+
+				Class<?> propertyType = Optional.<Class<?>>ofNullable(property.getMappedType())
+						.orElseGet(() -> getFieldPropertyType(property.getAccessor()));
+				int fieldLength = property.bind(propertyType).getDescriptor().length();
+
+				if (fieldLength <= 0) {
+					return -1;
+				}
+
+				length += fieldLength;
+			}
+		}
+
+		return length;
+	}
+
+	private static Strategy getStrategy(final Class<?> resultType) {
+		return resultType.isAnnotationPresent(FormatAccess.class) && resultType.getAnnotation(FormatAccess.class).value() == FormatAccess.Type.PROPERTY ? Strategy.PROPERTY : Strategy.FIELD;
+	}
+
+	private static List<String> resolveProperty(final Strategy strategy, final Class<?> beanType, final String expression, final String parent, final Map<String, FormatFieldAccessor> resolvedProperties) {
+		if (resolver.hasNested(expression)) {
+			return resolveNestedProperty(strategy, beanType, expression, parent, resolvedProperties);
+		} else {
+			return resolveSimpleProperty(strategy, beanType, expression, parent, resolvedProperties);
+		}
+	}
+
+	private static List<String> resolveNestedProperty(final Strategy strategy, final Class<?> beanType, final String expression, final String parent, final Map<String, FormatFieldAccessor> resolvedProperties) {
+		String containerName = resolver.getProperty(expression);
+
+		// Find the field with FormatFieldContainer annotation that match the field name.
+		FormatFieldAccessor accessor = getFieldContainer(strategy, beanType, containerName);
+
+		if (accessor != null) {
+			final String property = new StringBuilder()
+					.append(parent == null ? "" : parent + ".")
+					.append(accessor.getName())
+					.toString();
+
+			Class<?> containerType = getFieldPropertyType(accessor);
+
+			if (resolver.isIndexed(expression)) {
+				return resolveIndexedNestedProperty(strategy, containerType, property, expression, resolvedProperties);
+			} else if (resolver.isMapped(expression)) {
+				return resolveMappedNestedProperty(strategy, containerType, property, expression, resolvedProperties);
+			}
+
+			return resolveProperty(strategy, containerType, resolver.remove(expression), property, resolvedProperties);
+		}
+
+		return Collections.emptyList();
+	}
+
+	private static List<String> resolveIndexedNestedProperty(final Strategy strategy, final Class<?> containerType, final String property, final String expression, final Map<String, FormatFieldAccessor> resolvedProperties) {
+		int index = resolver.getIndex(expression);
+
+		if (index == -1) {
+			int[] boundaries = resolver.getBoundaries(expression);
+			if (boundaries.length > 0) {
+				int startInclusive = boundaries[0];
+				int endInclusive = boundaries[1];
+
+				if (endInclusive == -1) {
+					return Stream.of(String.format(INDEXED_PROP_FORMAT, property, startInclusive + "+"))
+							.flatMap(prop -> resolveProperty(strategy, containerType, resolver.remove(expression), prop, resolvedProperties).stream())
+							.collect(Collectors.toList());
+				} else {
+					return IntStream.rangeClosed(startInclusive, Math.max(startInclusive, endInclusive))
+							.mapToObj(i -> String.format(INDEXED_PROP_FORMAT, property, i))
+							.flatMap(prop -> resolveProperty(strategy, containerType, resolver.remove(expression), prop, resolvedProperties).stream())
+							.collect(Collectors.toList());
+				}
+			}
+		} else {
+			return resolveProperty(strategy, containerType, resolver.remove(expression), String.format(INDEXED_PROP_FORMAT, property, index), resolvedProperties);
+		}
+
+		return Collections.emptyList();
+	}
+
+	private static List<String> resolveMappedNestedProperty(final Strategy strategy, final Class<?> containerType, final String property, final String expression, final Map<String, FormatFieldAccessor> resolvedProperties) {
+		return Optional.ofNullable(resolver.getKey(expression))
+				.map(keys -> Arrays.stream(keys.split(","))
+						.map(String::trim)
+						.map(key -> String.format(MAPPED_PROP_FORMAT, property, key))
+						.flatMap(prop -> resolveProperty(strategy, containerType, resolver.remove(expression), prop, resolvedProperties).stream())
+						.collect(Collectors.toList()))
+				.orElseGet(Collections::emptyList);
+	}
+
+	private static List<String> resolveSimpleProperty(final Strategy strategy, final Class<?> beanType, final String expression, final String parent, final Map<String, FormatFieldAccessor> resolvedProperties) {
+		String fieldName = resolver.getProperty(expression);
+
+		// Find the field with FormatField annotation that match the field name.
+		FormatFieldAccessor accessor = getField(strategy, beanType, fieldName);
+
+		// If the field was found then build the final property name.
+		if (accessor != null) {
+			final String property = new StringBuilder()
+					.append(parent == null ? "" : parent + ".")
+					.append(accessor.getName())
+					.toString();
+
+			if (resolver.isIndexed(expression)) {
+				return resolveIndexedSimpleProperty(accessor, property, expression, resolvedProperties);
+			} else if (resolver.isMapped(expression)) {
+				return resolveMappedSimpleProperty(accessor, property, expression, resolvedProperties);
+			}
+
+			resolvedProperties.put(property, accessor);
+
+			return Collections.singletonList(property);
+		}
+
+		// No property found for the given expression in the given bean type.
+		// Maybe the expression designates the type info name on superclass.
+		// This will be evaluated later by the processor.
+		return Collections.emptyList();
+	}
+
+	private static List<String> resolveIndexedSimpleProperty(final FormatFieldAccessor accessor, final String property, final String expression, final Map<String, FormatFieldAccessor> resolvedProperties) {
+		int index = resolver.getIndex(expression);
+
+		if (index == -1) {
+			int[] boundaries = resolver.getBoundaries(expression);
+
+			if (boundaries.length > 0) {
+				int startInclusive = boundaries[0];
+				int endInclusive = boundaries[1];
+
+				List<String> properties;
+
+				if (endInclusive == -1) {
+					properties = Collections.singletonList(String.format(INDEXED_PROP_FORMAT, property, startInclusive + "+"));
+				} else {
+					properties = IntStream.rangeClosed(startInclusive, Math.max(startInclusive, endInclusive))
+							.mapToObj(i -> String.format(INDEXED_PROP_FORMAT, property, i))
+							.collect(Collectors.toList());
+				}
+
+				properties.forEach(prop -> resolvedProperties.put(prop, accessor));
+
+				return Collections.unmodifiableList(properties);
+			}
+		} else {
+			String prop = String.format(INDEXED_PROP_FORMAT, property, index);
+			resolvedProperties.put(prop, accessor);
+			return Collections.singletonList(prop);
+		}
+
+		return Collections.emptyList();
+	}
+
+	private static List<String> resolveMappedSimpleProperty(final FormatFieldAccessor accessor, final String property, final String expression, final Map<String, FormatFieldAccessor> resolvedProperties) {
+		return Optional.ofNullable(resolver.getKey(expression))
+				.map(keys -> {
+					List<String> properties = Arrays.stream(keys.split(","))
+							.map(String::trim)
+							.map(key -> String.format(MAPPED_PROP_FORMAT, property, key))
+							.collect(Collectors.toList());
+
+					properties.forEach(prop -> resolvedProperties.put(prop, accessor));
+
+					return Collections.unmodifiableList(properties);
+				})
+				.orElseGet(Collections::emptyList);
+	}
+
+	/**
+	 * The key of a compiled plan in the cache.
+	 */
+	@Value
+	private static class Key {
+
+		private Class<?> type;
+
+		private String pattern;
+
+		private Charset charset;
+
+	}
+
+	/**
+	 * A field slot of the pattern, i.e. a {@code ${...}} expression.
+	 */
+	@Getter
+	@AllArgsConstructor(access = AccessLevel.PRIVATE)
+	static final class Slot {
+
+		/** The field name expression of this slot. */
+		private final String name;
+
+		/** The index of the first character of this slot in the pattern. */
+		private final int start;
+
+		/** The index after the last character of this slot in the pattern. */
+		private final int end;
+
+		/** The literal bytes between the previous slot and this slot. */
+		private final byte[] literal;
+
+		/** Whether this slot designates the type info field of the processed type. */
+		private final boolean typeInfo;
+
+		/** Whether this slot designates an open-ended list (e.g. {@code a[1..*]}). */
+		private final boolean openEnded;
+
+		/** The data elements of a {@link FormatBitmap} field, or {@code null}. */
+		private final BitmapLayout bitmap;
+
+		/** The resolved bean properties of this slot. */
+		private final List<Property> properties;
+
+	}
+
+	/**
+	 * A resolved bean property of a field slot.
+	 */
+	@Getter
+	final class Property {
+
+		/** The bean property name expression. */
+		private final String name;
+
+		/** The field accessor of the bean property. */
+		private final FormatFieldAccessor accessor;
+
+		/** The field options of the slot. */
+		private final String[] options;
+
+		/** The map entry property type if specified by a {@link FormatMapEntryField}. */
+		private final Class<?> mappedType;
+
+		/** The type info annotation used to resolve the actual property type from bytes. */
+		private final FormatTypeInfo typeInfo;
+
+		/** The name prefix and suffix around the open index, if any. */
+		private final String[] template;
+
+		/** The start value of the open index, if any. */
+		private final int startIndex;
+
+		/** The compiled path of the bean property, shared by the elements of an open-ended list. */
+		private final PropertyPath path;
+
+		/** The cache of the field bindings by property type. */
+		private final ConcurrentMap<Class<?>, Binding> bindings = new ConcurrentHashMap<>();
+
+		private Property(final String name, final FormatFieldAccessor accessor, final String[] options) {
+			this.name = name;
+			this.accessor = accessor;
+			this.options = options;
+			this.mappedType = getMappedPropertyType(accessor, name);
+			this.typeInfo = Optional.ofNullable(accessor.getAnnotation(FormatTypeInfo.class))
+					.orElse(getFieldPropertyType(accessor).getAnnotation(FormatTypeInfo.class));
+
+			Matcher matcher = OPEN_INDEX_PATTERN.matcher(name);
+
+			if (matcher.find()) {
+				this.template = new String[] { name.substring(0, matcher.start()), name.substring(matcher.end()) };
+				this.startIndex = Integer.parseInt(matcher.group("start"));
+			} else {
+				this.template = null;
+				this.startIndex = 0;
+			}
+
+			this.path = PropertyPath.of(name);
+		}
+
+		/**
+		 * Whether this property designates the elements of an open-ended list.
+		 * 
+		 * @return {@code true} if this property is open-ended.
+		 */
+		boolean isTemplate() {
+			return template != null;
+		}
+
+		/**
+		 * Returns the actual property name of the given element for open-ended list.
+		 * 
+		 * @param counter The number of elements already processed.
+		 * @return The actual property name.
+		 */
+		String expand(final int counter) {
+			if (template == null) {
+				return name;
+			}
+
+			return new StringBuilder()
+					.append(template[0])
+					.append('[')
+					.append(startIndex + counter)
+					.append(']')
+					.append(template[1])
+					.toString();
+		}
+
+		/**
+		 * Returns the actual property type of this property while reading the given bytes.
+		 * 
+		 * @param bytes The formatted byte array to read.
+		 * @param offset The index of the first byte of the record.
+		 * @return The property type.
+		 */
+		Class<?> getPropertyType(final byte[] bytes, final int offset) {
+			if (mappedType != null) {
+				return mappedType;
+			}
+
+			if (typeInfo != null) {
+				return getFieldPropertyType(accessor, bytes, offset, charset);
+			}
+
+			return getFieldPropertyType(accessor);
+		}
+
+		/**
+		 * Returns the actual property type of this property while writing the given value.
+		 * 
+		 * @param value The value to write.
+		 * @return The property type.
+		 */
+		Class<?> getPropertyType(final Object value) {
+			if (value == null && mappedType != null) {
+				return mappedType;
+			}
+
+			return getFieldPropertyType(accessor, value);
+		}
+
+		/**
+		 * Returns the field binding of this property for the given property type.
+		 * 
+		 * @param propertyType The actual property type.
+		 * @return The field binding.
+		 */
+		Binding bind(final Class<?> propertyType) {
+			Binding binding = bindings.get(propertyType);
+
+			if (binding == null) {
+				// Do not block the threads processing the same property while the binding is built
+				binding = newBinding(propertyType);
+				Binding previous = bindings.putIfAbsent(propertyType, binding);
+				binding = previous != null ? previous : binding;
+			}
+
+			return binding;
+		}
+
+		private <X> Binding newBinding(final Class<X> propertyType) {
+			FormatFieldDescriptorImpl descriptor = buildFieldDescriptor(propertyType);
+			Formatter<X> formatter = getFieldFormatter(propertyType);
+			FieldConverter<X> converter = formatter != null
+					? FieldConverter.provider().getConverter(formatter)
+					: getFieldConverter(propertyType);
+			return new Binding(descriptor.resolve(), converter, LengthPrefix.of(descriptor),
+					FormatReaderImpl.nested(formatter, descriptor.charset()), FormatWriterImpl.nested(formatter, descriptor.charset()));
+		}
+
+		private FormatFieldDescriptorImpl buildFieldDescriptor(final Class<?> propertyType) {
+			String target = resolver.getTarget(name);
+
+			if (resolver.isMapped(target)) {
+				String key = resolver.getKey(target);
+				FormatField field = Arrays.stream(accessor.getAnnotationsByType(FormatMapEntryField.class))
+						.filter(annotation -> Arrays.asList(annotation.keys()).contains(key))
+						.map(FormatMapEntryField::field)
+						.findFirst()
+						.orElse(accessor.getAnnotation(FormatField.class));
+				FormatFieldDescriptorImpl descriptor = FormatFieldDescriptorImpl.from(field, charset);
+
+				updateFieldDescriptorOptions(descriptor, name, options);
+
+				return descriptor;
+			}
+
+			// The overrides of the plan type only apply to its own properties, not to the nested ones
+			Class<?> beanType = path.getSegments().size() == 1 ? type : null;
+			return FormatUtil.buildFieldDescriptor(accessor, beanType, propertyType, charset, options);
+		}
+
+		private <X> FieldConverter<X> getFieldConverter(final Class<X> propertyType) {
+			String target = resolver.getTarget(name);
+
+			if (resolver.isMapped(target)) {
+				Class<? extends FieldConverter<X>> converterType = getMappedConverterType(resolver.getKey(target));
+
+				if (converterType != null) {
+					return FieldConverter.provider().getConverter(propertyType, converterType);
+				}
+			}
+
+			return FormatUtil.getFieldConverter(accessor, propertyType);
+		}
+
+		private <X> Formatter<X> getFieldFormatter(final Class<X> propertyType) {
+			String target = resolver.getTarget(name);
+
+			if (resolver.isMapped(target)) {
+				String key = resolver.getKey(target);
+
+				if (getMappedConverterType(key) != null) {
+					return null;
+				}
+
+				Formatter<X> formatter = Arrays.stream(accessor.getAnnotationsByType(FormatMapEntry.class))
+						.filter(annotation -> Arrays.asList(annotation.keys()).contains(key))
+						.map(FormatMapEntry::pattern)
+						.findFirst()
+						.map(Formatter.of(propertyType)::withPattern)
+						.orElse(null);
+
+				if (formatter != null) {
+					return formatter;
+				}
+			}
+
+			return FormatUtil.getFieldFormatter(accessor, propertyType);
+		}
+
+		@SuppressWarnings("unchecked")
+		private <X> Class<? extends FieldConverter<X>> getMappedConverterType(final String key) {
+			return (Class<? extends FieldConverter<X>>) Arrays.stream(accessor.getAnnotationsByType(FormatMapEntryField.class))
+					.filter(annotation -> Arrays.asList(annotation.keys()).contains(key))
+					.map(FormatMapEntryField::converter)
+					.findFirst()
+					.filter(clazz -> !FormatFieldConverter.DEFAULT.class.isAssignableFrom(clazz))
+					.orElse(null);
+		}
+
+	}
+
+	/**
+	 * The field descriptor and converter of a bean property for a given property type.
+	 */
+	@Value
+	static class Binding {
+
+		/** The text format field descriptor. */
+		private FormatFieldDescriptor descriptor;
+
+		/** The text format field converter. */
+		private FieldConverter<?> converter;
+
+		/** The length prefix of a variable length field, or {@code null}. */
+		private LengthPrefix prefix;
+
+		/** The reader of the nested format of the field, reading it directly from the record slice, or {@code null}. */
+		private FormatReaderImpl<?> reader;
+
+		/** The writer of the nested format of the field, formatting it directly into the record buffer, or {@code null}. */
+		private FormatWriterImpl<?> writer;
+
+	}
+
+	private static Class<?> getMappedPropertyType(final FormatFieldAccessor accessor, final String expression) {
+		String target = resolver.getTarget(expression);
+
+		if (resolver.isMapped(target)) {
+			String key = resolver.getKey(target);
+			return Arrays.stream(accessor.getAnnotationsByType(FormatMapEntryField.class))
+					.filter(annotation -> Arrays.asList(annotation.keys()).contains(key))
+					.map(FormatMapEntryField::field)
+					.map(FormatField::targetClass)
+					.findFirst()
+					.filter(targetClass -> !Void.class.isAssignableFrom(targetClass))
+					.orElse(null);
+		}
+
+		return null;
+	}
+
+}
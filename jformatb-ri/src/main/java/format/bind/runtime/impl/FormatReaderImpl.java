@@ -17,24 +17,22 @@
 
 import static format.bind.runtime.impl.FormatUtil.*;
 
-import java.lang.reflect.InvocationTargetException;
-import java.util.Arrays;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
 import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.ListIterator;
 import java.util.Map;
-import java.util.Optional;
-import java.util.regex.Matcher;
 
 import org.apache.commons.codec.binary.Hex;
 
-import format.bind.FormatFieldAccessor;
-import format.bind.FormatFieldAccessor.Strategy;
 import format.bind.FormatFieldDescriptor;
 import format.bind.FormatProcessingException;
 import format.bind.FormatReader;
+import format.bind.Formatter;
 import format.bind.annotation.FormatTypeInfo;
 import format.bind.converter.FieldConverter;
+import format.bind.runtime.impl.converter.FieldConverterProviderImpl;
+import format.bind.spi.RecordBuffer;
 
 /**
  * A runtime implementation of {@link FormatReader}.
@@ -46,13 +44,19 @@
 final class FormatReaderImpl<T> extends FormatProcessorImpl<T, FormatReaderImpl<T>>
 		implements FormatReader<T, FormatReaderImpl<T>> {
 
+	/** The dispatch index of the subtypes of the Java type to create. */
+	private final FormatTypeIndex index;
+
 	/**
 	 * Creates a new instance of {@code FormatReaderImpl}.
 	 * @param type The class instance of the Java object to create.
 	 * @param pattern The pattern of the text format to read.
+	 * @param charset The default charset for decoding operations.
+	 * @param listener The post processing event callback, or {@code null} for none.
 	 */
-	private FormatReaderImpl(final Class<T> type, final String pattern) {
-		super(type, pattern);
+	private FormatReaderImpl(final Class<T> type, final String pattern, final Charset charset, final Listener<T> listener) {
+		super(type, pattern, charset, listener);
+		this.index = FormatTypeIndex.of(type, this.charset);
 	}
 
 	/**
@@ -63,13 +67,37 @@ private FormatReaderImpl(final Class<T> type, final String pattern) {
 	 * @return A new instance of {@code FormatReaderImpl}.
 	 */
 	public static <T> FormatReaderImpl<T> of(final Class<T> type, final String pattern) {
-		return new FormatReaderImpl<>(type, pattern);
+		return new FormatReaderImpl<>(type, pattern, null, null);
+	}
+
+	/**
+	 * Obtain the reader of the given nested format, to read the nested values directly
+	 * from the slices of the parent record.
+	 * @param <T> The type of the nested object.
+	 * @param formatter The formatter of the nested format, or {@code null}.
+	 * @param charset The charset of the parent field.
+	 * @return The runtime reader of the nested format, or {@code null} if the field is not
+	 * 		parsed by the field converter of the runtime implementation.
+	 */
+	@SuppressWarnings("unchecked")
+	static <T> FormatReaderImpl<T> nested(final Formatter<T> formatter, final Charset charset) {
+		if (formatter == null || FieldConverter.provider().getClass() != FieldConverterProviderImpl.class) {
+			return null;
+		}
+
+		FormatReader<T, ?> reader = formatter.reader();
+		return reader instanceof FormatReaderImpl ? ((FormatReaderImpl<T>) reader).withCharset(charset) : null;
+	}
+
+	@Override
+	FormatReaderImpl<T> copy(final Charset charset, final Listener<T> listener) {
+		return new FormatReaderImpl<>(type, pattern, charset, listener);
 	}
 
 	@Override
 	public T read(final String text) {
 		try {
-			return readBytes(text.getBytes(charset.get()));
+			return readBytes(text.getBytes(charset));
 		} catch (FormatProcessingException e) {
 			throw handleException(text, e.getCause());
 		} catch (Exception e) {
@@ -80,97 +108,246 @@ public T read(final String text) {
 	@Override
 	public T readBytes(byte[] bytes) throws FormatProcessingException {
 		try {
-			T obj = createObject(bytes);
-			Class<?> resultType = obj.getClass();
-			Strategy strategy = getStrategy(resultType);
+			return readRecord(bytes, 0, bytes.length, null);
+		} catch (Exception e) {
+			throw handleException(bytes, 0, bytes.length, e);
+		}
+	}
+
+	@Override
+	public T readBuffer(final ByteBuffer buffer) throws FormatProcessingException {
+		if (buffer.hasArray()) {
+			byte[] bytes = buffer.array();
+			int offset = buffer.arrayOffset() + buffer.position();
+
+			try {
+				return readRecord(bytes, offset, buffer.remaining(), buffer);
+			} catch (Exception e) {
+				throw handleException(bytes, offset, buffer.remaining(), e);
+			}
+		}
 
-			String pattern = getPattern(resultType);
-			Matcher matcher = compile(pattern);
+		// Copy the record (or the remaining bytes when its length is unknown) of a direct buffer,
+		// e.g. a mapped window of a RecordFile, the converters reading byte arrays
+		RecordBuffer record = RecordBuffer.acquire();
 
-			Map<String, Object> resolvedValues = new LinkedHashMap<>();
+		try {
+			int recordLength = getRecordLength();
+			record.load(buffer, recordLength > 0 ? Math.min(recordLength, buffer.remaining()) : buffer.remaining());
+			return readRecord(record.array(), 0, record.size(), buffer);
+		} catch (Exception e) {
+			throw handleException(record.array(), 0, record.size(), e);
+		} finally {
+			record.release();
+		}
+	}
 
-			int lastIndex = 0;
-			int matcherEnd = 0;
+	@Override
+	public int getRecordLength() {
+		// The subtypes of a type info base type may have different lengths
+		return type.isAnnotationPresent(FormatTypeInfo.class) ? -1 : getPlan(type).getRecordLength();
+	}
 
-			FormatTypeInfo typeInfo = resultType.getAnnotation(FormatTypeInfo.class);
+	/**
+	 * Read a record from the given byte array slice.
+	 * @param bytes The formatted byte array to read.
+	 * @param offset The index of the first byte of the record.
+	 * @param length The number of bytes available for the record.
+	 * @param buffer The buffer to advance by the number of bytes consumed, or {@code null}.
+	 * @return The newly created Java object.
+	 * @throws Exception if an error occurs during the read process.
+	 */
+	private T readRecord(final byte[] bytes, final int offset, final int length, final ByteBuffer buffer) throws Exception {
+		FormatTypeIndex.Entry entry = index.get(bytes, offset);
+		T obj = type.cast(entry.newInstance());
+		FormatPlan plan = pattern == null ? entry.getPlan() : getPlan(entry.getType());
+
+		Map<String, Object> resolvedValues = new LinkedHashMap<>();
+		int lastIndex = 0;
+		int matcherEnd = 0;
+
+		for (FormatPlan.Slot slot : plan.getSlots()) {
+			if (slot.isTypeInfo()) {
+				FormatTypeInfo typeInfo = type.getAnnotation(FormatTypeInfo.class);
+				int start = slot.getStart() - matcherEnd + lastIndex;
+				matcherEnd = slot.getEnd();
+				lastIndex = start + typeInfo.length();
+				String value = new String(bytes, offset + start, typeInfo.length(), charset);
+
+				resolvedValues.put(slot.getName(), value);
+
+				continue;
+			}
 
-			while (matcher.find()) {
-				String expression = matcher.group(PROPERTY_GROUP);
-				String[] parts = expression.split(":");
-				String name = parts[0].replace("..", "::");
+			if (slot.getBitmap() != null) {
+				int start = slot.getStart() - matcherEnd + lastIndex;
+				matcherEnd = slot.getEnd();
+				lastIndex = readElements(obj, slot.getBitmap(), bytes, offset, start, length, resolvedValues);
+				continue;
+			}
 
-				// Resolve bean property name
-				List<String> properties = resolveProperty(strategy, resultType, name, null);
+			List<FormatPlan.Property> properties = slot.getProperties();
+			int index = 0;
+			int counter = 0;
+			while (index < properties.size()) {
+				FormatPlan.Property property = properties.get(index);
+				String name = property.expand(counter);
 
-				if (isTypeInfoFieldAbsent(typeInfo, name, properties)) {
-					int start = matcher.start() - matcherEnd + lastIndex;
-					matcherEnd = matcher.end();
-					lastIndex = start + typeInfo.length();
-					String value = new String(bytes, start, typeInfo.length(), charset.get());
+				if (!property.isTemplate()) {
+					index++;
+				}
+
+				Class<?> propertyType = property.getPropertyType(bytes, offset);
+				FormatPlan.Binding binding = property.bind(propertyType);
+				FormatFieldDescriptor descriptor = binding.getDescriptor();
 
-					resolvedValues.put(name, value);
+				int start = slot.getStart() - matcherEnd + lastIndex;
 
-					continue;
+				if (start == length) {
+					break;
 				}
 
-				ListIterator<String> iterator = properties.listIterator();
-				int counter = 0;
-				while (iterator.hasNext()) {
-					String property = nextProperty(iterator, counter);
+				LengthPrefix prefix = binding.getPrefix();
 
-					FormatFieldAccessor accessor = resolvedProperties.get(property);
-					Class<?> propertyType = getPropertyType(accessor, property, bytes);
-					FormatFieldDescriptor descriptor = buildFieldDescriptor(accessor, property, propertyType, parts);
-					FieldConverter<?> converter = getFieldConverter(accessor, property, propertyType);
+				if (prefix != null) {
+					int valueLength = prefix.read(bytes, offset + start, length - start);
+					start += prefix.size();
+					lastIndex = start + valueLength;
+				} else {
+					int fieldLength = descriptor.length() > 0 ? descriptor.length() : length;
+					lastIndex = Math.min((start + fieldLength), length);
+				}
 
-					int start = matcher.start() - matcherEnd + lastIndex;
+				matcherEnd = slot.getEnd();
 
-					if (start == bytes.length) {
-						break;
-					}
+				// An empty prefixed value is null
+				Object value = lastIndex == start ? null : readValue(binding, bytes, offset + start, lastIndex - start);
+
+				resolvedValues.put(name, value);
 
-					int length = Optional.of(descriptor.length())
-							.filter(value -> value > 0)
-							.orElse(bytes.length);
+				// Set field value if not null && not read only
+				if (isValid(value, descriptor)) {
+					setValue(obj, property.getPath(), counter, value, bytes, offset);
+				}
 
-					lastIndex = Math.min((start + length), bytes.length);
-					matcherEnd = matcher.end();
+				counter++;
 
-					byte[] source = Arrays.copyOfRange(bytes, start, lastIndex);
+				if (property.isTemplate() || index < properties.size()) {
+					matcherEnd = slot.getStart();
+				}
+			}
 
-					Object value = parseByteArrayFieldValue(source, descriptor, converter);
+		}
 
-					resolvedValues.put(property, value);
+		if (listening) {
+			listener.postProcessing(obj, resolvedValues);
+		}
 
-					// Set field value if not null && not read only
-					if (isValid(value, descriptor)) {
-						setValue(obj, property, value, bytes);
-					}
+		if (buffer != null) {
+			// The trailing literal text is consumed but not checked
+			buffer.position(buffer.position() + Math.min(lastIndex + plan.getTrailer().length, length));
+		}
+
+		return obj;
+	}
+
+	/**
+	 * Read the bitmaps at the given position, then the data elements of their set bits.
+	 * @param obj The object to update.
+	 * @param bitmap The layout of the bitmap field.
+	 * @param bytes The formatted byte array to read.
+	 * @param offset The index of the first byte of the record.
+	 * @param start The index of the primary bitmap, relative to the record.
+	 * @param length The number of bytes available for the record.
+	 * @param resolvedValues The map receiving the parsed field values, or {@code null}.
+	 * @return The index after the last data element, relative to the record.
+	 * @throws Exception if an error occurs during the read process.
+	 */
+	private int readElements(final T obj, final BitmapLayout bitmap, final byte[] bytes, final int offset, final int start,
+			final int length, final Map<String, Object> resolvedValues) throws Exception {
+		int position = start;
+		long[] words = new long[BitmapLayout.MAX_ELEMENTS / BitmapLayout.WORD_BITS];
+
+		for (int i = 0; i < words.length && (i == 0 || words[0] < 0); i++) {
+			words[i] = bitmap.read(bytes, offset + position, length - position);
+			position += bitmap.getWordSize();
+		}
 
-					if (++counter < properties.size()) {
-						matcherEnd = matcher.start();
+		for (int i = 0; i < words.length; i++) {
+			// Walk the set bits in order of data element number, skipping the secondary bitmap bit
+			long bits = Long.reverse(i == 0 ? words[i] & Long.MAX_VALUE : words[i]);
+
+			while (bits != 0) {
+				int number = i * BitmapLayout.WORD_BITS + Long.numberOfTrailingZeros(bits) + 1;
+				bits &= bits - 1;
+
+				FormatPlan.Property element = bitmap.getElement(number);
+				FormatPlan.Binding binding = element.bind(element.getPropertyType(bytes, offset));
+				FormatFieldDescriptor descriptor = binding.getDescriptor();
+				LengthPrefix prefix = binding.getPrefix();
+				int valueLength;
+
+				if (prefix != null) {
+					valueLength = prefix.read(bytes, offset + position, length - position);
+					position += prefix.size();
+				} else {
+					valueLength = descriptor.length();
+
+					// A data element must have a length or a length prefix
+					if (valueLength <= 0 || valueLength > length - position) {
+						throw new IllegalArgumentException(String.format("Invalid data element %d at offset %d", number, position));
 					}
 				}
 
+				Object value = valueLength == 0 ? null : readValue(binding, bytes, offset + position, valueLength);
+				position += valueLength;
+
+				if (resolvedValues != null) {
+					resolvedValues.put(element.getName(), value);
+				}
+
+				if (isValid(value, descriptor)) {
+					setValue(obj, element.getPath(), 0, value, bytes, offset);
+				}
 			}
+		}
 
-			listener.get().postProcessing(obj, resolvedValues);
+		return position;
+	}
 
-			return obj;
-		} catch (Exception e) {
-			throw handleException(bytes, e);
+	/**
+	 * Read the value of a field from the given slice, with the nested reader of the binding
+	 * if any, otherwise with its converter.
+	 * @param binding The field binding.
+	 * @param bytes The formatted byte array to read.
+	 * @param offset The index of the first byte of the value.
+	 * @param length The number of bytes of the value.
+	 * @return The value, or {@code null} for a placeholder.
+	 * @throws Exception if an error occurs during the read process.
+	 */
+	private static Object readValue(final FormatPlan.Binding binding, final byte[] bytes, final int offset, final int length) throws Exception {
+		FormatReaderImpl<?> reader = binding.getReader();
+
+		if (reader == null) {
+			return parseByteArrayFieldValue(bytes, offset, length, binding.getDescriptor(), binding.getConverter());
 		}
+
+		// A placeholder is null, as with the converter of the nested format
+		return matches(bytes, offset, length, binding.getDescriptor().placeholderBytes()) ? null : reader.readRecord(bytes, offset, length, null);
 	}
 
-	private T createObject(final byte[] bytes) throws InstantiationException, IllegalAccessException, InvocationTargetException, NoSuchMethodException {
-		if (type.isAnnotationPresent(FormatTypeInfo.class)) {
-			FormatTypeInfo typeInfo = type.getAnnotation(FormatTypeInfo.class);
-			String typeValue = new String(bytes, typeInfo.start(), typeInfo.length(), charset.get());
-			Class<? extends T> subType = getFormatSubType(type, typeValue);
-			return subType.getConstructor().newInstance();
+	private static boolean matches(final byte[] bytes, final int offset, final int length, final byte[] placeholder) {
+		if (placeholder.length != length) {
+			return false;
+		}
+
+		for (int i = 0; i < length; i++) {
+			if (bytes[offset + i] != placeholder[i]) {
+				return false;
+			}
 		}
 
-		return type.getConstructor().newInstance();
+		return true;
 	}
 
 	private static boolean isValid(final Object value, final FormatFieldDescriptor descriptor) {
@@ -181,8 +358,8 @@ private static FormatProcessingException handleException(final String text, fina
 		return new FormatProcessingException(String.format("Unable to parse text [%s]", text), exception);
 	}
 
-	private static FormatProcessingException handleException(final byte[] bytes, final Throwable exception) {
-		return new FormatProcessingException(String.format("Unable to parse byte array [%s]", Hex.encodeHexString(bytes, false)), exception);
+	private static FormatProcessingException handleException(final byte[] bytes, final int offset, final int length, final Throwable exception) {
+		return new FormatProcessingException(String.format("Unable to parse byte array [%s]", new String(Hex.encodeHex(bytes, offset, length, false))), exception);
 	}
 
 }
@@ -0,0 +1,257 @@
+/*
+ * Copyright 2024 jFormat-B
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package format.bind.runtime.impl;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.nio.charset.Charset;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import format.bind.annotation.Format;
+import format.bind.annotation.FormatSubTypes;
+import format.bind.annotation.FormatTypeInfo;
+import format.bind.annotation.FormatTypeValue;
+import lombok.Getter;
+import lombok.Value;
+
+/**
+ * The dispatch index of the {@link FormatSubTypes subtypes} of a base type, by the encoded
+ * bytes of their {@link FormatTypeValue type values}.
+ * 
+ * <p>
+ * The index is built once per base type and charset. The type value of a record is looked
+ * up directly in the formatted bytes, in an open addressing hash table, without decoding
+ * it into a {@code String}. Each subtype is kept with its constructor and its compiled plan.
+ * </p>
+ * 
+ * @author Yannick Ebongue
+ */
+final class FormatTypeIndex {
+
+	/** The type of the constructor handles. */
+	private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+
+	/** The cache of the built indexes. */
+	private static final ConcurrentMap<Key, FormatTypeIndex> indexes = new ConcurrentHashMap<>();
+
+	/** The type info of the base type, or {@code null}. */
+	private final FormatTypeInfo typeInfo;
+
+	/** The entry of the base type, returned for unknown type values. */
+	private final Entry base;
+
+	/** The encoded type values of the hash table, or {@code null} for free slots. */
+	private final byte[][] values;
+
+	/** The subtype entries of the hash table. */
+	private final Entry[] entries;
+
+	/** The mask of the hash table indexes. */
+	private final int mask;
+
+	private FormatTypeIndex(final Class<?> type, final Charset charset) {
+		List<? extends Class<?>> subTypes = FormatUtil.getFormatSubTypes(type);
+		int capacity = Integer.highestOneBit(Math.max(subTypes.size(), 1) * 4 - 1) << 1;
+
+		this.typeInfo = type.getAnnotation(FormatTypeInfo.class);
+		this.base = new Entry(type, charset);
+		this.values = new byte[capacity][];
+		this.entries = new Entry[capacity];
+		this.mask = capacity - 1;
+
+		for (Class<?> subType : subTypes) {
+			Entry entry = new Entry(subType, charset);
+
+			for (FormatTypeValue typeValue : subType.getDeclaredAnnotationsByType(FormatTypeValue.class)) {
+				byte[] value = typeValue.value().getBytes(charset);
+				int index = hash(value, 0, value.length) & mask;
+
+				while (values[index] != null && !equals(values[index], value, 0, value.length)) {
+					index = (index + 1) & mask;
+				}
+
+				// The first subtype declaring a type value wins
+				if (values[index] == null) {
+					values[index] = value;
+					entries[index] = entry;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Obtain the dispatch index of the given base type.
+	 * 
+	 * @param type The base type.
+	 * @param charset The charset of the type values.
+	 * @return The dispatch index.
+	 */
+	static FormatTypeIndex of(final Class<?> type, final Charset charset) {
+		Key key = new Key(type, charset);
+		FormatTypeIndex index = indexes.get(key);
+
+		if (index == null) {
+			index = new FormatTypeIndex(type, charset);
+			FormatTypeIndex previous = indexes.putIfAbsent(key, index);
+			index = previous != null ? previous : index;
+		}
+
+		return index;
+	}
+
+	/**
+	 * Returns the entry of the actual type of the given record, i.e. the subtype of the
+	 * type value of the record if the base type has a {@link FormatTypeInfo}, or the base type.
+	 * 
+	 * @param bytes The formatted byte array.
+	 * @param offset The index of the first byte of the record.
+	 * @return The entry of the record type.
+	 */
+	Entry get(final byte[] bytes, final int offset) {
+		return typeInfo != null ? get(bytes, offset + typeInfo.start(), typeInfo.length()) : base;
+	}
+
+	/**
+	 * Returns the entry of the subtype of the type value contained in the given slice.
+	 * 
+	 * @param bytes The formatted byte array.
+	 * @param offset The index of the first byte of the type value.
+	 * @param length The length of the type value.
+	 * @return The subtype entry, or the entry of the base type if the type value is unknown.
+	 */
+	Entry get(final byte[] bytes, final int offset, final int length) {
+		for (int index = hash(bytes, offset, length) & mask; values[index] != null; index = (index + 1) & mask) {
+			if (equals(values[index], bytes, offset, length)) {
+				return entries[index];
+			}
+		}
+
+		return base;
+	}
+
+	private static int hash(final byte[] bytes, final int offset, final int length) {
+		int hash = 1;
+
+		for (int i = offset; i < offset + length; i++) {
+			hash = 31 * hash + bytes[i];
+		}
+
+		// Spread the higher bits, the table being indexed by the lower bits
+		return hash ^ (hash >>> 16);
+	}
+
+	private static boolean equals(final byte[] value, final byte[] bytes, final int offset, final int length) {
+		if (value.length != length) {
+			return false;
+		}
+
+		for (int i = 0; i < length; i++) {
+			if (value[i] != bytes[offset + i]) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * The key of a dispatch index in the cache.
+	 */
+	@Value
+	private static class Key {
+
+		private Class<?> type;
+
+		private Charset charset;
+
+	}
+
+	/**
+	 * A (sub)type of the index.
+	 */
+	static final class Entry {
+
+		/** The class instance of the type. */
+		@Getter
+		private final Class<?> type;
+
+		/** The charset of the index. */
+		private final Charset charset;
+
+		/** The constructor handle of type {@code ()Object}, or {@code null} if the type has no public no-arg constructor. */
+		private final MethodHandle constructor;
+
+		/** The compiled plan of the type with its own pattern, resolved on first use. */
+		private volatile FormatPlan plan;
+
+		private Entry(final Class<?> type, final Charset charset) {
+			this.type = type;
+			this.charset = charset;
+			this.constructor = findConstructor(type);
+		}
+
+		/**
+		 * Creates a new instance of the type.
+		 * 
+		 * @return The new instance.
+		 * @throws ReflectiveOperationException if the type cannot be instantiated.
+		 */
+		Object newInstance() throws ReflectiveOperationException {
+			if (constructor == null) {
+				// Report the actual error
+				return type.getConstructor().newInstance();
+			}
+
+			try {
+				return (Object) constructor.invokeExact();
+			} catch (Throwable e) {
+				throw new InvocationTargetException(e);
+			}
+		}
+
+		/**
+		 * Returns the compiled plan of the type with the pattern of its {@link Format}
+		 * annotation.
+		 * 
+		 * @return The compiled plan.
+		 */
+		FormatPlan getPlan() {
+			FormatPlan result = plan;
+
+			if (result == null) {
+				Format format = type.getAnnotation(Format.class);
+				result = FormatPlan.of(type, format != null ? format.pattern() : null, charset);
+				plan = result;
+			}
+
+			return result;
+		}
+
+		private static MethodHandle findConstructor(final Class<?> type) {
+			try {
+				return MethodHandles.lookup().unreflectConstructor(type.getConstructor()).asType(CONSTRUCTOR_TYPE);
+			} catch (ReflectiveOperationException | RuntimeException e) {
+				return null;
+			}
+		}
+
+	}
+
+}
@@ -34,7 +34,6 @@
 
 import org.apache.commons.lang3.ClassUtils;
 import org.apache.commons.lang3.function.Failable;
-import org.apache.commons.lang3.reflect.MethodUtils;
 
 import format.bind.FormatFieldAccessor;
 import format.bind.FormatFieldAccessor.Strategy;
@@ -64,10 +63,21 @@ class FormatUtil {
 
 		private Function<String, T> extractor;
 
+		/** The value of the option in a {@link FormatField}, or {@code null} if it has the default value. */
+		private Function<FormatField, T> attribute;
+
 		void accept(FormatFieldDescriptorImpl descriptor, String value) {
 			setter.accept(descriptor, extractor.apply(value));
 		}
 
+		void override(FormatFieldDescriptorImpl descriptor, FormatField field) {
+			T value = attribute.apply(field);
+
+			if (value != null) {
+				setter.accept(descriptor, value);
+			}
+		}
+
 	}
 
 	private static final String FORMAT_FIELD_OPTION_KEY = "key";
@@ -75,28 +85,52 @@ void accept(FormatFieldDescriptorImpl descriptor, String value) {
 	private static final String FORMAT_FIELD_OPTION_FLAG = "flag";
 	private static final String FORMAT_FIELD_OPTION_REGEX = String.format("\\-\\-(?<%s>\\w+)=(?<%s>[\\w\\.\\-\\[\\]\\\\/,;:'_]+)|\\-\\-(?<%s>\\w+)",
 			FORMAT_FIELD_OPTION_KEY, FORMAT_FIELD_OPTION_VALUE, FORMAT_FIELD_OPTION_FLAG);
+	private static final Pattern FORMAT_FIELD_OPTION_PATTERN = Pattern.compile(FORMAT_FIELD_OPTION_REGEX);
+	private static final Pattern FORMAT_FIELD_LENGTH_PATTERN = Pattern.compile("\\d+");
 
 	private Map<String, FieldDescriptorSetter<?>> fieldDescriptorSetters = new HashMap<>();
 
 	static {
-		registerFieldDescriptorSetter("name", FieldDescriptorSetter.of(FormatFieldDescriptorImpl::name, Function.identity()));
-		registerFieldDescriptorSetter("type", FieldDescriptorSetter.of(FormatFieldDescriptorImpl::type, FormatField.Type::valueOf));
-		registerFieldDescriptorSetter("charset", FieldDescriptorSetter.of(FormatFieldDescriptorImpl::charset, Charset::forName));
-		registerFieldDescriptorSetter("length", FieldDescriptorSetter.of(FormatFieldDescriptorImpl::length, Integer::parseInt));
-		registerFieldDescriptorSetter("scale", FieldDescriptorSetter.of(FormatFieldDescriptorImpl::scale, Integer::parseInt));
-		registerFieldDescriptorSetter("format", FieldDescriptorSetter.of(FormatFieldDescriptorImpl::format, Function.identity()));
-		registerFieldDescriptorSetter("locale", FieldDescriptorSetter.of(FormatFieldDescriptorImpl::locale, Function.identity()));
-		registerFieldDescriptorSetter("zone", FieldDescriptorSetter.of(FormatFieldDescriptorImpl::zone, Function.identity()));
-		registerFieldDescriptorSetter("placeholder", FieldDescriptorSetter.of(FormatFieldDescriptorImpl::placeholder, Function.identity()));
-		registerFieldDescriptorSetter("readOnly", FieldDescriptorSetter.of(FormatFieldDescriptorImpl::readOnly, Boolean::parseBoolean));
-		registerFieldDescriptorSetter("targetClass", FieldDescriptorSetter.of(FormatFieldDescriptorImpl::targetClass, Failable.asFunction(ClassUtils::getClass)));
+		registerFieldDescriptorSetter("name", FormatFieldDescriptorImpl::name, Function.identity(), FormatField::name, Function.identity());
+		registerFieldDescriptorSetter("type", FormatFieldDescriptorImpl::type, FormatField.Type::valueOf, FormatField::type, Function.identity());
+		registerFieldDescriptorSetter("charset", FormatFieldDescriptorImpl::charset, Charset::forName, FormatField::charset, Charset::forName);
+		registerFieldDescriptorSetter("length", FormatFieldDescriptorImpl::length, Integer::parseInt, FormatField::length, Function.identity());
+		registerFieldDescriptorSetter("prefix", FormatFieldDescriptorImpl::prefix, FormatField.Prefix::valueOf, FormatField::prefix, Function.identity());
+		registerFieldDescriptorSetter("scale", FormatFieldDescriptorImpl::scale, Integer::parseInt, FormatField::scale, Function.identity());
+		registerFieldDescriptorSetter("format", FormatFieldDescriptorImpl::format, Function.identity(), FormatField::format, Function.identity());
+		registerFieldDescriptorSetter("locale", FormatFieldDescriptorImpl::locale, Function.identity(), FormatField::locale, Function.identity());
+		registerFieldDescriptorSetter("zone", FormatFieldDescriptorImpl::zone, Function.identity(), FormatField::zone, Function.identity());
+		registerFieldDescriptorSetter("placeholder", FormatFieldDescriptorImpl::placeholder, Function.identity(), FormatField::placeholder, Function.identity());
+		registerFieldDescriptorSetter("readOnly", FormatFieldDescriptorImpl::readOnly, Boolean::parseBoolean, FormatField::readOnly, Function.identity());
+		registerFieldDescriptorSetter("targetClass", FormatFieldDescriptorImpl::targetClass, Failable.asFunction(ClassUtils::getClass), FormatField::targetClass, Function.identity());
 	}
 
-	private <T> void registerFieldDescriptorSetter(final String key, final FieldDescriptorSetter<T> setter) {
-		fieldDescriptorSetters.put(key, setter);
+	/**
+	 * Register the setter of a field descriptor option.
+	 * 
+	 * @param <A> The type of the {@link FormatField} attribute of the option.
+	 * @param <T> The type of the option value.
+	 * @param key The name of the option, which is also the name of the {@link FormatField} attribute.
+	 * @param setter The field descriptor setter.
+	 * @param extractor The function returning the value of an inline option text.
+	 * @param attribute The {@link FormatField} attribute accessor.
+	 * @param mapper The function returning the value of an attribute.
+	 */
+	private <A, T> void registerFieldDescriptorSetter(final String key, final BiConsumer<FormatFieldDescriptorImpl, T> setter,
+			final Function<String, T> extractor, final Function<FormatField, A> attribute, final Function<A, T> mapper) {
+		try {
+			// The default value of the attribute, looked up once
+			Object defaultValue = FormatField.class.getDeclaredMethod(key).getDefaultValue();
+			fieldDescriptorSetters.put(key, FieldDescriptorSetter.of(setter, extractor, field -> {
+				A value = attribute.apply(field);
+				return Objects.equals(defaultValue, value) ? null : mapper.apply(value);
+			}));
+		} catch (NoSuchMethodException e) {
+			throw new IllegalStateException(String.format("Unknown field option '%s'", key), e);
+		}
 	}
 
-	private <T> List<Class<? extends T>> getFormatSubTypes(final Class<T> superclass) {
+	<T> List<Class<? extends T>> getFormatSubTypes(final Class<T> superclass) {
 		List<Class<? extends T>> subclasses = new ArrayList<>();
 
 		if (superclass.isAnnotationPresent(FormatSubTypes.class)) {
@@ -112,14 +146,6 @@ private <T> List<Class<? extends T>> getFormatSubTypes(final Class<T> superclass
 		return subclasses;
 	}
 
-	<T> Class<? extends T> getFormatSubType(final Class<T> type, final String typeValue) {
-		return getFormatSubTypes(type).stream()
-				.filter(subclass -> Arrays.stream(subclass.getDeclaredAnnotationsByType(FormatTypeValue.class))
-						.anyMatch(annotation -> annotation.value().equals(typeValue)))
-				.findFirst()
-				.orElse(type);
-	}
-
 	private <A extends Annotation> FormatFieldAccessor getField(final Strategy strategy, final Class<?> beanType, final String name, final Class<A> annotationType, final Function<A, String> annotationName) {
 		return FormatFieldAccessorUtil.getFieldAccessors(strategy, beanType, annotationType).stream()
 				.filter(field -> annotationName.apply(field.getAnnotation(annotationType)).equals(name) || field.getName().equals(name))
@@ -148,22 +174,36 @@ FormatFieldAccessor getFieldOverride(final Class<?> beanClass, final String name
 	@SuppressWarnings("unchecked")
 	<T> FieldConverter<T> getFieldConverter(final FormatFieldAccessor accessor, final Class<T> type) {
 		FieldConverterProvider provider = FieldConverter.provider();
-		FieldConverter<T> converter = null;
+		Formatter<T> formatter = getFieldFormatter(accessor, type);
 
-		if (accessor.isAnnotationPresent(FormatFieldConverter.class)) {
-			converter = provider.getConverter(type, (Class<? extends FieldConverter<T>>) accessor.getAnnotation(FormatFieldConverter.class).value());
-		} else if (accessor.isAnnotationPresent(Format.class)) {
-			converter = provider.getConverter(Formatter.of(type).withPattern(accessor.getAnnotation(Format.class).pattern()));
+		if (formatter != null) {
+			return provider.getConverter(formatter);
+		} else if (accessor.isAnnotationPresent(FormatFieldConverter.class)) {
+			return provider.getConverter(type, (Class<? extends FieldConverter<T>>) accessor.getAnnotation(FormatFieldConverter.class).value());
 		} else {
-			converter = provider.getConverter(type);
+			return provider.getConverter(type);
 		}
+	}
 
-		if (converter == null) {
+	/**
+	 * Returns the {@link Formatter} of the given field, if the field is formatted by another format.
+	 * 
+	 * @param <T> The type of the field.
+	 * @param accessor The field accessor.
+	 * @param type The actual type of the field.
+	 * @return The formatter of the field, or {@code null} if the field has a field converter.
+	 */
+	<T> Formatter<T> getFieldFormatter(final FormatFieldAccessor accessor, final Class<T> type) {
+		if (accessor.isAnnotationPresent(FormatFieldConverter.class)) {
+			return null;
+		} else if (accessor.isAnnotationPresent(Format.class)) {
+			return Formatter.of(type).withPattern(accessor.getAnnotation(Format.class).pattern());
+		} else if (FieldConverter.provider().getConverter(type) == null) {
 			// Use formatter converter to parse this field
-			converter = provider.getConverter(Formatter.of(type));
+			return Formatter.of(type);
+		} else {
+			return null;
 		}
-
-		return converter;
 	}
 
 	Class<?> getFieldPropertyType(final FormatFieldAccessor accessor, final Object value) {
@@ -171,15 +211,14 @@ Class<?> getFieldPropertyType(final FormatFieldAccessor accessor, final Object v
 		return getFieldPropertyType(type, accessor.getGenericType());
 	}
 
-	Class<?> getFieldPropertyType(final FormatFieldAccessor accessor, final byte[] bytes, final Charset charset) {
+	Class<?> getFieldPropertyType(final FormatFieldAccessor accessor, final byte[] bytes, final int offset, final Charset charset) {
 		Class<?> propertyType = getFieldPropertyType(accessor);
 
 		FormatTypeInfo typeInfo = Optional.ofNullable(accessor.getAnnotation(FormatTypeInfo.class))
 				.orElse(propertyType.getAnnotation(FormatTypeInfo.class));
 
 		if (typeInfo != null) {
-			String typeValue = new String(bytes, typeInfo.start(), typeInfo.length(), charset);
-			propertyType = getFormatSubType(propertyType, typeValue);
+			propertyType = FormatTypeIndex.of(propertyType, charset).get(bytes, offset + typeInfo.start(), typeInfo.length()).getType();
 		}
 
 		return propertyType;
@@ -223,9 +262,18 @@ Object parseByteArrayFieldValue(final byte[] source, final FormatFieldDescriptor
 		return converter.parseBytes(descriptor, source);
 	}
 
-	FormatFieldDescriptorImpl buildFieldDescriptor(final FormatFieldAccessor accessor, final Class<?> propertyType, final Charset charset, final String[] options) {
+	Object parseByteArrayFieldValue(final byte[] source, final int offset, final int length, final FormatFieldDescriptor descriptor, final FieldConverter<?> converter) {
+		return converter.parseBytes(descriptor, source, offset, length);
+	}
+
+	FormatFieldDescriptorImpl buildFieldDescriptor(final FormatFieldAccessor accessor, final Class<?> beanType, final Class<?> propertyType, final Charset charset, final String[] options) {
 		FormatFieldDescriptorImpl descriptor = FormatFieldDescriptorImpl.from(accessor.getAnnotation(FormatField.class), charset);
 
+		if (beanType != null) {
+			// Override the fields mapped on a superclass of the bean
+			applyTypeOverrides(descriptor, accessor, beanType);
+		}
+
 		applyOverrides(descriptor, accessor, propertyType);
 
 		updateFieldDescriptorOptions(descriptor, accessor.getName(), options);
@@ -240,13 +288,13 @@ void updateFieldDescriptorOptions(FormatFieldDescriptorImpl descriptor, String n
 		}
 
 		if (options.length > 1) {
-			if (options[1].matches("\\d+")) {
+			if (FORMAT_FIELD_LENGTH_PATTERN.matcher(options[1]).matches()) {
 				// Override annotation field length
 				descriptor.length(Integer.parseInt(options[1]));
 			} else {
 				// Override annotation options
 				try {
-					Matcher matcher = Pattern.compile(FORMAT_FIELD_OPTION_REGEX).matcher(options[1]);
+					Matcher matcher = FORMAT_FIELD_OPTION_PATTERN.matcher(options[1]);
 					while (matcher.find()) {
 						Optional.ofNullable(matcher.group(FORMAT_FIELD_OPTION_KEY)).ifPresent(
 								key -> fieldDescriptorSetters.get(key).accept(descriptor, matcher.group(FORMAT_FIELD_OPTION_VALUE)));
@@ -267,16 +315,20 @@ void updateFieldDescriptorOptions(FormatFieldDescriptorImpl descriptor, String n
 	}
 
 	void applyOverrides(final FormatFieldDescriptorImpl descriptor, final FormatFieldAccessor accessor, final Class<?> propertyType) {
-		List<Class<?>> superclasses = ClassUtils.getAllSuperclasses(propertyType);
+		applyTypeOverrides(descriptor, accessor, propertyType);
 
-		superclasses.add(0, propertyType);
+		applyOverrides(descriptor, accessor, accessor.getDeclaredAnnotationsByType(FormatFieldOverride.class));
+	}
+
+	void applyTypeOverrides(final FormatFieldDescriptorImpl descriptor, final FormatFieldAccessor accessor, final Class<?> type) {
+		List<Class<?>> superclasses = ClassUtils.getAllSuperclasses(type);
+
+		superclasses.add(0, type);
 
 		Collections.reverse(superclasses);
 
 		superclasses.forEach(
 				cls -> applyOverrides(descriptor, accessor, cls.getDeclaredAnnotationsByType(FormatFieldOverride.class)));
-
-		applyOverrides(descriptor, accessor, accessor.getDeclaredAnnotationsByType(FormatFieldOverride.class));
 	}
 
 	void applyOverrides(final FormatFieldDescriptorImpl descriptor, final FormatFieldAccessor accessor, final FormatFieldOverride[] overrides) {
@@ -287,15 +339,8 @@ void applyOverrides(final FormatFieldDescriptorImpl descriptor, final FormatFiel
 	}
 
 	void applyOverride(final FormatFieldDescriptorImpl descriptor, final FormatFieldOverride override) {
-		FormatField field = override.field();
-		Class<FormatField> type = FormatField.class;
-		fieldDescriptorSetters.keySet().forEach(Failable.asConsumer(name -> {
-			Object defaultValue = type.getDeclaredMethod(name).getDefaultValue();
-			Object fieldValue = MethodUtils.invokeExactMethod(field, name);
-			Object descriptorValue = MethodUtils.invokeExactMethod(descriptor, name);
-			Object value = Objects.equals(defaultValue, fieldValue) ? descriptorValue : fieldValue;
-			MethodUtils.invokeExactMethod(descriptor, name, value);
-		}));
+		// Only the attributes that differ from their default value override the descriptor
+		fieldDescriptorSetters.values().forEach(setter -> setter.override(descriptor, override.field()));
 	}
 
 }
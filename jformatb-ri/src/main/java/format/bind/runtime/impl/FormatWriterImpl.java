@@ -15,26 +15,21 @@
  */
 package format.bind.runtime.impl;
 
-import static format.bind.runtime.impl.FormatUtil.*;
-
-import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.ListIterator;
 import java.util.Map;
 import java.util.Optional;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.function.IntFunction;
 
-import format.bind.FormatFieldAccessor;
-import format.bind.FormatFieldAccessor.Strategy;
-import format.bind.FormatFieldDescriptor;
 import format.bind.FormatProcessingException;
 import format.bind.FormatWriter;
-import format.bind.annotation.FormatTypeInfo;
-import format.bind.annotation.FormatTypeValue;
+import format.bind.Formatter;
 import format.bind.converter.FieldConverter;
+import format.bind.runtime.impl.converter.FieldConverterProviderImpl;
+import format.bind.spi.RecordBuffer;
 
 /**
  * A runtime implementation of {@link FormatWriter}.
@@ -47,15 +42,20 @@
 		implements FormatWriter<T, FormatWriterImpl<T>> {
 
 	/** The map containing additional text field properties. */
-	private Map<String, Object> additionalProperties = Collections.emptyMap();
+	private final Map<String, Object> additionalProperties;
 
 	/**
 	 * Creates a new instance of {@code FormatWriterImpl}.
 	 * @param type The class instance of the Java object to format.
 	 * @param pattern The pattern of the text format to write.
+	 * @param charset The default charset for encoding operations.
+	 * @param listener The post processing event callback, or {@code null} for none.
+	 * @param additionalProperties The additional text field properties.
 	 */
-	private FormatWriterImpl(final Class<T> type, final String pattern) {
-		super(type, pattern);
+	private FormatWriterImpl(final Class<T> type, final String pattern, final Charset charset, final Listener<T> listener,
+			final Map<String, Object> additionalProperties) {
+		super(type, pattern, charset, listener);
+		this.additionalProperties = additionalProperties;
 	}
 
 	/**
@@ -66,21 +66,51 @@ private FormatWriterImpl(final Class<T> type, final String pattern) {
 	 * @return A new instance of {@code FormatWriterImpl}.
 	 */
 	public static <T> FormatWriterImpl<T> of(final Class<T> type, final String pattern) {
-		return new FormatWriterImpl<>(type, pattern);
+		return new FormatWriterImpl<>(type, pattern, null, null, Collections.emptyMap());
+	}
+
+	/**
+	 * Obtain the writer of the given nested format, to format the nested values directly
+	 * into the record buffer of the parent record.
+	 * @param <T> The type of the nested object.
+	 * @param formatter The formatter of the nested format, or {@code null}.
+	 * @param charset The charset of the parent field.
+	 * @return The runtime writer of the nested format, or {@code null} if the field is not
+	 * 		formatted by the field converter of the runtime implementation.
+	 */
+	@SuppressWarnings("unchecked")
+	static <T> FormatWriterImpl<T> nested(final Formatter<T> formatter, final Charset charset) {
+		if (formatter == null || FieldConverter.provider().getClass() != FieldConverterProviderImpl.class) {
+			return null;
+		}
+
+		FormatWriter<T, ?> writer = formatter.writer();
+		return writer instanceof FormatWriterImpl ? ((FormatWriterImpl<T>) writer).withCharset(charset) : null;
+	}
+
+	@Override
+	FormatWriterImpl<T> copy(final Charset charset, final Listener<T> listener) {
+		return new FormatWriterImpl<>(type, pattern, charset, listener, additionalProperties);
 	}
 
 	@Override
+	@Deprecated
 	public FormatWriterImpl<T> setProperties(final Map<String, Object> properties) {
-		additionalProperties = Optional.ofNullable(properties)
-				.map(Collections::unmodifiableMap)
+		return withProperties(properties);
+	}
+
+	@Override
+	public FormatWriterImpl<T> withProperties(final Map<String, Object> properties) {
+		Map<String, Object> map = Optional.ofNullable(properties)
+				.<Map<String, Object>>map(value -> Collections.unmodifiableMap(new LinkedHashMap<>(value)))
 				.orElseGet(Collections::emptyMap);
-		return this;
+		return new FormatWriterImpl<>(type, pattern, charset, listening ? listener : null, map);
 	}
 
 	@Override
 	public String write(final T obj) throws FormatProcessingException {
 		try {
-			return new String(writeBytes(obj), charset.get());
+			return new String(writeBytes(obj), charset);
 		} catch (FormatProcessingException e) {
 			throw handleException(obj, e.getCause());
 		} catch (Exception e) {
@@ -90,75 +120,178 @@ public String write(final T obj) throws FormatProcessingException {
 
 	@Override
 	public byte[] writeBytes(T obj) throws FormatProcessingException {
+		RecordBuffer output = RecordBuffer.acquire();
+
 		try {
-			ByteArrayOutputStream output = new ByteArrayOutputStream();
-			Class<?> resultType = obj.getClass();
-			Strategy strategy = getStrategy(resultType);
+			writeRecord(obj, output);
+			return output.toByteArray();
+		} finally {
+			output.release();
+		}
+	}
 
-			String pattern = getPattern(resultType);
-			Matcher matcher = compile(pattern);
+	@Override
+	public int writeTo(final T obj, final ByteBuffer buffer) throws FormatProcessingException {
+		RecordBuffer output = RecordBuffer.acquire();
 
-			Map<String, Object> resolvedValues = new LinkedHashMap<>();
+		try {
+			writeRecord(obj, output);
+			output.writeTo(buffer);
+			return output.size();
+		} finally {
+			output.release();
+		}
+	}
 
-			FormatTypeInfo typeInfo = resultType.getAnnotation(FormatTypeInfo.class);
+	@Override
+	public int writeTo(final T obj, final IntFunction<ByteBuffer> buffers) throws FormatProcessingException {
+		RecordBuffer output = RecordBuffer.acquire();
 
-			int lastIndex = 0;
+		try {
+			writeRecord(obj, output);
+			output.writeTo(buffers.apply(output.size()));
+			return output.size();
+		} finally {
+			output.release();
+		}
+	}
 
-			while (matcher.find()) {
-				String expression = matcher.group(PROPERTY_GROUP);
-				String[] parts = expression.split(":");
-				String name = parts[0].replace("..", "::");
+	/**
+	 * Write the given object into the given record buffer, e.g. the buffer of a parent record.
+	 * @param obj The Java object to serialize.
+	 * @param output The buffer receiving the formatted bytes.
+	 * @throws FormatProcessingException if an error occurs during the write process.
+	 */
+	void writeRecord(final T obj, final RecordBuffer output) throws FormatProcessingException {
+		try {
+			FormatPlan plan = getPlan(obj.getClass());
+			Map<String, Object> resolvedValues = new LinkedHashMap<>();
 
-				// Resolve bean property name
-				List<String> properties = resolveProperty(strategy, resultType, name, null);
+			for (FormatPlan.Slot slot : plan.getSlots()) {
+				if (slot.isTypeInfo()) {
+					String value = plan.getTypeValue();
+					output.write(slot.getLiteral());
+					output.write(value.getBytes(charset));
 
-				if (isTypeInfoFieldAbsent(typeInfo, name, properties)) {
-					String value = resultType.getAnnotation(FormatTypeValue.class).value();
-					output.write(pattern.substring(lastIndex, matcher.start()).getBytes(charset.get()));
-					output.write(value.getBytes(charset.get()));
-					lastIndex = matcher.end();
+					resolvedValues.put(slot.getName(), value);
 
-					resolvedValues.put(name, value);
+					continue;
+				}
 
+				if (slot.getBitmap() != null) {
+					output.write(slot.getLiteral());
+					writeElements(obj, slot.getBitmap(), slot.getProperties().get(0), output, resolvedValues);
 					continue;
 				}
 
-				ListIterator<String> iterator = properties.listIterator();
+				List<FormatPlan.Property> properties = slot.getProperties();
+				int index = 0;
 				int counter = 0;
-				while (iterator.hasNext()) {
-					String property = nextProperty(iterator, counter);
-					Object value = Optional.ofNullable(getValue(obj, property))
-							.orElse(additionalProperties.get(property));
+				while (index < properties.size()) {
+					FormatPlan.Property property = properties.get(index);
+					String name = property.expand(counter);
+
+					if (!property.isTemplate()) {
+						index++;
+					}
 
-					if (value == null && Pattern.compile("\\[(\\d+::)?\\*\\]").matcher(name).find()) {
-						lastIndex = matcher.end();
+					Object value = Optional.ofNullable(getValue(obj, property.getPath(), counter))
+							.orElse(additionalProperties.get(name));
+
+					if (value == null && slot.isOpenEnded()) {
 						break;
 					}
 
-					FormatFieldAccessor accessor = resolvedProperties.get(property);
-					Class<?> propertyType = getPropertyType(accessor, property, value);
-					FormatFieldDescriptor descriptor = buildFieldDescriptor(accessor, property, propertyType, parts);
-					FieldConverter<?> converter = getFieldConverter(accessor, property, propertyType);
+					FormatPlan.Binding binding = property.bind(property.getPropertyType(value));
 
-					output.write(pattern.substring(lastIndex, matcher.start()).getBytes(charset.get()));
-					output.write(formatByteArrayFieldValue(value, descriptor, converter));
-					resolvedValues.put(property, value);
-					lastIndex = ++counter < properties.size() ? matcher.start() : matcher.end();
-				}
-			}
+					if (counter == 0) {
+						output.write(slot.getLiteral());
+					}
 
-			if (lastIndex < pattern.length()) {
-				output.write(pattern.substring(lastIndex, pattern.length()).getBytes(charset.get()));
+					writeValue(output, value, binding);
+					resolvedValues.put(name, value);
+					counter++;
+				}
 			}
 
-			listener.get().postProcessing(obj, resolvedValues);
+			output.write(plan.getTrailer());
 
-			return output.toByteArray();
+			listener.postProcessing(obj, resolvedValues);
 		} catch (Exception e) {
 			throw handleException(obj, e);
 		}
 	}
 
+	/**
+	 * Write the bitmaps of the data elements of the given object, then its present data elements.
+	 * @param obj The Java object to serialize.
+	 * @param bitmap The layout of the bitmap field.
+	 * @param property The map property of the data elements.
+	 * @param output The buffer receiving the formatted bytes.
+	 * @param resolvedValues The map receiving the formatted field values.
+	 * @throws ReflectiveOperationException if the data elements cannot be read.
+	 */
+	private void writeElements(final T obj, final BitmapLayout bitmap, final FormatPlan.Property property, final RecordBuffer output,
+			final Map<String, Object> resolvedValues) throws ReflectiveOperationException {
+		Map<?, ?> values = (Map<?, ?>) Optional.ofNullable(getValue(obj, property.getPath(), 0))
+				.orElse(additionalProperties.get(property.getName()));
+		long[] words = bitmap.compute(values);
+
+		for (int i = 0; i < words.length && (i == 0 || words[0] < 0); i++) {
+			int position = output.reserve(bitmap.getWordSize());
+			bitmap.write(words[i], output.array(), position);
+		}
+
+		for (int i = 0; i < words.length; i++) {
+			// Walk the set bits in order of data element number, skipping the secondary bitmap bit
+			long bits = Long.reverse(i == 0 ? words[i] & Long.MAX_VALUE : words[i]);
+
+			while (bits != 0) {
+				int number = i * BitmapLayout.WORD_BITS + Long.numberOfTrailingZeros(bits) + 1;
+				bits &= bits - 1;
+
+				FormatPlan.Property element = bitmap.getElement(number);
+				Object value = values.get(bitmap.getKey(number));
+				FormatPlan.Binding binding = element.bind(element.getPropertyType(value));
+
+				writeValue(output, value, binding);
+				resolvedValues.put(element.getName(), value);
+			}
+		}
+	}
+
+	/**
+	 * Append the formatted bytes of the given field value with the given binding, i.e. its
+	 * length prefix, if any, followed by the value.
+	 *
+	 * <p>
+	 * The room of the prefix is reserved first, and the prefix is written once the length
+	 * of the value is known. A value of a nested format is written directly into the
+	 * buffer by the writer of the binding, if any.
+	 * </p>
+	 *
+	 * @param output The buffer receiving the formatted bytes.
+	 * @param value The value to format.
+	 * @param binding The field binding of the value.
+	 * @throws format.bind.converter.FieldConversionException if there is an error during the conversion.
+	 * @throws FormatProcessingException if there is an error during the nested format processing.
+	 */
+	@SuppressWarnings("unchecked")
+	private static void writeValue(final RecordBuffer output, final Object value, final FormatPlan.Binding binding) {
+		LengthPrefix prefix = binding.getPrefix();
+		int start = prefix != null ? output.reserve(prefix.size()) : output.size();
+
+		if (value != null && binding.getWriter() != null) {
+			((FormatWriterImpl<Object>) binding.getWriter()).writeRecord(value, output);
+		} else {
+			output.write(value, binding.getDescriptor(), (FieldConverter<Object>) binding.getConverter());
+		}
+
+		if (prefix != null) {
+			prefix.write(output.size() - start - prefix.size(), output.array(), start);
+		}
+	}
+
 	private static FormatProcessingException handleException(final Object obj, final Throwable exception) {
 		return new FormatProcessingException(String.format("Unable to format object [%s]", obj), exception);
 	}
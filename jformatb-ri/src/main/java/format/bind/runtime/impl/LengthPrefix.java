@@ -0,0 +1,191 @@
+/*
+ * Copyright 2024 jFormat-B
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package format.bind.runtime.impl;
+
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+import format.bind.FormatFieldDescriptor;
+import format.bind.annotation.FormatField.Prefix;
+
+/**
+ * The length prefix of a variable length field, read and written by the processors
+ * around the unpadded value of the field.
+ *
+ * <p>
+ * A prefix is resolved once per field binding: the decimal digits of the character
+ * prefixes are encoded up front in the charset of the field, so that the prefixes are
+ * read and written directly as bytes.
+ * </p>
+ *
+ * @author Yannick Ebongue
+ *
+ * @see Prefix
+ */
+final class LengthPrefix {
+
+	/** The decimal digits encoded by the character prefixes. */
+	private static final String DIGITS = "0123456789";
+
+	/** The kind of this prefix. */
+	private final Prefix prefix;
+
+	/** The number of bytes of this prefix. */
+	private final int size;
+
+	/** The maximum length of the field values. */
+	private final int maxLength;
+
+	/** The encoded digits of a character prefix, or {@code null}. */
+	private final byte[] digits;
+
+	/** The values of the encoded digits by unsigned byte, {@code -1} for the other bytes, or {@code null}. */
+	private final byte[] digitValues;
+
+	private LengthPrefix(final Prefix prefix, final int size, final int capacity, final int length, final Charset charset) {
+		this.prefix = prefix;
+		this.size = size;
+		this.maxLength = length > 0 ? Math.min(length, capacity) : capacity;
+
+		if (prefix == Prefix.LL || prefix == Prefix.LLL || prefix == Prefix.LLLL) {
+			this.digits = DIGITS.getBytes(charset);
+
+			if (digits.length != DIGITS.length()) {
+				throw new IllegalArgumentException(String.format("Unsupported length prefix charset %s", charset));
+			}
+
+			this.digitValues = new byte[256];
+			Arrays.fill(digitValues, (byte) -1);
+
+			for (int i = 0; i < digits.length; i++) {
+				digitValues[digits[i] & 0xFF] = (byte) i;
+			}
+		} else {
+			this.digits = null;
+			this.digitValues = null;
+		}
+	}
+
+	/**
+	 * Obtain the length prefix of the given field.
+	 *
+	 * @param descriptor The unresolved field descriptor, whose length is the maximum length of the values.
+	 * @return The length prefix, or {@code null} if the field has a fixed length.
+	 * @throws IllegalArgumentException if the digits of the charset of the field are not single bytes.
+	 */
+	static LengthPrefix of(final FormatFieldDescriptor descriptor) {
+		switch (descriptor.prefix()) {
+		case LL:
+			return new LengthPrefix(Prefix.LL, 2, 99, descriptor.length(), descriptor.charset());
+		case LLL:
+			return new LengthPrefix(Prefix.LLL, 3, 999, descriptor.length(), descriptor.charset());
+		case LLLL:
+			return new LengthPrefix(Prefix.LLLL, 4, 9999, descriptor.length(), descriptor.charset());
+		case BCD_LL:
+			return new LengthPrefix(Prefix.BCD_LL, 1, 99, descriptor.length(), null);
+		case BCD_LLL:
+			return new LengthPrefix(Prefix.BCD_LLL, 2, 999, descriptor.length(), null);
+		case BINARY_1:
+			return new LengthPrefix(Prefix.BINARY_1, 1, 0xFF, descriptor.length(), null);
+		case BINARY_2:
+			return new LengthPrefix(Prefix.BINARY_2, 2, 0xFFFF, descriptor.length(), null);
+		default:
+			return null;
+		}
+	}
+
+	/**
+	 * Returns the number of bytes of this prefix.
+	 *
+	 * @return The prefix size.
+	 */
+	int size() {
+		return size;
+	}
+
+	/**
+	 * Read the length of the value following the prefix at the given offset.
+	 *
+	 * @param bytes The formatted byte array to read.
+	 * @param offset The index of the first byte of the prefix.
+	 * @param available The number of bytes available for the prefix and the value.
+	 * @return The length of the value.
+	 * @throws IllegalArgumentException if the prefix is invalid or exceeds the available bytes.
+	 */
+	int read(final byte[] bytes, final int offset, final int available) {
+		if (available < size) {
+			throw new IllegalArgumentException(String.format("Truncated %s length prefix at offset %d", prefix, offset));
+		}
+
+		int length = 0;
+
+		for (int i = offset; i < offset + size; i++) {
+			int value = bytes[i] & 0xFF;
+
+			if (digitValues != null) {
+				length = length * 10 + digit(digitValues[value], offset);
+			} else if (prefix == Prefix.BCD_LL || prefix == Prefix.BCD_LLL) {
+				length = length * 100 + digit(value >> 4, offset) * 10 + digit(value & 0x0F, offset);
+			} else {
+				length = (length << 8) | value;
+			}
+		}
+
+		if (length > maxLength || length > available - size) {
+			throw new IllegalArgumentException(String.format("Invalid %s length prefix %d at offset %d", prefix, length, offset));
+		}
+
+		return length;
+	}
+
+	/**
+	 * Write the prefix of a value of the given length.
+	 *
+	 * @param length The length of the value.
+	 * @param bytes The byte array receiving the prefix.
+	 * @param offset The index of the first byte of the prefix.
+	 * @throws IllegalArgumentException if the length exceeds the maximum length of the field.
+	 */
+	void write(final int length, final byte[] bytes, final int offset) {
+		if (length > maxLength) {
+			throw new IllegalArgumentException(String.format("Value length %d exceeds the maximum length %d", length, maxLength));
+		}
+
+		int rest = length;
+
+		for (int i = offset + size - 1; i >= offset; i--) {
+			if (digits != null) {
+				bytes[i] = digits[rest % 10];
+				rest /= 10;
+			} else if (prefix == Prefix.BCD_LL || prefix == Prefix.BCD_LLL) {
+				bytes[i] = (byte) (((rest / 10) % 10) << 4 | rest % 10);
+				rest /= 100;
+			} else {
+				bytes[i] = (byte) rest;
+				rest >>= 8;
+			}
+		}
+	}
+
+	private static int digit(final int value, final int offset) {
+		if (value < 0 || value > 9) {
+			throw new IllegalArgumentException(String.format("Invalid length prefix digit at offset %d", offset));
+		}
+
+		return value;
+	}
+
+}
@@ -0,0 +1,405 @@
+/*
+ * Copyright 2024 jFormat-B
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package format.bind.runtime.impl;
+
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import format.bind.FormatFieldAccessor;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * A bean property path compiled from a property name expression.
+ *
+ * <p>
+ * The expression (e.g. {@code cassettes[0].denomination} or {@code totals["RetainedCard"]})
+ * is parsed once into a list of {@link Segment}s. Each segment resolves the accessor of its
+ * property once per bean class into {@link MethodHandle}s over the {@link Field} or the
+ * {@link PropertyDescriptor} of the {@link FormatFieldAccessor}, so that accessing a property
+ * value does not involve any expression parsing nor reflective call.
+ * </p>
+ *
+ * <p>
+ * The elements of an open-ended list share a single template path (e.g.
+ * {@code transactions[1+].amount}) whose open index is bound to the element number at
+ * call time, so that the number of compiled paths does not depend on the list length.
+ * </p>
+ *
+ * @author Yannick Ebongue
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class PropertyPath {
+
+	private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+	private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+	/** The cache of the compiled property paths, keyed by expressions of the format plans. */
+	private static final ConcurrentMap<String, PropertyPath> paths = new ConcurrentHashMap<>();
+
+	/** The property name expression of this path. */
+	private final String expression;
+
+	/** The segments of this path, in navigation order. */
+	private final List<Segment> segments;
+
+	/**
+	 * Obtain the compiled path of the given property name expression.
+	 *
+	 * @param expression The property name expression.
+	 * @return The compiled property path.
+	 */
+	static PropertyPath of(final String expression) {
+		PropertyPath path = paths.get(expression);
+
+		if (path == null) {
+			path = new PropertyPath(expression, parse(expression));
+			PropertyPath previous = paths.putIfAbsent(expression, path);
+			path = previous != null ? previous : path;
+		}
+
+		return path;
+	}
+
+	/**
+	 * Returns the value of this property path from the given bean.
+	 *
+	 * @param bean The bean to read.
+	 * @return The property value, or {@code null} if an intermediate value is missing.
+	 * @throws InvocationTargetException if a property accessor throws an exception.
+	 * @throws NoSuchMethodException if a property is not readable.
+	 */
+	Object get(final Object bean) throws InvocationTargetException, NoSuchMethodException {
+		return get(bean, 0);
+	}
+
+	/**
+	 * Returns the value of this property path from the given bean, for the given element
+	 * of an open-ended list.
+	 *
+	 * @param bean The bean to read.
+	 * @param element The number of the list element, added to the open index.
+	 * @return The property value, or {@code null} if an intermediate value is missing.
+	 * @throws InvocationTargetException if a property accessor throws an exception.
+	 * @throws NoSuchMethodException if a property is not readable.
+	 */
+	Object get(final Object bean, final int element) throws InvocationTargetException, NoSuchMethodException {
+		Object value = bean;
+
+		for (Segment segment : segments) {
+			if (value == null) {
+				return null;
+			}
+
+			value = segment.get(value, element);
+		}
+
+		return value;
+	}
+
+	private static List<Segment> parse(final String expression) {
+		List<Segment> list = new ArrayList<>();
+		int length = expression.length();
+		int position = 0;
+
+		while (position < length) {
+			int start = position;
+
+			while (position < length && expression.charAt(position) != '.' && expression.charAt(position) != '[') {
+				position++;
+			}
+
+			String name = expression.substring(start, position);
+			int index = -1;
+			boolean open = false;
+			String key = null;
+
+			if (position < length && expression.charAt(position) == '[') {
+				int end = expression.indexOf(']', position);
+
+				if (end == -1) {
+					throw new IllegalArgumentException(String.format("Invalid property expression '%s'", expression));
+				}
+
+				if (expression.charAt(position + 1) == '"') {
+					end = expression.indexOf("\"]", position + 2);
+
+					if (end == -1) {
+						throw new IllegalArgumentException(String.format("Invalid property expression '%s'", expression));
+					}
+
+					key = expression.substring(position + 2, end);
+					end++;
+				} else if (expression.charAt(end - 1) == '+') {
+					index = Integer.parseInt(expression.substring(position + 1, end - 1));
+					open = true;
+				} else {
+					index = Integer.parseInt(expression.substring(position + 1, end));
+				}
+
+				position = end + 1;
+			}
+
+			if (name.isEmpty()) {
+				throw new IllegalArgumentException(String.format("Invalid property expression '%s'", expression));
+			}
+
+			list.add(new Segment(name, index, open, key));
+
+			// Skip the nested property separator
+			position++;
+		}
+
+		return Collections.unmodifiableList(list);
+	}
+
+	/**
+	 * A segment of a property path, i.e. a simple, indexed or mapped property of a bean.
+	 */
+	@Getter
+	static final class Segment {
+
+		/** The name of the bean property. */
+		private final String name;
+
+		/** The list index of an indexed property, the start index of an open index or {@code -1}. */
+		private final int index;
+
+		/** Whether the list index is open, i.e. bound to the element number at call time. */
+		private final boolean open;
+
+		/** The map key of a mapped property or {@code null}. */
+		private final String key;
+
+		/** The cache of the property handles by bean class. */
+		@Getter(AccessLevel.NONE)
+		private final ConcurrentMap<Class<?>, Handles> handles = new ConcurrentHashMap<>();
+
+		private Segment(final String name, final int index, final boolean open, final String key) {
+			this.name = name;
+			this.index = index;
+			this.open = open;
+			this.key = key;
+		}
+
+		boolean isIndexed() {
+			return index != -1;
+		}
+
+		boolean isMapped() {
+			return key != null;
+		}
+
+		/**
+		 * Returns the list index of this segment for the given element of an open-ended list.
+		 *
+		 * @param element The number of the list element, added to the open index.
+		 * @return The list index.
+		 */
+		int getIndex(final int element) {
+			return open ? index + element : index;
+		}
+
+		/**
+		 * Returns the field accessor of this segment property in the given bean class.
+		 *
+		 * @param beanClass The bean class.
+		 * @return The field accessor.
+		 */
+		FormatFieldAccessor getAccessor(final Class<?> beanClass) {
+			return handles(beanClass).accessor;
+		}
+
+		/**
+		 * Returns the value of the bean property of this segment, i.e. the list or the
+		 * map itself for indexed and mapped properties.
+		 *
+		 * @param bean The bean to read.
+		 * @return The property value.
+		 * @throws InvocationTargetException if the property accessor throws an exception.
+		 * @throws NoSuchMethodException if the property is not readable.
+		 */
+		Object getContainer(final Object bean) throws InvocationTargetException, NoSuchMethodException {
+			MethodHandle getter = handles(bean.getClass()).getter;
+
+			if (getter == null) {
+				throw new NoSuchMethodException(String.format("Property '%s' has no getter method in class %s", name, bean.getClass()));
+			}
+
+			try {
+				return (Object) getter.invokeExact(bean);
+			} catch (Throwable e) {
+				throw new InvocationTargetException(e);
+			}
+		}
+
+		/**
+		 * Sets the value of the bean property of this segment, i.e. the list or the
+		 * map itself for indexed and mapped properties.
+		 *
+		 * @param bean The bean to update.
+		 * @param value The property value.
+		 * @throws InvocationTargetException if the property accessor throws an exception.
+		 * @throws NoSuchMethodException if the property is not writable.
+		 */
+		void setContainer(final Object bean, final Object value) throws InvocationTargetException, NoSuchMethodException {
+			MethodHandle setter = handles(bean.getClass()).setter;
+
+			if (setter == null) {
+				throw new NoSuchMethodException(String.format("Property '%s' has no setter method in class %s", name, bean.getClass()));
+			}
+
+			try {
+				setter.invokeExact(bean, value);
+			} catch (Throwable e) {
+				throw new InvocationTargetException(e);
+			}
+		}
+
+		/**
+		 * Returns the value designated by this segment.
+		 *
+		 * @param bean The bean to read.
+		 * @param element The number of the list element, added to the open index.
+		 * @return The value, or {@code null} if the list or the map is missing or if
+		 * 		the index is out of the list bounds.
+		 * @throws InvocationTargetException if the property accessor throws an exception.
+		 * @throws NoSuchMethodException if the property is not readable.
+		 */
+		Object get(final Object bean, final int element) throws InvocationTargetException, NoSuchMethodException {
+			Object value = getContainer(bean);
+
+			if (value == null) {
+				return null;
+			}
+
+			if (isIndexed()) {
+				List<?> list = (List<?>) value;
+				int i = getIndex(element);
+				return i < list.size() ? list.get(i) : null;
+			}
+
+			if (isMapped()) {
+				return ((Map<?, ?>) value).get(key);
+			}
+
+			return value;
+		}
+
+		/**
+		 * Sets the value designated by this segment.
+		 *
+		 * <p>
+		 * The list of an indexed property or the map of a mapped property must exist.
+		 * </p>
+		 *
+		 * @param bean The bean to update.
+		 * @param element The number of the list element, added to the open index.
+		 * @param value The value to set.
+		 * @throws InvocationTargetException if the property accessor throws an exception.
+		 * @throws NoSuchMethodException if the property is not writable.
+		 */
+		@SuppressWarnings("unchecked")
+		void set(final Object bean, final int element, final Object value) throws InvocationTargetException, NoSuchMethodException {
+			if (isIndexed()) {
+				((List<Object>) getContainer(bean)).set(getIndex(element), value);
+			} else if (isMapped()) {
+				((Map<String, Object>) getContainer(bean)).put(key, value);
+			} else {
+				setContainer(bean, value);
+			}
+		}
+
+		private Handles handles(final Class<?> beanClass) {
+			Handles result = handles.get(beanClass);
+
+			if (result == null) {
+				result = Handles.of(FormatFieldAccessorUtil.getFieldAccessor(beanClass, name));
+				Handles previous = handles.putIfAbsent(beanClass, result);
+				result = previous != null ? previous : result;
+			}
+
+			return result;
+		}
+
+	}
+
+	/**
+	 * The property accessor handles of a field accessor.
+	 */
+	@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+	private static final class Handles {
+
+		/** The field accessor of the property. */
+		private final FormatFieldAccessor accessor;
+
+		/** The getter handle of type {@code (Object)Object} or {@code null}. */
+		private final MethodHandle getter;
+
+		/** The setter handle of type {@code (Object,Object)void} or {@code null}. */
+		private final MethodHandle setter;
+
+		static Handles of(final FormatFieldAccessor accessor) {
+			MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+			try {
+				if (accessor instanceof FormatFieldAccessorImpl.Default) {
+					Field field = ((FormatFieldAccessorImpl.Default) accessor).getField();
+					field.setAccessible(true);
+					MethodHandle getter = lookup.unreflectGetter(field);
+					MethodHandle setter = Modifier.isFinal(field.getModifiers()) ? null : lookup.unreflectSetter(field);
+					return of(accessor, getter, setter);
+				}
+
+				PropertyDescriptor descriptor = ((FormatFieldAccessorImpl.Property) accessor).getDescriptor();
+				return of(accessor, unreflect(lookup, descriptor.getReadMethod()), unreflect(lookup, descriptor.getWriteMethod()));
+			} catch (IllegalAccessException e) {
+				throw new IllegalStateException(String.format("Unable to access property '%s'", accessor.getName()), e);
+			}
+		}
+
+		private static Handles of(final FormatFieldAccessor accessor, final MethodHandle getter, final MethodHandle setter) {
+			return new Handles(accessor,
+					getter != null ? getter.asType(GETTER_TYPE) : null,
+					setter != null ? setter.asType(SETTER_TYPE) : null);
+		}
+
+		private static MethodHandle unreflect(final MethodHandles.Lookup lookup, final Method method) throws IllegalAccessException {
+			if (method == null) {
+				return null;
+			}
+
+			method.setAccessible(true);
+			return lookup.unreflect(method);
+		}
+
+	}
+
+}
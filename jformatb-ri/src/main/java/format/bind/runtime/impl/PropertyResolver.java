@@ -0,0 +1,323 @@
+/*
+ * Copyright 2024 jFormat-B
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package format.bind.runtime.impl;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.apache.commons.beanutils.expression.DefaultResolver;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.NoArgsConstructor;
+
+/**
+ * The property name expression resolver of the text format processors.
+ * 
+ * <p>
+ * In addition to the default nested, indexed and mapped expressions, this resolver
+ * understands the index ranges ({@code a[0::2]}, {@code a[1::*]}, written {@code a[0..2]}
+ * and {@code a[1..*]} in text format patterns) and the key lists ({@code m["k1,k2"]}).
+ * </p>
+ * 
+ * <p>
+ * The first property of an expression is scanned once by a hand-written tokenizer, and
+ * the result is cached by expression, so that the resolver methods do not parse again
+ * the expressions they are repeatedly given.
+ * </p>
+ * 
+ * @author Yannick Ebongue
+ */
+@NoArgsConstructor
+final class PropertyResolver extends DefaultResolver {
+
+	private static final char NESTED = '.';
+	private static final char INDEXED_START = '[';
+	private static final char INDEXED_END = ']';
+	private static final char MAPPED_QUOTE = '"';
+	private static final char WILDCARD = '*';
+	private static final String RANGE_SEPARATOR = "::";
+
+	/** The cache of the scanned expressions. */
+	private final ConcurrentMap<String, Expression> expressions = new ConcurrentHashMap<>();
+
+	public int[] getBoundaries(final String expression) {
+		if (expression == null || expression.isEmpty()) {
+			return new int[0];
+		}
+
+		Bracket indexed = scan(expression).indexed;
+
+		if (indexed == null) {
+			return new int[0];
+		}
+
+		int separator = indexed.content.indexOf(RANGE_SEPARATOR);
+
+		if (separator == -1) {
+			return new int[] { 0, -1 };
+		}
+
+		return new int[] {
+				Integer.parseInt(indexed.content.substring(0, separator)),
+				parseBoundary(indexed.content.substring(separator + RANGE_SEPARATOR.length()))
+		};
+	}
+
+	@Override
+	public int getIndex(final String expression) {
+		if (expression == null || expression.isEmpty()) {
+			return -1;
+		}
+
+		Bracket indexed = scan(expression).indexed;
+
+		if (indexed != null) {
+			try {
+				return Integer.parseInt(indexed.content);
+			} catch (NumberFormatException e) {
+				return -1;
+			}
+		}
+
+		return -1;
+	}
+
+	@Override
+	public String getKey(final String expression) {
+		if (expression == null || expression.isEmpty()) {
+			return null;
+		}
+
+		Bracket mapped = scan(expression).mapped;
+		return mapped != null ? mapped.content : null;
+	}
+
+	@Override
+	public String getProperty(final String expression) {
+		if (expression == null || expression.isEmpty()) {
+			return expression;
+		}
+
+		return scan(expression).property;
+	}
+
+	@Override
+	public boolean isIndexed(final String expression) {
+		if (expression == null || expression.isEmpty()) {
+			return false;
+		}
+
+		return scan(expression).indexed != null;
+	}
+
+	@Override
+	public boolean isMapped(String expression) {
+		if (expression == null || expression.isEmpty()) {
+			return false;
+		}
+
+		return scan(expression).mapped != null;
+	}
+
+	@Override
+	public String next(final String expression) {
+		if (expression == null || expression.isEmpty()) {
+			return null;
+		}
+
+		return scan(expression).next;
+	}
+
+	/**
+	 * Returns the last simple, indexed or mapped property of the given nested
+	 * expression.
+	 * 
+	 * @param expression The property expression.
+	 * @return The last property of the expression.
+	 */
+	public String getTarget(final String expression) {
+		int end = expression.length();
+
+		// Ignore the trailing separators, as String#split does
+		while (end > 0 && expression.charAt(end - 1) == NESTED) {
+			end--;
+		}
+
+		if (end == 0) {
+			return expression.isEmpty() ? expression : null;
+		}
+
+		return expression.substring(expression.lastIndexOf(NESTED, end - 1) + 1, end);
+	}
+
+	private Expression scan(final String expression) {
+		Expression result = expressions.get(expression);
+
+		if (result == null) {
+			result = Expression.of(expression);
+			Expression previous = expressions.putIfAbsent(expression, result);
+			result = previous != null ? previous : result;
+		}
+
+		return result;
+	}
+
+	private int parseBoundary(String bound) {
+		return ("*".equals(bound) ? -1 : Integer.parseInt(bound));
+	}
+
+	/**
+	 * The scanned first property of an expression, i.e. the text before the first
+	 * {@code '.'}.
+	 */
+	@AllArgsConstructor(access = AccessLevel.PRIVATE)
+	private static final class Expression {
+
+		/** The property name, without index nor key. */
+		private final String property;
+
+		/** The first index bracket, if it does not follow the first key bracket. */
+		private final Bracket indexed;
+
+		/** The first key bracket, if it does not follow the first index bracket. */
+		private final Bracket mapped;
+
+		/** The property up to the end of its first index and key brackets. */
+		private final String next;
+
+		static Expression of(final String expression) {
+			int nested = expression.indexOf(NESTED);
+			String first = nested == -1 ? expression : expression.substring(0, nested);
+			Bracket indexed = null;
+			Bracket mapped = null;
+
+			for (int start = first.indexOf(INDEXED_START); start != -1 && (indexed == null || mapped == null); start = first.indexOf(INDEXED_START, start + 1)) {
+				if (indexed == null) {
+					indexed = Bracket.indexed(first, start);
+				}
+
+				if (mapped == null) {
+					mapped = Bracket.mapped(first, start);
+				}
+			}
+
+			int propertyEnd = Math.min(indexed != null ? indexed.start : first.length(), mapped != null ? mapped.start : first.length());
+			int nextEnd = first.length();
+
+			if (indexed != null) {
+				nextEnd = indexed.end;
+			}
+
+			if (mapped != null && mapped.end <= nextEnd) {
+				nextEnd = mapped.end;
+			}
+
+			return new Expression(first.substring(0, propertyEnd),
+					indexed != null && (mapped == null || indexed.end <= mapped.end) ? indexed : null,
+					mapped != null && (indexed == null || mapped.end <= indexed.end) ? mapped : null,
+					first.substring(0, nextEnd));
+		}
+
+	}
+
+	/**
+	 * A bracket of a property, i.e. an index ({@code [0]}, {@code [0::2]}, {@code [1::*]},
+	 * {@code [*]}) or a key ({@code ["k1,k2"]}).
+	 */
+	@AllArgsConstructor(access = AccessLevel.PRIVATE)
+	private static final class Bracket {
+
+		/** The index of the opening bracket. */
+		private final int start;
+
+		/** The index after the closing bracket. */
+		private final int end;
+
+		/** The text between the brackets, without the quotes of a key. */
+		private final String content;
+
+		/**
+		 * Scans the index bracket starting at the given position.
+		 * 
+		 * @return The bracket, or {@code null} if there is no valid index at this position.
+		 */
+		static Bracket indexed(final String text, final int start) {
+			int position = start + 1;
+
+			if (position < text.length() && text.charAt(position) == WILDCARD) {
+				position++;
+			} else {
+				int digits = skipDigits(text, position);
+
+				if (digits == position) {
+					return null;
+				}
+
+				position = digits;
+
+				if (text.startsWith(RANGE_SEPARATOR, position)) {
+					position += RANGE_SEPARATOR.length();
+
+					if (position < text.length() && text.charAt(position) == WILDCARD) {
+						position++;
+					} else if ((digits = skipDigits(text, position)) > position) {
+						position = digits;
+					} else {
+						return null;
+					}
+				}
+			}
+
+			if (position >= text.length() || text.charAt(position) != INDEXED_END) {
+				return null;
+			}
+
+			return new Bracket(start, position + 1, text.substring(start + 1, position));
+		}
+
+		/**
+		 * Scans the key bracket starting at the given position.
+		 * 
+		 * @return The bracket, or {@code null} if there is no valid key at this position.
+		 */
+		static Bracket mapped(final String text, final int start) {
+			if (start + 1 >= text.length() || text.charAt(start + 1) != MAPPED_QUOTE) {
+				return null;
+			}
+
+			int quote = text.indexOf(MAPPED_QUOTE, start + 2);
+
+			if (quote <= start + 2 || quote + 1 >= text.length() || text.charAt(quote + 1) != INDEXED_END) {
+				return null;
+			}
+
+			return new Bracket(start, quote + 2, text.substring(start + 2, quote));
+		}
+
+		private static int skipDigits(final String text, final int start) {
+			int position = start;
+
+			while (position < text.length() && text.charAt(position) >= '0' && text.charAt(position) <= '9') {
+				position++;
+			}
+
+			return position;
+		}
+
+	}
+
+}
@@ -33,12 +33,26 @@ public byte[] formatBytes(final FormatFieldDescriptor descriptor, final Boolean
 		}
 	}
 
+	@Override
+	public int formatBytes(final FormatFieldDescriptor descriptor, final Boolean value, final byte[] target, final int offset) throws FieldConversionException {
+		try {
+			return FieldBytes.writeLeftPadded(String.valueOf(BooleanUtils.toInteger(value.booleanValue())), descriptor.length(), ' ', descriptor.charset(), target, offset);
+		} catch (Exception e) {
+			throw FieldConverters.formatFieldConversionException(descriptor, value, e);
+		}
+	}
+
 	@Override
 	public Boolean parseBytes(final FormatFieldDescriptor descriptor, final byte[] source) throws FieldConversionException {
+		return parseBytes(descriptor, source, 0, source.length);
+	}
+
+	@Override
+	public Boolean parseBytes(final FormatFieldDescriptor descriptor, final byte[] source, final int offset, final int length) throws FieldConversionException {
 		try {
-			return BooleanUtils.toBooleanObject(Integer.parseInt(StringUtils.trim(new String(source, descriptor.charset()))));
+			return BooleanUtils.toBooleanObject(Integer.parseInt(StringUtils.trim(FieldBytes.decode(source, offset, length, descriptor.charset()))));
 		} catch (Exception e) {
-			throw FieldConverters.parseFieldConversionException(descriptor, source, e);
+			throw FieldConverters.parseFieldConversionException(descriptor, source, offset, length, e);
 		}
 	}
 
@@ -34,7 +34,7 @@ public String format(FormatFieldDescriptor descriptor, byte[] value) throws Fiel
 		if (ArrayUtils.isEmpty(value)) {
 			return StringUtils.rightPad("", descriptor.length(), "0");
 		} else {
-			return new String(Hex.encodeHex(value, 0, (descriptor.length() / 2), false));
+			return new String(Hex.encodeHex(value, 0, length(descriptor, value.length * 2) / 2, false));
 		}
 	}
 
@@ -42,12 +42,32 @@ public String format(FormatFieldDescriptor descriptor, byte[] value) throws Fiel
 	public byte[] formatBytes(FormatFieldDescriptor descriptor, byte[] value)
 			throws FieldConversionException {
 		if (descriptor.type() == Type.BINARY) {
-			return Arrays.copyOf(value, descriptor.length());
+			return Arrays.copyOf(value, length(descriptor, value.length));
 		} else {
 			return format(descriptor, value).getBytes(descriptor.charset());
 		}
 	}
 
+	@Override
+	public int formatBytes(FormatFieldDescriptor descriptor, byte[] value, byte[] target, int offset)
+			throws FieldConversionException {
+		if (descriptor.type() == Type.BINARY) {
+			// Truncate or pad with zeros, as Arrays.copyOf
+			int fieldLength = length(descriptor, value.length);
+
+			if (fieldLength > target.length - offset) {
+				return -fieldLength;
+			}
+
+			int length = Math.min(value.length, fieldLength);
+			System.arraycopy(value, 0, target, offset, length);
+			Arrays.fill(target, offset + length, offset + fieldLength, (byte) 0);
+			return fieldLength;
+		} else {
+			return FieldBytes.write(format(descriptor, value), descriptor.charset(), target, offset);
+		}
+	}
+
 	@Override
 	public byte[] parse(FormatFieldDescriptor descriptor, String source) throws FieldConversionException {
 		try {
@@ -65,11 +85,24 @@ public byte[] parse(FormatFieldDescriptor descriptor, String source) throws Fiel
 	@Override
 	public byte[] parseBytes(FormatFieldDescriptor descriptor, byte[] source)
 			throws FieldConversionException {
+		return parseBytes(descriptor, source, 0, source.length);
+	}
+
+	@Override
+	public byte[] parseBytes(FormatFieldDescriptor descriptor, byte[] source, int offset, int length)
+			throws FieldConversionException {
 		if (descriptor.type() == Type.BINARY) {
-			return Arrays.copyOf(source, source.length);
+			return Arrays.copyOfRange(source, offset, offset + length);
 		} else {
-			return parse(descriptor, new String(source, descriptor.charset()));
+			return parse(descriptor, FieldBytes.decode(source, offset, length, descriptor.charset()));
 		}
 	}
 
+	/**
+	 * Returns the length of the field, or the given value length for a variable length field.
+	 */
+	private static int length(final FormatFieldDescriptor descriptor, final int valueLength) {
+		return descriptor.length() > 0 ? descriptor.length() : valueLength;
+	}
+
 }
@@ -30,16 +30,30 @@ final class CalendarConverter implements FieldConverter<Calendar> {
 
 	@Override
 	public byte[] formatBytes(FormatFieldDescriptor descriptor, Calendar value) throws FieldConversionException {
-		return converter.formatBytes(descriptor, Optional.ofNullable(value)
-				.map(calendar -> calendar.toInstant().atZone(calendar.getTimeZone().toZoneId()))
-				.orElse(null));
+		return converter.formatBytes(descriptor, toZonedDateTime(value));
+	}
+
+	@Override
+	public int formatBytes(FormatFieldDescriptor descriptor, Calendar value, byte[] target, int offset) throws FieldConversionException {
+		return converter.formatBytes(descriptor, toZonedDateTime(value), target, offset);
 	}
 
 	@Override
 	public Calendar parseBytes(FormatFieldDescriptor descriptor, byte[] source) throws FieldConversionException {
-		return Optional.ofNullable(converter.parseBytes(descriptor, source))
+		return parseBytes(descriptor, source, 0, source.length);
+	}
+
+	@Override
+	public Calendar parseBytes(FormatFieldDescriptor descriptor, byte[] source, int offset, int length) throws FieldConversionException {
+		return Optional.ofNullable(converter.parseBytes(descriptor, source, offset, length))
 				.map(GregorianCalendar::from)
 				.orElse(null);
 	}
 
+	private static ZonedDateTime toZonedDateTime(Calendar value) {
+		return Optional.ofNullable(value)
+				.map(calendar -> calendar.toInstant().atZone(calendar.getTimeZone().toZoneId()))
+				.orElse(null);
+	}
+
 }
@@ -29,10 +29,21 @@ public byte[] formatBytes(FormatFieldDescriptor descriptor, Character value) thr
 				.formatBytes(descriptor, String.valueOf(value.charValue()));
 	}
 
+	@Override
+	public int formatBytes(FormatFieldDescriptor descriptor, Character value, byte[] target, int offset) throws FieldConversionException {
+		return FieldConverters.getConverter(String.class)
+				.formatBytes(descriptor, String.valueOf(value.charValue()), target, offset);
+	}
+
 	@Override
 	public Character parseBytes(FormatFieldDescriptor descriptor, byte[] source) throws FieldConversionException {
+		return parseBytes(descriptor, source, 0, source.length);
+	}
+
+	@Override
+	public Character parseBytes(FormatFieldDescriptor descriptor, byte[] source, int offset, int length) throws FieldConversionException {
 		String value = FieldConverters.getConverter(String.class)
-				.parseBytes(descriptor, source);
+				.parseBytes(descriptor, source, offset, length);
 		return Optional.ofNullable(value)
 				.map(str -> str.charAt(0))
 				.orElse(null);
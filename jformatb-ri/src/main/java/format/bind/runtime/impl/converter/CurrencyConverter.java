@@ -48,31 +48,52 @@ private static Currency getInstance(String currencyCode) {
 	@Override
 	public byte[] formatBytes(FormatFieldDescriptor descriptor, Currency value) throws FieldConversionException {
 		if (descriptor.type() == Type.NUMERIC) {
-			return StringUtils.leftPad(Optional.ofNullable(value)
-					.map(Currency::getNumericCode)
-					.map(String::valueOf)
-					.orElseGet(descriptor::placeholder), descriptor.length(), "0")
+			return StringUtils.leftPad(numericCode(descriptor, value), descriptor.length(), "0")
 					.getBytes(descriptor.charset());
 		} else {
-			return StringUtils.rightPad(Optional.ofNullable(value)
-					.map(Currency::getCurrencyCode)
-					.orElseGet(descriptor::placeholder), descriptor.length())
+			return StringUtils.rightPad(currencyCode(descriptor, value), descriptor.length())
 					.getBytes(descriptor.charset());
 		}
 	}
 
+	@Override
+	public int formatBytes(FormatFieldDescriptor descriptor, Currency value, byte[] target, int offset) throws FieldConversionException {
+		if (descriptor.type() == Type.NUMERIC) {
+			return FieldBytes.writeLeftPadded(numericCode(descriptor, value), descriptor.length(), '0', descriptor.charset(), target, offset);
+		} else {
+			return FieldBytes.writeRightPadded(currencyCode(descriptor, value), descriptor.length(), descriptor.charset(), target, offset);
+		}
+	}
+
 	@Override
 	public Currency parseBytes(FormatFieldDescriptor descriptor, byte[] source) throws FieldConversionException {
+		return parseBytes(descriptor, source, 0, source.length);
+	}
+
+	@Override
+	public Currency parseBytes(FormatFieldDescriptor descriptor, byte[] source, int offset, int length) throws FieldConversionException {
 		try {
-			String value = new String(source, descriptor.charset());
 			if (descriptor.type() == Type.NUMERIC) {
-				return getInstance(Integer.valueOf(value));
+				return getInstance(Math.toIntExact(FieldBytes.parseLong(source, offset, length, descriptor.charset())));
 			} else {
-				return getInstance(StringUtils.trimToEmpty(value));
+				return getInstance(StringUtils.trimToEmpty(FieldBytes.decode(source, offset, length, descriptor.charset())));
 			}
 		} catch (Exception e) {
-			throw FieldConverters.parseFieldConversionException(descriptor, source, e);
+			throw FieldConverters.parseFieldConversionException(descriptor, source, offset, length, e);
 		}
 	}
 
+	private static String numericCode(FormatFieldDescriptor descriptor, Currency value) {
+		return Optional.ofNullable(value)
+				.map(Currency::getNumericCode)
+				.map(String::valueOf)
+				.orElseGet(descriptor::placeholder);
+	}
+
+	private static String currencyCode(FormatFieldDescriptor descriptor, Currency value) {
+		return Optional.ofNullable(value)
+				.map(Currency::getCurrencyCode)
+				.orElseGet(descriptor::placeholder);
+	}
+
 }
@@ -16,25 +16,36 @@
 package format.bind.runtime.impl.converter;
 
 import java.text.SimpleDateFormat;
-import java.util.Arrays;
 import java.util.Date;
-import java.util.Optional;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TimeZone;
 
 import org.apache.commons.lang3.StringUtils;
 
 import format.bind.FormatFieldDescriptor;
 import format.bind.converter.FieldConversionException;
 import format.bind.converter.FieldConverter;
+import lombok.Value;
 
 final class DateConverter implements FieldConverter<Date> {
 
+	/** The date formats of each thread by pattern and locale. */
+	private final ThreadLocal<Map<Key, SimpleDateFormat>> dateFormats = ThreadLocal.withInitial(HashMap::new);
+
 	@Override
 	public byte[] formatBytes(final FormatFieldDescriptor descriptor, final Date value) throws FieldConversionException {
 		try {
-			String str = Optional.ofNullable(value)
-					.map(new SimpleDateFormat(descriptor.format(), locale(descriptor.locale()))::format)
-					.orElseGet(descriptor::placeholder);
-			return StringUtils.leftPad(str, descriptor.length(), "0").getBytes(descriptor.charset());
+			return StringUtils.leftPad(toText(descriptor, value), descriptor.length(), "0").getBytes(descriptor.charset());
+		} catch (Exception e) {
+			throw FieldConverters.formatFieldConversionException(descriptor, value, e);
+		}
+	}
+
+	@Override
+	public int formatBytes(final FormatFieldDescriptor descriptor, final Date value, final byte[] target, final int offset) throws FieldConversionException {
+		try {
+			return FieldBytes.writeLeftPadded(toText(descriptor, value), descriptor.length(), '0', descriptor.charset(), target, offset);
 		} catch (Exception e) {
 			throw FieldConverters.formatFieldConversionException(descriptor, value, e);
 		}
@@ -42,15 +53,62 @@ public byte[] formatBytes(final FormatFieldDescriptor descriptor, final Date val
 
 	@Override
 	public Date parseBytes(final FormatFieldDescriptor descriptor, final byte[] source) throws FieldConversionException {
+		return parseBytes(descriptor, source, 0, source.length);
+	}
+
+	@Override
+	public Date parseBytes(final FormatFieldDescriptor descriptor, final byte[] source, final int offset, final int length) throws FieldConversionException {
 		try {
-			if (Arrays.equals(source, descriptor.placeholder().getBytes(descriptor.charset()))) {
+			if (FieldBytes.matches(source, offset, length, descriptor.placeholderBytes())) {
 				return null;
 			}
 
-			return new SimpleDateFormat(descriptor.format(), locale(descriptor.locale())).parse(new String(source, descriptor.charset()));
+			return getDateFormat(descriptor).parse(FieldBytes.decode(source, offset, length, descriptor.charset()));
 		} catch (Exception e) {
-			throw FieldConverters.parseFieldConversionException(descriptor, source, e);
+			throw FieldConverters.parseFieldConversionException(descriptor, source, offset, length, e);
 		}
 	}
 
+	private String toText(final FormatFieldDescriptor descriptor, final Date value) {
+		return value != null ? getDateFormat(descriptor).format(value) : descriptor.placeholder();
+	}
+
+	/**
+	 * Obtain the date format of the given field for the current thread, since
+	 * {@link SimpleDateFormat} instances are not thread safe.
+	 *
+	 * <p>
+	 * Parsing a zone name changes the time zone of the date format, so the time zone and
+	 * the leniency are reset on each use, as for a new date format.
+	 * </p>
+	 */
+	private SimpleDateFormat getDateFormat(final FormatFieldDescriptor descriptor) {
+		Map<Key, SimpleDateFormat> map = dateFormats.get();
+		Key key = new Key(descriptor.format(), descriptor.locale());
+		SimpleDateFormat dateFormat = map.get(key);
+
+		if (dateFormat == null) {
+			dateFormat = new SimpleDateFormat(key.getPattern(), locale(key.getLocale()));
+			map.put(key, dateFormat);
+		}
+
+		dateFormat.setTimeZone(TimeZone.getDefault());
+		dateFormat.setLenient(true);
+		return dateFormat;
+	}
+
+	/**
+	 * The key of a date format.
+	 */
+	@Value
+	private static class Key {
+
+		/** The date pattern. */
+		String pattern;
+
+		/** The language tag of the locale. */
+		String locale;
+
+	}
+
 }
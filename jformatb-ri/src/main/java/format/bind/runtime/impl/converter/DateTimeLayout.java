@@ -0,0 +1,287 @@
+/*
+ * Copyright 2024 jFormat-B
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package format.bind.runtime.impl.converter;
+
+import java.nio.charset.Charset;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * A date time pattern made of fixed width digit fields only (e.g. {@code yyyyMMdd},
+ * {@code ddMMyy}, {@code yyyyMMddHHmmss} or {@code MMddHHmmss}), whose values are read
+ * and written directly as the digits of the {@link FieldCharset} of the field.
+ *
+ * <p>
+ * A layout only handles the values that {@link DateTimeFormatter#ofPattern(String)} would
+ * read or write the same way with its default (smart) resolver: any other value, such as
+ * an out of range field, a missing year or a year written with more than four digits,
+ * is rejected so that the caller falls back to the formatter, which also reports the errors.
+ * </p>
+ *
+ * @author Yannick Ebongue
+ */
+final class DateTimeLayout {
+
+	/** The result of the write methods when the value must be written by the formatter. */
+	static final int UNSUPPORTED = Integer.MIN_VALUE;
+
+	private static final int YEAR = 0;
+	private static final int YEAR_OF_CENTURY = 1;
+	private static final int MONTH = 2;
+	private static final int DAY = 3;
+	private static final int HOUR = 4;
+	private static final int MINUTE = 5;
+	private static final int SECOND = 6;
+
+	/** The pattern letters and widths of the fields, by field kind. */
+	private static final String[] FIELDS = { "yyyy", "yy", "MM", "dd", "HH", "mm", "ss" };
+
+	/** The field kinds in order of appearance. */
+	private final int[] kinds;
+
+	/** The number of digits of the layout. */
+	private final int width;
+
+	/** The field kinds present in the layout, as a bit set. */
+	private final int present;
+
+	private DateTimeLayout(final int[] kinds, final int width, final int present) {
+		this.kinds = kinds;
+		this.width = width;
+		this.present = present;
+	}
+
+	/**
+	 * Compile the layout of the given date time pattern.
+	 *
+	 * @param pattern The date time pattern.
+	 * @return The layout, or {@code null} if the pattern is not made of digit fields only.
+	 */
+	static DateTimeLayout of(final String pattern) {
+		int[] kinds = new int[FIELDS.length];
+		int count = 0;
+		int present = 0;
+		int position = 0;
+
+		while (position < pattern.length()) {
+			int kind = -1;
+
+			for (int i = 0; i < FIELDS.length && kind == -1; i++) {
+				if (pattern.startsWith(FIELDS[i], position) && !pattern.startsWith(FIELDS[i] + FIELDS[i].charAt(0), position)) {
+					kind = i;
+				}
+			}
+
+			// A field must not be repeated and yyyy must not be followed by more y
+			if (kind == -1 || count == kinds.length || (present & (1 << kind)) != 0) {
+				return null;
+			}
+
+			kinds[count++] = kind;
+			present |= 1 << kind;
+			position += FIELDS[kind].length();
+		}
+
+		if (count == 0 || (present & (1 << YEAR)) != 0 && (present & (1 << YEAR_OF_CENTURY)) != 0) {
+			return null;
+		}
+
+		int[] fields = new int[count];
+		System.arraycopy(kinds, 0, fields, 0, count);
+		return new DateTimeLayout(fields, pattern.length(), present);
+	}
+
+	/**
+	 * Returns the number of digits of this layout.
+	 *
+	 * @return The layout width.
+	 */
+	int width() {
+		return width;
+	}
+
+	/**
+	 * Read a date from the given slice.
+	 *
+	 * @param source The byte array.
+	 * @param offset The index of the first byte of the slice.
+	 * @param length The number of bytes of the slice.
+	 * @param charset The charset of the slice.
+	 * @return The date, or {@code null} if the slice must be read by the formatter.
+	 */
+	LocalDate parseDate(final byte[] source, final int offset, final int length, final Charset charset) {
+		int[] values = parse(source, offset, length, charset);
+
+		if (values == null || !has(MONTH) || !has(DAY)) {
+			return null;
+		}
+
+		return LocalDate.of(values[YEAR], values[MONTH], values[DAY]);
+	}
+
+	/**
+	 * Read a date time from the given slice.
+	 *
+	 * @param source The byte array.
+	 * @param offset The index of the first byte of the slice.
+	 * @param length The number of bytes of the slice.
+	 * @param charset The charset of the slice.
+	 * @return The date time, or {@code null} if the slice must be read by the formatter.
+	 */
+	LocalDateTime parseDateTime(final byte[] source, final int offset, final int length, final Charset charset) {
+		int[] values = parse(source, offset, length, charset);
+
+		// The smart resolver does not resolve the minutes nor the seconds without the hours
+		if (values == null || !has(MONTH) || !has(DAY) || !has(HOUR) || has(SECOND) && !has(MINUTE)) {
+			return null;
+		}
+
+		return LocalDateTime.of(values[YEAR], values[MONTH], values[DAY], values[HOUR], values[MINUTE], values[SECOND]);
+	}
+
+	/**
+	 * Write the given date.
+	 *
+	 * @param value The date to write.
+	 * @param charset The charset of the digits.
+	 * @param target The byte array receiving the digits.
+	 * @param offset The index of the first byte to write.
+	 * @return The number of bytes written, the negated number of bytes needed if the target is
+	 * 		too small, or {@link #UNSUPPORTED} if the date must be written by the formatter.
+	 */
+	int formatDate(final LocalDate value, final Charset charset, final byte[] target, final int offset) {
+		if (has(HOUR) || has(MINUTE) || has(SECOND)) {
+			return UNSUPPORTED;
+		}
+
+		return format(value.getYear(), value.getMonthValue(), value.getDayOfMonth(), 0, 0, 0, charset, target, offset);
+	}
+
+	/**
+	 * Write the given date time.
+	 *
+	 * @param value The date time to write.
+	 * @param charset The charset of the digits.
+	 * @param target The byte array receiving the digits.
+	 * @param offset The index of the first byte to write.
+	 * @return The number of bytes written, the negated number of bytes needed if the target is
+	 * 		too small, or {@link #UNSUPPORTED} if the date time must be written by the formatter.
+	 */
+	int formatDateTime(final LocalDateTime value, final Charset charset, final byte[] target, final int offset) {
+		return format(value.getYear(), value.getMonthValue(), value.getDayOfMonth(),
+				value.getHour(), value.getMinute(), value.getSecond(), charset, target, offset);
+	}
+
+	private boolean has(final int kind) {
+		return (present & (1 << kind)) != 0;
+	}
+
+	private int[] parse(final byte[] source, final int offset, final int length, final Charset charset) {
+		FieldCharset table = FieldCharset.of(charset);
+
+		if (length != width || !table.hasDigits()) {
+			return null;
+		}
+
+		int[] values = new int[FIELDS.length];
+		int position = offset;
+
+		for (int kind : kinds) {
+			int value = 0;
+
+			for (int i = 0; i < FIELDS[kind].length(); i++) {
+				int digit = table.digitValue(source[position++]);
+
+				if (digit < 0) {
+					return null;
+				}
+
+				value = value * 10 + digit;
+			}
+
+			values[kind] = value;
+		}
+
+		if (has(YEAR_OF_CENTURY)) {
+			values[YEAR] = 2000 + values[YEAR_OF_CENTURY];
+		} else if (!has(YEAR) || values[YEAR] == 0) {
+			return null;
+		}
+
+		// Only the values that are valid as is, the other ones being resolved (or rejected) by the formatter
+		if (values[MONTH] < 1 || values[MONTH] > 12 || values[DAY] < 1 || values[HOUR] > 23 || values[MINUTE] > 59 || values[SECOND] > 59
+				|| values[DAY] > LocalDate.of(values[YEAR], values[MONTH], 1).lengthOfMonth()) {
+			return null;
+		}
+
+		return values;
+	}
+
+	private int format(final int year, final int month, final int day, final int hour, final int minute, final int second,
+			final Charset charset, final byte[] target, final int offset) {
+		boolean yearFits = has(YEAR_OF_CENTURY) ? year >= 2000 && year <= 2099 : year >= 1 && year <= 9999;
+		FieldCharset table = FieldCharset.of(charset);
+
+		if (!yearFits || !table.hasDigits()) {
+			return UNSUPPORTED;
+		}
+
+		if (width > target.length - offset) {
+			return -width;
+		}
+
+		int position = offset;
+
+		for (int kind : kinds) {
+			int value;
+
+			switch (kind) {
+			case YEAR:
+				value = year;
+				break;
+			case YEAR_OF_CENTURY:
+				value = year - 2000;
+				break;
+			case MONTH:
+				value = month;
+				break;
+			case DAY:
+				value = day;
+				break;
+			case HOUR:
+				value = hour;
+				break;
+			case MINUTE:
+				value = minute;
+				break;
+			default:
+				value = second;
+				break;
+			}
+
+			for (int i = FIELDS[kind].length() - 1; i >= 0; i--) {
+				target[position + i] = table.digit(value % 10);
+				value /= 10;
+			}
+
+			position += FIELDS[kind].length();
+		}
+
+		return width;
+	}
+
+}
@@ -17,7 +17,48 @@
 
 import java.math.BigDecimal;
 
-final class DoubleConverter extends NumberConverter<Double> {
+import format.bind.FormatFieldDescriptor;
+import format.bind.converter.DoubleFieldConverter;
+import format.bind.converter.FieldConversionException;
+
+final class DoubleConverter extends NumberConverter<Double> implements DoubleFieldConverter {
+
+	/** The powers of ten exactly represented as {@code double} values. */
+	private static final double[] POWERS_OF_TEN = {
+			1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+			1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+	};
+
+	/** The largest magnitude of the integers exactly represented as {@code double} values. */
+	private static final long MAX_EXACT = 1L << 53;
+
+	@Override
+	public double parseDouble(final FormatFieldDescriptor descriptor, final byte[] source, final int offset, final int length) throws FieldConversionException {
+		try {
+			return toDouble(descriptor, parseUnscaled(descriptor, source, offset, length));
+		} catch (Exception e) {
+			throw FieldConverters.parseFieldConversionException(descriptor, source, offset, length, e);
+		}
+	}
+
+	@Override
+	public int formatDouble(final FormatFieldDescriptor descriptor, final double value, final byte[] target, final int offset) throws FieldConversionException {
+		try {
+			return formatUnscaled(descriptor, toUnscaled(descriptor, value), target, offset);
+		} catch (Exception e) {
+			throw FieldConverters.formatFieldConversionException(descriptor, value, e);
+		}
+	}
+
+	@Override
+	protected long toUnscaled(final FormatFieldDescriptor descriptor, final Double number) {
+		return toUnscaled(descriptor, number.doubleValue());
+	}
+
+	@Override
+	protected Double toValue(final FormatFieldDescriptor descriptor, final long unscaledValue) {
+		return toDouble(descriptor, unscaledValue);
+	}
 
 	@Override
 	protected BigDecimal valueOf(final Double number) {
@@ -29,4 +70,30 @@ protected Double toValue(final BigDecimal value) {
 		return value.doubleValue();
 	}
 
+	private static long toUnscaled(final FormatFieldDescriptor descriptor, final double value) {
+		int scale = descriptor.scale();
+
+		if (scale >= 0 && scale < POWERS_OF_TEN.length) {
+			// Exact when the scaled value is an integer which gives back the value once unscaled
+			double scaled = value * POWERS_OF_TEN[scale];
+
+			if (Math.abs(scaled) < MAX_EXACT && scaled == Math.rint(scaled) && scaled / POWERS_OF_TEN[scale] == value) {
+				return (long) scaled;
+			}
+		}
+
+		return BigDecimal.valueOf(value).setScale(scale).unscaledValue().longValueExact();
+	}
+
+	private static double toDouble(final FormatFieldDescriptor descriptor, final long unscaledValue) {
+		int scale = descriptor.scale();
+
+		// Both operands are exact, so is the correctly rounded quotient
+		if (scale >= 0 && scale < POWERS_OF_TEN.length && Math.abs(unscaledValue) < MAX_EXACT) {
+			return unscaledValue / POWERS_OF_TEN[scale];
+		}
+
+		return BigDecimal.valueOf(unscaledValue, scale).doubleValue();
+	}
+
 }
@@ -43,12 +43,26 @@ public byte[] formatBytes(final FormatFieldDescriptor descriptor, final E value)
 		}
 	}
 
+	@Override
+	public int formatBytes(final FormatFieldDescriptor descriptor, final E value, final byte[] target, final int offset) throws FieldConversionException {
+		if (descriptor.type() == Type.ALPHANUMERIC) {
+			return FieldBytes.writeRightPadded(value.name(), descriptor.length(), descriptor.charset(), target, offset);
+		} else {
+			return FieldBytes.writeLeftPadded(String.valueOf(value.ordinal()), descriptor.length(), '0', descriptor.charset(), target, offset);
+		}
+	}
+
 	@Override
 	public E parseBytes(final FormatFieldDescriptor descriptor, final byte[] source) throws FieldConversionException {
+		return parseBytes(descriptor, source, 0, source.length);
+	}
+
+	@Override
+	public E parseBytes(final FormatFieldDescriptor descriptor, final byte[] source, final int offset, final int length) throws FieldConversionException {
 		if (descriptor.type() == Type.ALPHANUMERIC) {
-			return Enum.valueOf(enumType, StringUtils.trim(new String(source, descriptor.charset())));
+			return Enum.valueOf(enumType, StringUtils.trim(FieldBytes.decode(source, offset, length, descriptor.charset())));
 		} else {
-			return enumType.getEnumConstants()[Integer.parseInt(StringUtils.trim(new String(source, descriptor.charset())))];
+			return enumType.getEnumConstants()[Integer.parseInt(StringUtils.trim(FieldBytes.decode(source, offset, length, descriptor.charset())))];
 		}
 	}
 
@@ -0,0 +1,438 @@
+/*
+ * Copyright 2024 jFormat-B
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package format.bind.runtime.impl.converter;
+
+import java.nio.charset.Charset;
+
+import org.apache.commons.lang3.StringUtils;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * The utility class used to read and write field values in byte array slices.
+ *
+ * <p>
+ * The characters of the text values are directly translated from and to single bytes
+ * with the {@link FieldCharset} tables when the charset encodes them that way, as single
+ * byte charsets such as ISO-8859-1 or EBCDIC do for all their characters, and UTF-8 for
+ * the ASCII ones. Other characters and charsets go through the regular {@link String}
+ * encoding.
+ * </p>
+ *
+ * <p>
+ * The write methods do not write anything when the target is too small, but return the
+ * negated number of bytes needed, as {@link format.bind.converter.FieldConverter#formatBytes(format.bind.FormatFieldDescriptor, Object, byte[], int)}.
+ * </p>
+ *
+ * @author Yannick Ebongue
+ */
+@UtilityClass
+class FieldBytes {
+
+	/**
+	 * Check whether the given slice contains the encoded bytes of the given text.
+	 *
+	 * @param source The byte array.
+	 * @param offset The index of the first byte of the slice.
+	 * @param length The number of bytes of the slice.
+	 * @param text The text to compare.
+	 * @param charset The charset of the text.
+	 * @return {@code true} if the slice is equal to the encoded text.
+	 */
+	boolean matches(final byte[] source, final int offset, final int length, final String text, final Charset charset) {
+		FieldCharset table = FieldCharset.of(charset);
+
+		if (table.canEncode(text)) {
+			if (text.length() != length) {
+				return false;
+			}
+
+			for (int i = 0; i < length; i++) {
+				if (source[offset + i] != (byte) table.encode(text.charAt(i))) {
+					return false;
+				}
+			}
+
+			return true;
+		}
+
+		return matches(source, offset, length, text.getBytes(charset));
+	}
+
+	/**
+	 * Check whether the given slice contains the given bytes.
+	 *
+	 * @param source The byte array.
+	 * @param offset The index of the first byte of the slice.
+	 * @param length The number of bytes of the slice.
+	 * @param bytes The bytes to compare.
+	 * @return {@code true} if the slice is equal to the bytes.
+	 */
+	boolean matches(final byte[] source, final int offset, final int length, final byte[] bytes) {
+		if (bytes.length != length) {
+			return false;
+		}
+
+		for (int i = 0; i < length; i++) {
+			if (source[offset + i] != bytes[i]) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Decodes the given slice, like {@link String#String(byte[], int, int, Charset)}.
+	 *
+	 * @param source The byte array.
+	 * @param offset The index of the first byte of the slice.
+	 * @param length The number of bytes of the slice.
+	 * @param charset The charset of the slice.
+	 * @return The decoded text.
+	 */
+	String decode(final byte[] source, final int offset, final int length, final Charset charset) {
+		String text = FieldCharset.of(charset).decode(source, offset, length);
+		return text != null ? text : new String(source, offset, length, charset);
+	}
+
+	/**
+	 * Parses the given slice as a signed decimal {@code long}, like {@link Long#parseLong(String)}.
+	 *
+	 * @param source The byte array.
+	 * @param offset The index of the first byte of the slice.
+	 * @param length The number of bytes of the slice.
+	 * @param charset The charset of the slice.
+	 * @return The parsed value.
+	 * @throws NumberFormatException if the slice does not contain a parsable {@code long}.
+	 */
+	long parseLong(final byte[] source, final int offset, final int length, final Charset charset) {
+		FieldCharset table = FieldCharset.of(charset);
+
+		if (length > 0 && table.hasDigits()) {
+			int index = offset;
+			int end = offset + length;
+			char sign = table.decode(source[index]);
+			boolean negative = sign == '-';
+
+			if (negative || sign == '+') {
+				index++;
+			}
+
+			long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+			long multmin = limit / 10;
+			long result = 0;
+			boolean valid = index < end;
+
+			// Accumulate negatively, as Long.parseLong, to reach Long.MIN_VALUE
+			while (valid && index < end) {
+				int digit = table.digitValue(source[index++]);
+				valid = digit >= 0 && result >= multmin && result * 10 >= limit + digit;
+				result = result * 10 - digit;
+			}
+
+			if (valid) {
+				return negative ? result : -result;
+			}
+		}
+
+		// Let the JDK handle (and report) the other cases
+		return Long.parseLong(decode(source, offset, length, charset));
+	}
+
+	/**
+	 * Parses the given slice as a packed decimal (COMP-3) {@code long}.
+	 *
+	 * @param source The byte array.
+	 * @param offset The index of the first byte of the slice.
+	 * @param length The number of bytes of the slice.
+	 * @return The parsed value.
+	 * @throws NumberFormatException if the slice does not contain a packed decimal.
+	 * @throws ArithmeticException if the value overflows a {@code long}.
+	 */
+	long parsePacked(final byte[] source, final int offset, final int length) {
+		long result = 0;
+		int end = offset + length - 1;
+
+		for (int i = offset; i <= end; i++) {
+			int high = (source[i] >> 4) & 0x0F;
+			int low = source[i] & 0x0F;
+
+			if (high > 9 || i < end && low > 9) {
+				throw new NumberFormatException(String.format("Invalid packed decimal digit at offset %d", i));
+			}
+
+			result = Math.addExact(Math.multiplyExact(result, 10), high);
+
+			if (i < end) {
+				result = Math.addExact(Math.multiplyExact(result, 10), low);
+			} else if (low == 0x0B || low == 0x0D) {
+				result = -result;
+			} else if (low < 0x0A) {
+				throw new NumberFormatException(String.format("Invalid packed decimal sign at offset %d", i));
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Writes the given value as a packed decimal (COMP-3) of the given size, left padded
+	 * with zero digits and signed with {@code 0xC} or {@code 0xD}.
+	 *
+	 * @param value The value to write.
+	 * @param size The number of bytes to write.
+	 * @param target The byte array receiving the bytes.
+	 * @param offset The index of the first byte to write.
+	 * @return The number of bytes written, or the negated number of bytes needed if the target is too small.
+	 * @throws IllegalArgumentException if the value has more than {@code 2 * size - 1} digits.
+	 */
+	int writePacked(final long value, final int size, final byte[] target, final int offset) {
+		if (size > target.length - offset) {
+			return -size;
+		}
+
+		// The remainders keep the sign of the value, which also handles Long.MIN_VALUE
+		long rest = value;
+		int nibble = value < 0 ? 0x0D : 0x0C;
+
+		for (int i = offset + size - 1; i >= offset; i--) {
+			nibble |= (int) Math.abs(rest % 10) << 4;
+			rest /= 10;
+			target[i] = (byte) nibble;
+			nibble = (int) Math.abs(rest % 10);
+			rest /= 10;
+		}
+
+		if (nibble != 0 || rest != 0) {
+			throw new IllegalArgumentException(String.format("Unable to write %d in %d packed decimal bytes", value, size));
+		}
+
+		return size;
+	}
+
+	/**
+	 * Parses the given slice as a big-endian two's complement binary {@code long}.
+	 *
+	 * @param source The byte array.
+	 * @param offset The index of the first byte of the slice.
+	 * @param length The number of bytes of the slice, at most 8.
+	 * @return The parsed value.
+	 * @throws IllegalArgumentException if the slice is longer than 8 bytes.
+	 */
+	long parseBinary(final byte[] source, final int offset, final int length) {
+		if (length > Long.BYTES) {
+			throw new IllegalArgumentException(String.format("Unable to read %d binary integer bytes", length));
+		}
+
+		// The first byte is sign extended
+		long result = source[offset];
+
+		for (int i = offset + 1; i < offset + length; i++) {
+			result = (result << 8) | (source[i] & 0xFF);
+		}
+
+		return result;
+	}
+
+	/**
+	 * Writes the given value as a big-endian two's complement binary integer of the given size.
+	 *
+	 * @param value The value to write.
+	 * @param size The number of bytes to write, at most 8.
+	 * @param target The byte array receiving the bytes.
+	 * @param offset The index of the first byte to write.
+	 * @return The number of bytes written, or the negated number of bytes needed if the target is too small.
+	 * @throws IllegalArgumentException if the value does not fit in the given size.
+	 */
+	int writeBinary(final long value, final int size, final byte[] target, final int offset) {
+		if (size > Long.BYTES || size < Long.BYTES && (value >> (size * 8 - 1)) != (value >> 63)) {
+			throw new IllegalArgumentException(String.format("Unable to write %d in %d binary integer bytes", value, size));
+		}
+
+		if (size > target.length - offset) {
+			return -size;
+		}
+
+		long rest = value;
+
+		for (int i = offset + size - 1; i >= offset; i--) {
+			target[i] = (byte) rest;
+			rest >>= 8;
+		}
+
+		return size;
+	}
+
+	/**
+	 * Writes the encoded bytes of the given text into the given byte array.
+	 *
+	 * @param text The text to write.
+	 * @param charset The charset of the text.
+	 * @param target The byte array receiving the bytes.
+	 * @param offset The index of the first byte to write.
+	 * @return The number of bytes written, or the negated number of bytes needed if the target is too small.
+	 */
+	int write(final String text, final Charset charset, final byte[] target, final int offset) {
+		int length = text.length();
+		FieldCharset table = FieldCharset.of(charset);
+
+		if (table.canEncode(text)) {
+			if (length > target.length - offset) {
+				return -length;
+			}
+
+			return encode(text, table, target, offset);
+		}
+
+		byte[] bytes = text.getBytes(charset);
+
+		if (bytes.length > target.length - offset) {
+			return -bytes.length;
+		}
+
+		System.arraycopy(bytes, 0, target, offset, bytes.length);
+		return bytes.length;
+	}
+
+	/**
+	 * Writes the encoded bytes of the given text left padded to the given size, like
+	 * {@link StringUtils#leftPad(String, int, char)}.
+	 *
+	 * @param text The text to write.
+	 * @param size The size to pad to.
+	 * @param padChar The character to pad with.
+	 * @param charset The charset of the text.
+	 * @param target The byte array receiving the bytes.
+	 * @param offset The index of the first byte to write.
+	 * @return The number of bytes written, or the negated number of bytes needed if the target is too small.
+	 */
+	int writeLeftPadded(final String text, final int size, final char padChar, final Charset charset, final byte[] target, final int offset) {
+		int pads = size - text.length();
+
+		if (pads <= 0) {
+			return write(text, charset, target, offset);
+		}
+
+		FieldCharset table = FieldCharset.of(charset);
+		int pad = table.encode(padChar);
+
+		if (pad < 0 || !table.canEncode(text)) {
+			return write(StringUtils.leftPad(text, size, padChar), charset, target, offset);
+		}
+
+		if (size > target.length - offset) {
+			return -size;
+		}
+
+		for (int i = 0; i < pads; i++) {
+			target[offset + i] = (byte) pad;
+		}
+
+		encode(text, table, target, offset + pads);
+		return size;
+	}
+
+	/**
+	 * Writes the decimal digits of the given value left padded with zeros to the given size,
+	 * like {@link #writeLeftPadded(String, int, char, Charset, byte[], int)} with the
+	 * {@link String#valueOf(long) text} of the value, without creating it.
+	 *
+	 * @param value The value to write.
+	 * @param size The size to pad to.
+	 * @param charset The charset of the digits.
+	 * @param target The byte array receiving the bytes.
+	 * @param offset The index of the first byte to write.
+	 * @return The number of bytes written, or the negated number of bytes needed if the target is too small.
+	 */
+	int writeZeroPadded(final long value, final int size, final Charset charset, final byte[] target, final int offset) {
+		FieldCharset table = FieldCharset.of(charset);
+
+		if (value < 0 || !table.hasDigits()) {
+			return writeLeftPadded(String.valueOf(value), size, '0', charset, target, offset);
+		}
+
+		int digits = 1;
+
+		for (long rest = value / 10; rest != 0; rest /= 10) {
+			digits++;
+		}
+
+		int length = Math.max(size, digits);
+
+		if (length > target.length - offset) {
+			return -length;
+		}
+
+		long rest = value;
+
+		for (int i = offset + length - 1; i >= offset; i--) {
+			target[i] = table.digit((int) (rest % 10));
+			rest /= 10;
+		}
+
+		return length;
+	}
+
+	/**
+	 * Writes the encoded bytes of the given text right padded with spaces to the given size,
+	 * like {@link StringUtils#rightPad(String, int)}.
+	 *
+	 * @param text The text to write.
+	 * @param size The size to pad to.
+	 * @param charset The charset of the text.
+	 * @param target The byte array receiving the bytes.
+	 * @param offset The index of the first byte to write.
+	 * @return The number of bytes written, or the negated number of bytes needed if the target is too small.
+	 */
+	int writeRightPadded(final String text, final int size, final Charset charset, final byte[] target, final int offset) {
+		int pads = size - text.length();
+
+		if (pads <= 0) {
+			return write(text, charset, target, offset);
+		}
+
+		FieldCharset table = FieldCharset.of(charset);
+		int pad = table.encode(' ');
+
+		if (pad < 0 || !table.canEncode(text)) {
+			return write(StringUtils.rightPad(text, size), charset, target, offset);
+		}
+
+		if (size > target.length - offset) {
+			return -size;
+		}
+
+		int length = encode(text, table, target, offset);
+
+		for (int i = 0; i < pads; i++) {
+			target[offset + length + i] = (byte) pad;
+		}
+
+		return size;
+	}
+
+	private int encode(final String text, final FieldCharset table, final byte[] target, final int offset) {
+		int length = text.length();
+
+		for (int i = 0; i < length; i++) {
+			target[offset + i] = (byte) table.encode(text.charAt(i));
+		}
+
+		return length;
+	}
+
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright 2024 jFormat-B
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package format.bind.runtime.impl.converter;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The translation tables of a charset, for the characters it encodes as single bytes.
+ *
+ * <p>
+ * The tables are built once per charset by encoding and decoding each of the 256 byte
+ * values. Every byte of a single byte charset (e.g. {@code US-ASCII}, {@code ISO-8859-1} or
+ * the {@code IBM037} and {@code IBM1047} EBCDIC code pages) that decodes to a single
+ * character, and back to the same byte, is mapped. For {@code UTF-8} only the ASCII
+ * characters are mapped. Other charsets have no mapped byte. The bytes or characters that
+ * are not mapped must go through the regular {@link String} encoding.
+ * </p>
+ *
+ * @author Yannick Ebongue
+ */
+final class FieldCharset {
+
+	/** The character of the bytes that are not mapped. */
+	private static final char UNMAPPED = '\uFFFF';
+
+	/** The tables of each charset. */
+	private static final ConcurrentMap<Charset, FieldCharset> charsets = new ConcurrentHashMap<>();
+
+	/** The character of each byte value, or {@link #UNMAPPED}. */
+	private final char[] chars = new char[256];
+
+	/** The byte value of each character below {@code 256}, or {@code -1}. */
+	private final short[] codes = new short[256];
+
+	/** The bytes of the decimal digits, or {@code null} if the digits are not mapped. */
+	private final byte[] digits;
+
+	/** Whether each mapped byte is the ISO-8859-1 code of its character. */
+	private final boolean latin1;
+
+	private FieldCharset(final Charset charset) {
+		Arrays.fill(chars, UNMAPPED);
+		Arrays.fill(codes, (short) -1);
+
+		boolean singleByte = charset.canEncode() && charset.newEncoder().maxBytesPerChar() == 1.0f;
+		int limit = singleByte ? 256 : StandardCharsets.UTF_8.equals(charset) ? 128 : 0;
+		boolean identity = true;
+
+		for (int value = 0; value < limit; value++) {
+			byte[] bytes = { (byte) value };
+			String text = new String(bytes, charset);
+
+			if (text.length() == 1 && text.charAt(0) != '\uFFFD' && text.charAt(0) != UNMAPPED && Arrays.equals(text.getBytes(charset), bytes)) {
+				char c = text.charAt(0);
+				chars[value] = c;
+				identity &= c == value;
+
+				if (c < codes.length) {
+					codes[c] = (short) value;
+				}
+			}
+		}
+
+		byte[] digitBytes = new byte[10];
+		boolean mappedDigits = true;
+
+		for (int digit = 0; digit < digitBytes.length; digit++) {
+			mappedDigits &= codes['0' + digit] >= 0;
+			digitBytes[digit] = (byte) codes['0' + digit];
+		}
+
+		this.digits = mappedDigits ? digitBytes : null;
+		this.latin1 = identity;
+	}
+
+	/**
+	 * Obtain the translation tables of the given charset.
+	 *
+	 * @param charset The charset.
+	 * @return The translation tables.
+	 */
+	static FieldCharset of(final Charset charset) {
+		FieldCharset result = charsets.get(charset);
+
+		if (result == null) {
+			result = new FieldCharset(charset);
+			FieldCharset previous = charsets.putIfAbsent(charset, result);
+			result = previous != null ? previous : result;
+		}
+
+		return result;
+	}
+
+	/**
+	 * Returns the character of the given byte.
+	 *
+	 * @param value The byte.
+	 * @return The character, or {@link #UNMAPPED} if the byte is not mapped.
+	 */
+	char decode(final byte value) {
+		return chars[value & 0xFF];
+	}
+
+	/**
+	 * Returns the byte of the given character.
+	 *
+	 * @param c The character.
+	 * @return The byte value, or {@code -1} if the character is not mapped.
+	 */
+	int encode(final char c) {
+		return c < codes.length ? codes[c] : -1;
+	}
+
+	/**
+	 * Check whether all the characters of the given text are mapped.
+	 *
+	 * @param text The text.
+	 * @return {@code true} if the text can be encoded with the tables.
+	 */
+	boolean canEncode(final String text) {
+		for (int i = 0; i < text.length(); i++) {
+			if (encode(text.charAt(i)) < 0) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Check whether the decimal digits are mapped.
+	 *
+	 * @return {@code true} if the digits can be read and written with the tables.
+	 */
+	boolean hasDigits() {
+		return digits != null;
+	}
+
+	/**
+	 * Returns the byte of the given decimal digit. The digits must be {@linkplain #hasDigits() mapped}.
+	 *
+	 * @param digit The digit value, from {@code 0} to {@code 9}.
+	 * @return The byte of the digit.
+	 */
+	byte digit(final int digit) {
+		return digits[digit];
+	}
+
+	/**
+	 * Returns the value of the decimal digit of the given byte.
+	 *
+	 * @param value The byte.
+	 * @return The digit value, or {@code -1} if the byte is not a mapped digit.
+	 */
+	int digitValue(final byte value) {
+		char c = chars[value & 0xFF];
+		return c >= '0' && c <= '9' ? c - '0' : -1;
+	}
+
+	/**
+	 * Decodes the given slice.
+	 *
+	 * @param source The byte array.
+	 * @param offset The index of the first byte of the slice.
+	 * @param length The number of bytes of the slice.
+	 * @return The decoded text, or {@code null} if a byte of the slice is not mapped.
+	 */
+	String decode(final byte[] source, final int offset, final int length) {
+		if (latin1) {
+			for (int i = offset; i < offset + length; i++) {
+				if (chars[source[i] & 0xFF] == UNMAPPED) {
+					return null;
+				}
+			}
+
+			// The compact (Latin-1) strings are created by a plain copy
+			return new String(source, offset, length, StandardCharsets.ISO_8859_1);
+		}
+
+		char[] text = new char[length];
+
+		for (int i = 0; i < length; i++) {
+			char c = chars[source[offset + i] & 0xFF];
+
+			if (c == UNMAPPED) {
+				return null;
+			}
+
+			text[i] = c;
+		}
+
+		return new String(text);
+	}
+
+}
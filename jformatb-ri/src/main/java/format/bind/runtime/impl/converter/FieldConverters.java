@@ -39,6 +39,7 @@
 
 import format.bind.FormatFieldDescriptor;
 import format.bind.Formatter;
+import format.bind.annotation.FormatStateless;
 import format.bind.converter.FieldConversionException;
 import format.bind.converter.FieldConverter;
 import lombok.experimental.UtilityClass;
@@ -54,6 +55,9 @@ class FieldConverters {
 	/** The collection of all resolved field converters. */
 	private static final ConcurrentMap<Class<?>, FieldConverter<?>> converters = new ConcurrentHashMap<>();
 
+	/** The shared instances of the stateless converter types. */
+	private static final ConcurrentMap<Class<?>, FieldConverter<?>> statelessConverters = new ConcurrentHashMap<>();
+
 	static {
 		addConverter(Boolean.class, BooleanConverter::new);
 		addConverter(Byte.class, ByteConverter::new);
@@ -122,7 +126,16 @@ private <T> FieldConverter<T> addConverter(final Class<T> type, final Supplier<F
 	 */
 	@SuppressWarnings("unchecked")
 	private <T> FieldConverter<T> addConverter(final Class<T> type, final Function<Class<?>, FieldConverter<?>> converterFunction) {
-		return (FieldConverter<T>) converters.computeIfAbsent(type, converterFunction);
+		FieldConverter<T> converter = (FieldConverter<T>) converters.get(type);
+
+		if (converter == null) {
+			// The converter may obtain other converters while being created
+			converter = (FieldConverter<T>) converterFunction.apply(type);
+			FieldConverter<T> previous = (FieldConverter<T>) converters.putIfAbsent(type, converter);
+			converter = previous != null ? previous : converter;
+		}
+
+		return converter;
 	}
 
 	/**
@@ -143,13 +156,32 @@ private <T> FieldConverter<T> getValueConverter(final Class<T> fieldType) {
 
 	/**
 	 * Obtain the {@link FieldConverter} of the specified field type and converter type.
+	 * 
+	 * <p>
+	 * A converter type annotated with {@link FormatStateless} is instantiated once and shared.
+	 * Otherwise, a new instance is created.
+	 * </p>
 	 * @param <T> The Java type of the field.
 	 * @param fieldType The class instance of the field Java type.
 	 * @param converterType The class instance of the field converter to obtain.
 	 * @return The field converter instance.
 	 */
+	@SuppressWarnings("unchecked")
 	<T> FieldConverter<T> getConverter(Class<T> fieldType, Class<? extends FieldConverter<T>> converterType) {
-		return newInstance(converterType);
+		if (!converterType.isAnnotationPresent(FormatStateless.class)) {
+			return newInstance(converterType);
+		}
+
+		FieldConverter<T> converter = (FieldConverter<T>) statelessConverters.get(converterType);
+
+		if (converter == null) {
+			// The converter may obtain other converters while being created
+			converter = newInstance(converterType);
+			FieldConverter<T> previous = (FieldConverter<T>) statelessConverters.putIfAbsent(converterType, converter);
+			converter = previous != null ? previous : converter;
+		}
+
+		return converter;
 	}
 
 	/**
@@ -227,4 +259,20 @@ FieldConversionException parseFieldConversionException(
 				cause);
 	}
 
+	/**
+	 * Returns the {@link FieldConversionException} to throw during formatted byte array slice parsing.
+	 * @param descriptor The {@link FormatFieldDescriptor}.
+	 * @param source The source byte array containing the slice to parse.
+	 * @param offset The index of the first byte of the slice.
+	 * @param length The number of bytes of the slice.
+	 * @param cause The cause of the exception to throw.
+	 * @return The {@link FieldConversionException} to throw.
+	 */
+	FieldConversionException parseFieldConversionException(
+			final FormatFieldDescriptor descriptor, final byte[] source, final int offset, final int length, Exception cause) {
+		return new FieldConversionException(
+				String.format("Unable to parse byte array [%s] for field '%s'", new String(Hex.encodeHex(source, offset, length, false)), descriptor.name()),
+				cause);
+	}
+
 }
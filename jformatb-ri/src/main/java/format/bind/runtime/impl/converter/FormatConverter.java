@@ -15,18 +15,45 @@
  */
 package format.bind.runtime.impl.converter;
 
-import java.util.Arrays;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import format.bind.FormatFieldDescriptor;
+import format.bind.FormatReader;
+import format.bind.FormatWriter;
 import format.bind.Formatter;
 import format.bind.converter.FieldConversionException;
 import format.bind.converter.FieldConverter;
 
+/**
+ * The {@link FieldConverter} of a field formatted by another {@link Formatter}.
+ *
+ * <p>
+ * The converter is created once per field of a compiled format, and keeps the reader and
+ * the writer of the nested format for each charset, so that no processor is created per
+ * value. The runtime readers and writers read the nested values from the slices of the
+ * parent record, and format them into its buffer, without this converter, which is used by
+ * the generated processors and the custom converter providers. Its byte array methods wrap
+ * the slices read by the nested reader and copy the bytes formatted by the nested writer.
+ * </p>
+ *
+ * @param <T> The Java type of the field.
+ *
+ * @author Yannick Ebongue
+ */
 final class FormatConverter<T> implements FieldConverter<T> {
 
 	private final Formatter<T> formatter;
 
+	/** The readers of the nested format, by charset. */
+	private final ConcurrentMap<Charset, FormatReader<T, ?>> readers = new ConcurrentHashMap<>();
+
+	/** The writers of the nested format, by charset. */
+	private final ConcurrentMap<Charset, FormatWriter<T, ?>> writers = new ConcurrentHashMap<>();
+
 	private FormatConverter(final Formatter<T> formatter) {
 		this.formatter = formatter;
 	}
@@ -39,14 +66,64 @@ public static <T> FormatConverter<T> of(final Formatter<T> formatter) {
 	public byte[] formatBytes(FormatFieldDescriptor descriptor, T value)
 			throws FieldConversionException {
 		return Optional.ofNullable(value)
-				.map(obj -> formatter.formatBytes(obj, descriptor.charset()))
-				.orElseGet(() -> descriptor.placeholder().getBytes(descriptor.charset()));
+				.map(obj -> getWriter(descriptor.charset()).writeBytes(obj))
+				.orElseGet(() -> descriptor.placeholderBytes().clone());
+	}
+
+	@Override
+	public int formatBytes(FormatFieldDescriptor descriptor, T value, byte[] target, int offset)
+			throws FieldConversionException {
+		byte[] bytes = value != null ? getWriter(descriptor.charset()).writeBytes(value) : descriptor.placeholderBytes();
+
+		if (bytes.length > target.length - offset) {
+			return -bytes.length;
+		}
+
+		System.arraycopy(bytes, 0, target, offset, bytes.length);
+		return bytes.length;
 	}
 
 	@Override
 	public T parseBytes(FormatFieldDescriptor descriptor, byte[] source)
 			throws FieldConversionException {
-		return Arrays.equals(source, descriptor.placeholder().getBytes(descriptor.charset())) ? null : formatter.parseBytes(source, descriptor.charset());
+		return parseBytes(descriptor, source, 0, source.length);
+	}
+
+	@Override
+	public T parseBytes(FormatFieldDescriptor descriptor, byte[] source, int offset, int length)
+			throws FieldConversionException {
+		if (FieldBytes.matches(source, offset, length, descriptor.placeholderBytes())) {
+			return null;
+		}
+
+		// The nested reader reads the slice in place
+		return getReader(descriptor.charset()).readBuffer(ByteBuffer.wrap(source, offset, length));
+	}
+
+	private FormatReader<T, ?> getReader(final Charset charset) {
+		FormatReader<T, ?> reader = readers.get(charset);
+
+		if (reader == null) {
+			FormatReader<T, ?> defaultReader = formatter.reader();
+			reader = defaultReader.withCharset(charset);
+			FormatReader<T, ?> previous = readers.putIfAbsent(charset, reader);
+			reader = previous != null ? previous : reader;
+		}
+
+		return reader;
+	}
+
+	private FormatWriter<T, ?> getWriter(final Charset charset) {
+		FormatWriter<T, ?> writer = writers.get(charset);
+
+		if (writer == null) {
+			FormatWriter<T, ?> defaultWriter = formatter.writer();
+			writer = defaultWriter.withCharset(charset);
+			FormatWriter<T, ?> previous = writers.putIfAbsent(charset, writer);
+			writer = previous != null ? previous : writer;
+		}
+
+		return writer;
 	}
 
 }
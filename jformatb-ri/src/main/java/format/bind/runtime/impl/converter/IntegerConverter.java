@@ -17,7 +17,39 @@
 
 import java.math.BigDecimal;
 
-final class IntegerConverter extends NumberConverter<Integer> {
+import format.bind.FormatFieldDescriptor;
+import format.bind.converter.FieldConversionException;
+import format.bind.converter.IntFieldConverter;
+
+final class IntegerConverter extends NumberConverter<Integer> implements IntFieldConverter {
+
+	@Override
+	public int parseInt(final FormatFieldDescriptor descriptor, final byte[] source, final int offset, final int length) throws FieldConversionException {
+		try {
+			return toInt(descriptor, parseUnscaled(descriptor, source, offset, length));
+		} catch (Exception e) {
+			throw FieldConverters.parseFieldConversionException(descriptor, source, offset, length, e);
+		}
+	}
+
+	@Override
+	public int formatInt(final FormatFieldDescriptor descriptor, final int value, final byte[] target, final int offset) throws FieldConversionException {
+		try {
+			return formatUnscaled(descriptor, toUnscaled(descriptor, value), target, offset);
+		} catch (Exception e) {
+			throw FieldConverters.formatFieldConversionException(descriptor, value, e);
+		}
+	}
+
+	@Override
+	protected long toUnscaled(final FormatFieldDescriptor descriptor, final Integer number) {
+		return toUnscaled(descriptor, number.intValue());
+	}
+
+	@Override
+	protected Integer toValue(final FormatFieldDescriptor descriptor, final long unscaledValue) {
+		return toInt(descriptor, unscaledValue);
+	}
 
 	@Override
 	protected BigDecimal valueOf(final Integer number) {
@@ -29,4 +61,12 @@ protected Integer toValue(final BigDecimal value) {
 		return value.intValueExact();
 	}
 
+	private static long toUnscaled(final FormatFieldDescriptor descriptor, final int value) {
+		return descriptor.scale() == 0 ? value : BigDecimal.valueOf(value).setScale(descriptor.scale()).unscaledValue().longValueExact();
+	}
+
+	private static int toInt(final FormatFieldDescriptor descriptor, final long unscaledValue) {
+		return descriptor.scale() == 0 ? Math.toIntExact(unscaledValue) : BigDecimal.valueOf(unscaledValue, descriptor.scale()).intValueExact();
+	}
+
 }
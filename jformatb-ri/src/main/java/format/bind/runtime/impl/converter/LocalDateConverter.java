@@ -18,6 +18,8 @@
 import java.time.LocalDate;
 import java.time.temporal.TemporalQuery;
 
+import format.bind.FormatFieldDescriptor;
+
 final class LocalDateConverter extends TemporalAccessorConverter<LocalDate> {
 
 	@Override
@@ -25,4 +27,14 @@ protected TemporalQuery<LocalDate> query() {
 		return LocalDate::from;
 	}
 
+	@Override
+	protected LocalDate parseLayout(final DateTimeLayout layout, final byte[] source, final int offset, final int length, final FormatFieldDescriptor descriptor) {
+		return layout.parseDate(source, offset, length, descriptor.charset());
+	}
+
+	@Override
+	protected int formatLayout(final DateTimeLayout layout, final LocalDate value, final byte[] target, final int offset, final FormatFieldDescriptor descriptor) {
+		return layout.formatDate(value, descriptor.charset(), target, offset);
+	}
+
 }
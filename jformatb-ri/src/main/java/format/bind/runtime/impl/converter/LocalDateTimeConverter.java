@@ -18,6 +18,8 @@
 import java.time.LocalDateTime;
 import java.time.temporal.TemporalQuery;
 
+import format.bind.FormatFieldDescriptor;
+
 final class LocalDateTimeConverter extends TemporalAccessorConverter<LocalDateTime> {
 
 	@Override
@@ -25,4 +27,14 @@ protected TemporalQuery<LocalDateTime> query() {
 		return LocalDateTime::from;
 	}
 
+	@Override
+	protected LocalDateTime parseLayout(final DateTimeLayout layout, final byte[] source, final int offset, final int length, final FormatFieldDescriptor descriptor) {
+		return layout.parseDateTime(source, offset, length, descriptor.charset());
+	}
+
+	@Override
+	protected int formatLayout(final DateTimeLayout layout, final LocalDateTime value, final byte[] target, final int offset, final FormatFieldDescriptor descriptor) {
+		return layout.formatDateTime(value, descriptor.charset(), target, offset);
+	}
+
 }
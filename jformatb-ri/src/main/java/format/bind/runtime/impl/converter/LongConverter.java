@@ -17,7 +17,39 @@
 
 import java.math.BigDecimal;
 
-final class LongConverter extends NumberConverter<Long> {
+import format.bind.FormatFieldDescriptor;
+import format.bind.converter.FieldConversionException;
+import format.bind.converter.LongFieldConverter;
+
+final class LongConverter extends NumberConverter<Long> implements LongFieldConverter {
+
+	@Override
+	public long parseLong(final FormatFieldDescriptor descriptor, final byte[] source, final int offset, final int length) throws FieldConversionException {
+		try {
+			return toLong(descriptor, parseUnscaled(descriptor, source, offset, length));
+		} catch (Exception e) {
+			throw FieldConverters.parseFieldConversionException(descriptor, source, offset, length, e);
+		}
+	}
+
+	@Override
+	public int formatLong(final FormatFieldDescriptor descriptor, final long value, final byte[] target, final int offset) throws FieldConversionException {
+		try {
+			return formatUnscaled(descriptor, toUnscaled(descriptor, value), target, offset);
+		} catch (Exception e) {
+			throw FieldConverters.formatFieldConversionException(descriptor, value, e);
+		}
+	}
+
+	@Override
+	protected long toUnscaled(final FormatFieldDescriptor descriptor, final Long number) {
+		return toUnscaled(descriptor, number.longValue());
+	}
+
+	@Override
+	protected Long toValue(final FormatFieldDescriptor descriptor, final long unscaledValue) {
+		return toLong(descriptor, unscaledValue);
+	}
 
 	@Override
 	protected BigDecimal valueOf(final Long number) {
@@ -29,4 +61,12 @@ protected Long toValue(final BigDecimal value) {
 		return value.longValueExact();
 	}
 
+	private static long toUnscaled(final FormatFieldDescriptor descriptor, final long value) {
+		return descriptor.scale() == 0 ? value : BigDecimal.valueOf(value).setScale(descriptor.scale()).unscaledValue().longValueExact();
+	}
+
+	private static long toLong(final FormatFieldDescriptor descriptor, final long unscaledValue) {
+		return descriptor.scale() == 0 ? unscaledValue : BigDecimal.valueOf(unscaledValue, descriptor.scale()).longValueExact();
+	}
+
 }
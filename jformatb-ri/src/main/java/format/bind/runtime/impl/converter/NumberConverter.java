@@ -16,11 +16,11 @@
 package format.bind.runtime.impl.converter;
 
 import java.math.BigDecimal;
-import java.util.Optional;
 
 import org.apache.commons.lang3.StringUtils;
 
 import format.bind.FormatFieldDescriptor;
+import format.bind.annotation.FormatField.Type;
 import format.bind.converter.FieldConversionException;
 import format.bind.converter.FieldConverter;
 
@@ -29,10 +29,22 @@
 	@Override
 	public byte[] formatBytes(final FormatFieldDescriptor descriptor, final N number) throws FieldConversionException {
 		try {
-			long longValue = Optional.ofNullable(number)
-					.map(value -> valueOf(value).setScale(descriptor.scale()).unscaledValue().longValueExact())
-					.orElse(Long.parseLong(StringUtils.defaultIfBlank(descriptor.placeholder(), "0")));
-			return StringUtils.leftPad(String.valueOf(longValue), descriptor.length(), "0").getBytes(descriptor.charset());
+			if (isBinary(descriptor)) {
+				byte[] bytes = new byte[descriptor.length()];
+				formatUnscaled(descriptor, unscaledValue(descriptor, number), bytes, 0);
+				return bytes;
+			}
+
+			return StringUtils.leftPad(String.valueOf(unscaledValue(descriptor, number)), descriptor.length(), "0").getBytes(descriptor.charset());
+		} catch (Exception e) {
+			throw FieldConverters.formatFieldConversionException(descriptor, number, e);
+		}
+	}
+
+	@Override
+	public int formatBytes(final FormatFieldDescriptor descriptor, final N number, final byte[] target, final int offset) throws FieldConversionException {
+		try {
+			return formatUnscaled(descriptor, unscaledValue(descriptor, number), target, offset);
 		} catch (Exception e) {
 			throw FieldConverters.formatFieldConversionException(descriptor, number, e);
 		}
@@ -40,19 +52,74 @@ public byte[] formatBytes(final FormatFieldDescriptor descriptor, final N number
 
 	@Override
 	public N parseBytes(final FormatFieldDescriptor descriptor, final byte[] source) throws FieldConversionException {
+		return parseBytes(descriptor, source, 0, source.length);
+	}
+
+	@Override
+	public N parseBytes(final FormatFieldDescriptor descriptor, final byte[] source, final int offset, final int length) throws FieldConversionException {
 		try {
-			long longValue = Long.parseLong(new String(source, descriptor.charset()));
+			long longValue = parseUnscaled(descriptor, source, offset, length);
 
 			if (!descriptor.placeholder().isEmpty() && longValue == Long.parseLong(descriptor.placeholder())) {
 				return null;
 			}
 
-			return toValue(BigDecimal.valueOf(longValue, descriptor.scale()));
+			return toValue(descriptor, longValue);
 		} catch (Exception e) {
-			throw FieldConverters.parseFieldConversionException(descriptor, source, e);
+			throw FieldConverters.parseFieldConversionException(descriptor, source, offset, length, e);
+		}
+	}
+
+	/**
+	 * Parses the unscaled value of the given slice.
+	 */
+	protected static long parseUnscaled(final FormatFieldDescriptor descriptor, final byte[] source, final int offset, final int length) {
+		if (descriptor.type() == Type.PACKED_DECIMAL) {
+			return FieldBytes.parsePacked(source, offset, length);
+		} else if (descriptor.type() == Type.BINARY_INTEGER) {
+			return FieldBytes.parseBinary(source, offset, length);
+		} else {
+			return FieldBytes.parseLong(source, offset, length, descriptor.charset());
 		}
 	}
 
+	/**
+	 * Writes the zero padded digits, or the packed or binary bytes, of the given unscaled value.
+	 */
+	protected static int formatUnscaled(final FormatFieldDescriptor descriptor, final long unscaledValue, final byte[] target, final int offset) {
+		if (descriptor.type() == Type.PACKED_DECIMAL) {
+			return FieldBytes.writePacked(unscaledValue, descriptor.length(), target, offset);
+		} else if (descriptor.type() == Type.BINARY_INTEGER) {
+			return FieldBytes.writeBinary(unscaledValue, descriptor.length(), target, offset);
+		} else {
+			return FieldBytes.writeZeroPadded(unscaledValue, descriptor.length(), descriptor.charset(), target, offset);
+		}
+	}
+
+	private static boolean isBinary(final FormatFieldDescriptor descriptor) {
+		return descriptor.type() == Type.PACKED_DECIMAL || descriptor.type() == Type.BINARY_INTEGER;
+	}
+
+	private long unscaledValue(final FormatFieldDescriptor descriptor, final N number) {
+		return number != null
+				? toUnscaled(descriptor, number)
+				: Long.parseLong(StringUtils.defaultIfBlank(descriptor.placeholder(), "0"));
+	}
+
+	/**
+	 * Returns the unscaled value of the given number at the scale of the field.
+	 */
+	protected long toUnscaled(final FormatFieldDescriptor descriptor, final N number) {
+		return valueOf(number).setScale(descriptor.scale()).unscaledValue().longValueExact();
+	}
+
+	/**
+	 * Returns the number of the given unscaled value at the scale of the field.
+	 */
+	protected N toValue(final FormatFieldDescriptor descriptor, final long unscaledValue) {
+		return toValue(BigDecimal.valueOf(unscaledValue, descriptor.scale()));
+	}
+
 	protected abstract BigDecimal valueOf(final N number);
 
 	protected abstract N toValue(final BigDecimal value);
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2024 jFormat-B
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package format.bind.runtime.impl.converter;
+
+import format.bind.FormatFieldDescriptor;
+
+/**
+ * A field descriptor resolved once per field of a compiled format, holding the format its
+ * converter derives from the options, so that the format is not looked up on each conversion.
+ *
+ * <p>
+ * The held format is immutable and only read by the converter of the field, which resolves
+ * it again if it holds a format of another type. Concurrent conversions may resolve the same
+ * format more than once, the last one being held.
+ * </p>
+ *
+ * @author Yannick Ebongue
+ */
+public interface ResolvedFieldDescriptor extends FormatFieldDescriptor {
+
+	/**
+	 * The format resolved by the converter of the field.
+	 *
+	 * @return The resolved format, or {@code null} if not resolved yet.
+	 */
+	Object resolvedFormat();
+
+	/**
+	 * Hold the format resolved by the converter of the field.
+	 *
+	 * @param format The resolved format.
+	 */
+	void resolvedFormat(Object format);
+
+}
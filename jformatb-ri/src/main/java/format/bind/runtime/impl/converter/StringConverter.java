@@ -16,7 +16,7 @@
 package format.bind.runtime.impl.converter;
 
 import java.text.DecimalFormat;
-import java.util.Arrays;
+import java.util.Objects;
 import java.util.Optional;
 
 import org.apache.commons.lang3.StringUtils;
@@ -32,11 +32,22 @@ final class StringConverter implements FieldConverter<String> {
 	public byte[] formatBytes(final FormatFieldDescriptor descriptor, final String value) throws FieldConversionException {
 		try {
 			if (descriptor.type() == Type.NUMERIC) {
-				String str = Optional.ofNullable(value)
-						.orElse(StringUtils.defaultIfBlank(descriptor.placeholder(), "0"));
-				return StringUtils.leftPad(String.valueOf(Long.parseLong(str)), descriptor.length(), "0").getBytes(descriptor.charset());
+				return StringUtils.leftPad(toNumericText(descriptor, value), descriptor.length(), "0").getBytes(descriptor.charset());
 			} else {
-				return StringUtils.rightPad(StringUtils.defaultString(value, descriptor.placeholder()), descriptor.length()).getBytes(descriptor.charset());
+				return StringUtils.rightPad(Objects.toString(value, descriptor.placeholder()), descriptor.length()).getBytes(descriptor.charset());
+			}
+		} catch (Exception e) {
+			throw FieldConverters.formatFieldConversionException(descriptor, value, e);
+		}
+	}
+
+	@Override
+	public int formatBytes(final FormatFieldDescriptor descriptor, final String value, final byte[] target, final int offset) throws FieldConversionException {
+		try {
+			if (descriptor.type() == Type.NUMERIC) {
+				return FieldBytes.writeLeftPadded(toNumericText(descriptor, value), descriptor.length(), '0', descriptor.charset(), target, offset);
+			} else {
+				return FieldBytes.writeRightPadded(Objects.toString(value, descriptor.placeholder()), descriptor.length(), descriptor.charset(), target, offset);
 			}
 		} catch (Exception e) {
 			throw FieldConverters.formatFieldConversionException(descriptor, value, e);
@@ -45,20 +56,31 @@ public byte[] formatBytes(final FormatFieldDescriptor descriptor, final String v
 
 	@Override
 	public String parseBytes(final FormatFieldDescriptor descriptor, final byte[] source) throws FieldConversionException {
+		return parseBytes(descriptor, source, 0, source.length);
+	}
+
+	@Override
+	public String parseBytes(final FormatFieldDescriptor descriptor, final byte[] source, final int offset, final int length) throws FieldConversionException {
 		try {
 			if (descriptor.type() == Type.NUMERIC) {
-				long value = Long.parseLong(new String(source, descriptor.charset()));
+				long value = FieldBytes.parseLong(source, offset, length, descriptor.charset());
 				if (StringUtils.defaultIfBlank(descriptor.placeholder(), "0").equals(String.valueOf(value))) {
 					return null;
 				} else {
 					return new DecimalFormat(StringUtils.defaultIfBlank(descriptor.format(), StringUtils.leftPad("", descriptor.length(), "0"))).format(value);
 				}
 			} else {
-				return StringUtils.trimToNull((Arrays.equals(source, descriptor.placeholder().getBytes(descriptor.charset()))) ? "" : new String(source, descriptor.charset()));
+				return StringUtils.trimToNull(FieldBytes.matches(source, offset, length, descriptor.placeholderBytes()) ? "" : FieldBytes.decode(source, offset, length, descriptor.charset()));
 			}
 		} catch (Exception e) {
-			throw FieldConverters.parseFieldConversionException(descriptor, source, e);
+			throw FieldConverters.parseFieldConversionException(descriptor, source, offset, length, e);
 		}
 	}
 
+	private static String toNumericText(final FormatFieldDescriptor descriptor, final String value) {
+		String str = Optional.ofNullable(value)
+				.orElse(StringUtils.defaultIfBlank(descriptor.placeholder(), "0"));
+		return String.valueOf(Long.parseLong(str));
+	}
+
 }
@@ -18,32 +18,79 @@
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.TemporalAccessor;
 import java.time.temporal.TemporalQuery;
-import java.util.Arrays;
-import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.apache.commons.lang3.StringUtils;
 
 import format.bind.FormatFieldDescriptor;
 import format.bind.converter.FieldConversionException;
 import format.bind.converter.FieldConverter;
+import lombok.Value;
 
 abstract class TemporalAccessorConverter<T extends TemporalAccessor> implements FieldConverter<T> {
 
+	/** The resolved formats by pattern, locale and zone. */
+	private final ConcurrentMap<Key, Format> formats = new ConcurrentHashMap<>();
+
 	protected abstract TemporalQuery<T> query();
 
 	protected DateTimeFormatter getFormatter(FormatFieldDescriptor descriptor) {
-		return DateTimeFormatter.ofPattern(descriptor.format())
-				.withLocale(locale(descriptor.locale()))
-				.withZone(zone(descriptor.zone()));
+		return getFormat(descriptor).getFormatter();
+	}
+
+	/**
+	 * Read the value of the given slice with the digit layout of the field pattern.
+	 *
+	 * @param layout The digit layout of the field pattern.
+	 * @param source The byte array.
+	 * @param offset The index of the first byte of the slice.
+	 * @param length The number of bytes of the slice.
+	 * @param descriptor The text format field descriptor.
+	 * @return The value, or {@code null} if the slice must be read by the formatter.
+	 */
+	protected T parseLayout(final DateTimeLayout layout, final byte[] source, final int offset, final int length, final FormatFieldDescriptor descriptor) {
+		return null;
+	}
+
+	/**
+	 * Write the given value with the digit layout of the field pattern.
+	 *
+	 * @param layout The digit layout of the field pattern.
+	 * @param value The value to write.
+	 * @param target The byte array receiving the digits.
+	 * @param offset The index of the first byte to write.
+	 * @param descriptor The text format field descriptor.
+	 * @return The number of bytes written, the negated number of bytes needed if the target is
+	 * 		too small, or {@link DateTimeLayout#UNSUPPORTED} if the value must be written by the formatter.
+	 */
+	protected int formatLayout(final DateTimeLayout layout, final T value, final byte[] target, final int offset, final FormatFieldDescriptor descriptor) {
+		return DateTimeLayout.UNSUPPORTED;
 	}
 
 	@Override
 	public byte[] formatBytes(final FormatFieldDescriptor descriptor, final T value) throws FieldConversionException {
 		try {
-			String str = Optional.ofNullable(value)
-					.map(getFormatter(descriptor)::format)
-					.orElseGet(descriptor::placeholder);
-			return StringUtils.leftPad(str, descriptor.length(), "0").getBytes(descriptor.charset());
+			return StringUtils.leftPad(toText(descriptor, value), descriptor.length(), "0").getBytes(descriptor.charset());
+		} catch (Exception e) {
+			throw FieldConverters.formatFieldConversionException(descriptor, value, e);
+		}
+	}
+
+	@Override
+	public int formatBytes(final FormatFieldDescriptor descriptor, final T value, final byte[] target, final int offset) throws FieldConversionException {
+		try {
+			DateTimeLayout layout = getFormat(descriptor).getLayout();
+
+			if (value != null && layout != null && descriptor.length() <= layout.width()) {
+				int length = formatLayout(layout, value, target, offset, descriptor);
+
+				if (length != DateTimeLayout.UNSUPPORTED) {
+					return length;
+				}
+			}
+
+			return FieldBytes.writeLeftPadded(toText(descriptor, value), descriptor.length(), '0', descriptor.charset(), target, offset);
 		} catch (Exception e) {
 			throw FieldConverters.formatFieldConversionException(descriptor, value, e);
 		}
@@ -51,15 +98,98 @@ public byte[] formatBytes(final FormatFieldDescriptor descriptor, final T value)
 
 	@Override
 	public T parseBytes(final FormatFieldDescriptor descriptor, final byte[] source) throws FieldConversionException {
+		return parseBytes(descriptor, source, 0, source.length);
+	}
+
+	@Override
+	public T parseBytes(final FormatFieldDescriptor descriptor, final byte[] source, final int offset, final int length) throws FieldConversionException {
 		try {
-			if (Arrays.equals(source, descriptor.placeholder().getBytes(descriptor.charset()))) {
+			if (FieldBytes.matches(source, offset, length, descriptor.placeholderBytes())) {
 				return null;
 			}
 
-			return getFormatter(descriptor).parse(new String(source, descriptor.charset()), query());
+			Format format = getFormat(descriptor);
+
+			if (format.getLayout() != null) {
+				T value = parseLayout(format.getLayout(), source, offset, length, descriptor);
+
+				if (value != null) {
+					return value;
+				}
+			}
+
+			return format.getFormatter().parse(FieldBytes.decode(source, offset, length, descriptor.charset()), query());
 		} catch (Exception e) {
-			throw FieldConverters.parseFieldConversionException(descriptor, source, e);
+			throw FieldConverters.parseFieldConversionException(descriptor, source, offset, length, e);
+		}
+	}
+
+	private String toText(final FormatFieldDescriptor descriptor, final T value) {
+		return value != null ? getFormatter(descriptor).format(value) : descriptor.placeholder();
+	}
+
+	private Format getFormat(final FormatFieldDescriptor descriptor) {
+		if (descriptor instanceof ResolvedFieldDescriptor) {
+			ResolvedFieldDescriptor resolved = (ResolvedFieldDescriptor) descriptor;
+			Object format = resolved.resolvedFormat();
+
+			if (!(format instanceof Format)) {
+				format = resolveFormat(descriptor);
+				resolved.resolvedFormat(format);
+			}
+
+			return (Format) format;
+		}
+
+		return resolveFormat(descriptor);
+	}
+
+	private Format resolveFormat(final FormatFieldDescriptor descriptor) {
+		Key key = new Key(descriptor.format(), descriptor.locale(), descriptor.zone());
+		Format format = formats.get(key);
+
+		if (format == null) {
+			// Formatters are immutable and thread safe, a concurrent duplicate is harmless
+			format = new Format(DateTimeFormatter.ofPattern(key.getPattern())
+					.withLocale(locale(key.getLocale()))
+					.withZone(zone(key.getZone())),
+					DateTimeLayout.of(key.getPattern()));
+			Format previous = formats.putIfAbsent(key, format);
+			format = previous != null ? previous : format;
 		}
+
+		return format;
+	}
+
+	/**
+	 * The key of a resolved format.
+	 */
+	@Value
+	private static class Key {
+
+		/** The date time pattern. */
+		String pattern;
+
+		/** The language tag of the locale. */
+		String locale;
+
+		/** The zone ID. */
+		String zone;
+
+	}
+
+	/**
+	 * A resolved format, i.e. a formatter and the digit layout of its pattern if any.
+	 */
+	@Value
+	private static class Format {
+
+		/** The formatter of the pattern, locale and zone. */
+		DateTimeFormatter formatter;
+
+		/** The digit layout of the pattern, or {@code null}. */
+		DateTimeLayout layout;
+
 	}
 
 }
@@ -29,16 +29,30 @@ final class TimestampConverter implements FieldConverter<Timestamp> {
 
 	@Override
 	public byte[] formatBytes(final FormatFieldDescriptor descriptor, final Timestamp value) throws FieldConversionException {
-		return converter.formatBytes(descriptor, Optional.ofNullable(value)
-				.map(Timestamp::toLocalDateTime)
-				.orElse(null));
+		return converter.formatBytes(descriptor, toLocalDateTime(value));
+	}
+
+	@Override
+	public int formatBytes(final FormatFieldDescriptor descriptor, final Timestamp value, final byte[] target, final int offset) throws FieldConversionException {
+		return converter.formatBytes(descriptor, toLocalDateTime(value), target, offset);
 	}
 
 	@Override
 	public Timestamp parseBytes(final FormatFieldDescriptor descriptor, final byte[] source) throws FieldConversionException {
-		return Optional.ofNullable(converter.parseBytes(descriptor, source))
+		return parseBytes(descriptor, source, 0, source.length);
+	}
+
+	@Override
+	public Timestamp parseBytes(final FormatFieldDescriptor descriptor, final byte[] source, final int offset, final int length) throws FieldConversionException {
+		return Optional.ofNullable(converter.parseBytes(descriptor, source, offset, length))
 				.map(Timestamp::valueOf)
 				.orElse(null);
 	}
 
+	private static LocalDateTime toLocalDateTime(final Timestamp value) {
+		return Optional.ofNullable(value)
+				.map(Timestamp::toLocalDateTime)
+				.orElse(null);
+	}
+
 }
@@ -19,7 +19,6 @@
 import java.util.Optional;
 import java.util.UUID;
 
-import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
 
 import format.bind.FormatFieldDescriptor;
@@ -38,22 +37,33 @@ public byte[] formatBytes(FormatFieldDescriptor descriptor, UUID value) throws F
 		}
 	}
 
+	@Override
+	public int formatBytes(FormatFieldDescriptor descriptor, UUID value, byte[] target, int offset) throws FieldConversionException {
+		if (descriptor.type() == Type.BINARY) {
+			return FieldConverters.getConverter(byte[].class).formatBytes(descriptor, toByteArray(value), target, offset);
+		} else {
+			return FieldConverters.getConverter(String.class).formatBytes(descriptor, value.toString(), target, offset);
+		}
+	}
+
 	@Override
 	public UUID parseBytes(final FormatFieldDescriptor descriptor, final byte[] source) throws FieldConversionException {
+		return parseBytes(descriptor, source, 0, source.length);
+	}
+
+	@Override
+	public UUID parseBytes(final FormatFieldDescriptor descriptor, final byte[] source, final int offset, final int length) throws FieldConversionException {
 		try {
 			if (descriptor.type() == Type.BINARY) {
-				return Optional.ofNullable(FieldConverters.getConverter(byte[].class).parseBytes(descriptor, source))
-						.filter(ArrayUtils::isNotEmpty)
-						.map(UUIDConverter::valueOf)
-						.orElse(null);
+				return length == 0 ? null : valueOf(ByteBuffer.wrap(source, offset, length));
 			} else {
-				return Optional.ofNullable(FieldConverters.getConverter(String.class).parseBytes(descriptor, source))
+				return Optional.ofNullable(FieldConverters.getConverter(String.class).parseBytes(descriptor, source, offset, length))
 						.filter(StringUtils::isNotBlank)
 						.map(UUID::fromString)
 						.orElse(null);
 			}
 		} catch (Exception e) {
-			throw FieldConverters.parseFieldConversionException(descriptor, source, e);
+			throw FieldConverters.parseFieldConversionException(descriptor, source, offset, length, e);
 		}
 	}
 
@@ -64,8 +74,7 @@ private static byte[] toByteArray(final UUID uuid) {
 		return buffer.array();
 	}
 
-	private static UUID valueOf(final byte[] bytes) {
-		ByteBuffer buffer = ByteBuffer.wrap(bytes);
+	private static UUID valueOf(final ByteBuffer buffer) {
 		long mostSigBits = buffer.getLong();
 		long leastSigBits = buffer.getLong();
 		return new UUID(mostSigBits, leastSigBits);
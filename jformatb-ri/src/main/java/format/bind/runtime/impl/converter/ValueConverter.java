@@ -16,16 +16,20 @@
 package format.bind.runtime.impl.converter;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
-import org.apache.commons.lang3.reflect.ConstructorUtils;
+import org.apache.commons.lang3.ClassUtils;
 import org.apache.commons.lang3.reflect.FieldUtils;
 import org.apache.commons.lang3.reflect.MethodUtils;
 
@@ -35,15 +39,77 @@
 import format.bind.converter.FieldConversionException;
 import format.bind.converter.FieldConverter;
 
+/**
+ * The {@link FieldConverter} of a value type, i.e. a type exposing its value with a
+ * {@link FormatValue} member and created from it with a {@link FormatFactory} member.
+ *
+ * <p>
+ * The members are resolved once into method handles, along with the converters of the
+ * value, so that a value type is converted at the cost of the value it wraps.
+ * </p>
+ *
+ * @param <T> The Java type of the field.
+ *
+ * @author Yannick Ebongue
+ */
 final class ValueConverter<T> implements FieldConverter<T> {
 
-	private final AccessibleObject accessor;
+	/** The type of the accessor handle. */
+	private static final MethodType ACCESSOR_TYPE = MethodType.methodType(Object.class, Object.class);
+
+	/** The accessor handle of type {@code (Object)Object}. */
+	private final MethodHandle accessor;
+
+	/** The (wrapper) type of the value returned by the accessor. */
+	private final Class<?> valueType;
 
-	private final AccessibleObject factory;
+	/** The converter of the values returned by the accessor, or {@code null}. */
+	private final FieldConverter<Object> valueConverter;
 
+	/** The factory handle of type {@code (Object)Object}, or {@code null}. */
+	private final MethodHandle factory;
+
+	/** The converter of the values passed to the factory, or {@code null}. */
+	private final FieldConverter<Object> factoryConverter;
+
+	@SuppressWarnings("unchecked")
 	private ValueConverter(final Class<T> fieldType) {
-		this.accessor = getAnnotatedMember(fieldType, FormatValue.class);
-		this.factory = getAnnotatedMember(fieldType, FormatFactory.class);
+		MethodHandles.Lookup lookup = MethodHandles.lookup();
+		AccessibleObject accessorMember = getAnnotatedMember(fieldType, FormatValue.class);
+		AccessibleObject factoryMember = getAnnotatedMember(fieldType, FormatFactory.class);
+
+		try {
+			if (accessorMember instanceof Field) {
+				accessorMember.setAccessible(true);
+				this.accessor = lookup.unreflectGetter((Field) accessorMember).asType(ACCESSOR_TYPE);
+				this.valueType = ClassUtils.primitiveToWrapper(((Field) accessorMember).getType());
+			} else {
+				accessorMember.setAccessible(true);
+				this.accessor = lookup.unreflect((Method) accessorMember).asType(ACCESSOR_TYPE);
+				this.valueType = ClassUtils.primitiveToWrapper(((Method) accessorMember).getReturnType());
+			}
+
+			Class<?> factoryType = null;
+
+			if (factoryMember instanceof Constructor) {
+				factoryMember.setAccessible(true);
+				this.factory = lookup.unreflectConstructor((Constructor<?>) factoryMember).asType(ACCESSOR_TYPE);
+				factoryType = ((Constructor<?>) factoryMember).getParameterTypes()[0];
+			} else if (factoryMember != null) {
+				factoryMember.setAccessible(true);
+				this.factory = lookup.unreflect((Method) factoryMember).asType(ACCESSOR_TYPE);
+				factoryType = ((Method) factoryMember).getParameterTypes()[0];
+			} else {
+				this.factory = null;
+			}
+
+			this.valueConverter = (FieldConverter<Object>) FieldConverters.getConverter(valueType);
+			this.factoryConverter = factoryType != null
+					? (FieldConverter<Object>) FieldConverters.getConverter(ClassUtils.primitiveToWrapper(factoryType))
+					: null;
+		} catch (IllegalAccessException e) {
+			throw new IllegalStateException(String.format("Unable to access the value of type %s", fieldType), e);
+		}
 	}
 
 	public static <T> ValueConverter<T> of(final Class<T> fieldType) {
@@ -54,34 +120,43 @@ public static <T> ValueConverter<T> of(final Class<T> fieldType) {
 	public byte[] formatBytes(FormatFieldDescriptor descriptor, T value)
 			throws FieldConversionException {
 		try {
-			if (accessor instanceof Field) {
-				Field field = (Field) accessor;
-				return formatByteArrayValue(descriptor, FieldUtils.readField(field, value, true));
-			} else {
-				Method getter = (Method) accessor;
-				return formatByteArrayValue(descriptor, MethodUtils.invokeMethod(value, getter.getName()));
-			}
+			Object object = getValue(value);
+			return getValueConverter(object, descriptor).formatBytes(descriptor, object);
+		} catch (Exception e) {
+			throw FieldConverters.formatFieldConversionException(descriptor, value, e);
+		}
+	}
+
+	@Override
+	public int formatBytes(FormatFieldDescriptor descriptor, T value, byte[] target, int offset)
+			throws FieldConversionException {
+		try {
+			Object object = getValue(value);
+			return getValueConverter(object, descriptor).formatBytes(descriptor, object, target, offset);
 		} catch (Exception e) {
 			throw FieldConverters.formatFieldConversionException(descriptor, value, e);
 		}
 	}
 
-	@SuppressWarnings("unchecked")
 	@Override
 	public T parseBytes(FormatFieldDescriptor descriptor, byte[] source)
 			throws FieldConversionException {
+		return parseBytes(descriptor, source, 0, source.length);
+	}
+
+	@Override
+	public T parseBytes(FormatFieldDescriptor descriptor, byte[] source, int offset, int length)
+			throws FieldConversionException {
 		try {
-			if (factory instanceof Constructor) {
-				Constructor<T> constructor = (Constructor<T>) factory;
-				Object value = parseByteArrayValue(descriptor, source, constructor.getParameterTypes()[0]);
-				return ConstructorUtils.invokeConstructor(constructor.getDeclaringClass(), value);
-			} else {
-				Method method = (Method) factory;
-				Object value = parseByteArrayValue(descriptor, source, method.getParameterTypes()[0]);
-				return (T) MethodUtils.invokeStaticMethod(method.getReturnType(), method.getName(), value);
+			if (factory == null) {
+				throw new NoSuchMethodException(String.format("No member annotated with %s", FormatFactory.class));
 			}
+
+			FieldConverter<Object> converter = Optional.ofNullable(factoryConverter)
+					.orElseGet(() -> getConverter(descriptor.targetClass()));
+			return newValue(converter.parseBytes(descriptor, source, offset, length));
 		} catch (Exception e) {
-			throw FieldConverters.parseFieldConversionException(descriptor, source, e);
+			throw FieldConverters.parseFieldConversionException(descriptor, source, offset, length, e);
 		}
 	}
 
@@ -101,18 +176,38 @@ private static <T> AccessibleObject getAnnotatedMember(Class<T> fieldType, Class
 	}
 
 	@SuppressWarnings("unchecked")
-	private static <V> FieldConverter<V> getConverter(Class<V> targetClass, FormatFieldDescriptor descriptor) {
-		return Optional.ofNullable(FieldConverters.getConverter(targetClass))
-				.orElseGet(() -> (FieldConverter<V>) FieldConverters.getConverter(descriptor.targetClass()));
+	private static FieldConverter<Object> getConverter(Class<?> targetClass) {
+		return (FieldConverter<Object>) FieldConverters.getConverter(targetClass);
+	}
+
+	/**
+	 * Returns the converter of the given value, which is the converter resolved up front
+	 * unless the value is of a subtype of the accessor type.
+	 */
+	private FieldConverter<Object> getValueConverter(Object value, FormatFieldDescriptor descriptor) {
+		if (valueConverter != null && value.getClass() == valueType) {
+			return valueConverter;
+		}
+
+		return Optional.ofNullable(getConverter(value.getClass()))
+				.orElseGet(() -> getConverter(descriptor.targetClass()));
 	}
 
 	@SuppressWarnings("unchecked")
-	private static <V> byte[] formatByteArrayValue(FormatFieldDescriptor descriptor, V value) {
-		return getConverter((Class<V>) value.getClass(), descriptor).formatBytes(descriptor, value);
+	private T newValue(Object value) throws InvocationTargetException {
+		try {
+			return (T) (Object) factory.invokeExact(value);
+		} catch (Throwable e) {
+			throw new InvocationTargetException(e);
+		}
 	}
 
-	private static <V> V parseByteArrayValue(FormatFieldDescriptor descriptor, byte[] source, Class<V> type) {
-		return getConverter(type, descriptor).parseBytes(descriptor, source);
+	private Object getValue(T value) throws InvocationTargetException {
+		try {
+			return (Object) accessor.invokeExact((Object) value);
+		} catch (Throwable e) {
+			throw new InvocationTargetException(e);
+		}
 	}
 
 }
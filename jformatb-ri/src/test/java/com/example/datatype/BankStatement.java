@@ -28,6 +28,7 @@
 import format.bind.annotation.Format;
 import format.bind.annotation.FormatField;
 import format.bind.annotation.FormatFieldConverter;
+import format.bind.annotation.FormatStateless;
 import format.bind.converter.FieldConversionException;
 import format.bind.converter.FieldConverter;
 import lombok.AllArgsConstructor;
@@ -79,6 +80,7 @@ public static class Transaction implements Serializable {
 
 	}
 
+	@FormatStateless
 	public static class AmountConverter implements FieldConverter<BigDecimal> {
 
 		private final FieldConverter<BigDecimal> converter;
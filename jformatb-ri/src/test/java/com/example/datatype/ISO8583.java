@@ -20,14 +20,19 @@
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.commons.codec.DecoderException;
 import org.apache.commons.codec.binary.Hex;
 import org.apache.commons.lang3.StringUtils;
 
+import format.bind.annotation.FormatBitmap;
+import format.bind.annotation.FormatBitmap.Encoding;
 import format.bind.annotation.FormatFactory;
 import format.bind.annotation.FormatField;
+import format.bind.annotation.FormatField.Prefix;
 import format.bind.annotation.FormatField.Type;
+import format.bind.annotation.FormatMapEntryField;
 import format.bind.annotation.FormatValue;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -54,6 +59,16 @@ public class ISO8583 implements Serializable {
 	@Singular
 	private List<DataElement> dataElements;
 
+	@FormatField(name = "DATA")
+	@FormatBitmap(encoding = Encoding.HEX)
+	@FormatMapEntryField(keys = "2", field = @FormatField(prefix = Prefix.LL, length = 19, targetClass = String.class))
+	@FormatMapEntryField(keys = "3", field = @FormatField(length = 6, targetClass = String.class))
+	@FormatMapEntryField(keys = "4", field = @FormatField(length = 12, targetClass = Long.class))
+	@FormatMapEntryField(keys = "11", field = @FormatField(length = 6, targetClass = Integer.class))
+	@FormatMapEntryField(keys = "39", field = @FormatField(length = 2, targetClass = String.class))
+	@FormatMapEntryField(keys = "70", field = @FormatField(length = 3, targetClass = Integer.class))
+	private Map<String, Object> data;
+
 	public ISO8583() {
 		dataElements = new ArrayList<>();
 	}
@@ -18,8 +18,11 @@
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.math.BigDecimal;
+import java.util.LinkedHashMap;
 import java.util.Locale;
+import java.util.Map;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvFileSource;
 
@@ -53,4 +56,31 @@ void parseAmount(String languageTag, String value, String text, String str) {
 				.returns(new BigDecimal(str.substring(4).replaceAll(",", "")), Amount::toBigDecimal);
 	}
 
+	@Test
+	void processAmountRepeatedly() {
+		// The plan compiled on first use is reused by the next records
+		Formatter<Amount> formatter = Formatter.of(Amount.class).withPattern("${currency:3}/${value:12}");
+		Amount amount = Amount.of("EUR", 123456L);
+		Map<String, Object> expectedValues = null;
+
+		for (int i = 0; i < 10; i++) {
+			Map<String, Object> resolvedValues = new LinkedHashMap<>();
+			String text = formatter.writer()
+					.withListener((obj, values) -> resolvedValues.putAll(values))
+					.write(amount);
+			Amount actual = formatter.reader()
+					.withListener((obj, values) -> resolvedValues.putAll(values))
+					.read(text);
+
+			assertThat(text).isEqualTo("EUR/000000123456");
+			assertThat(actual).isEqualTo(amount);
+
+			if (expectedValues == null) {
+				expectedValues = resolvedValues;
+			}
+
+			assertThat(resolvedValues).containsExactlyEntriesOf(expectedValues);
+		}
+	}
+
 }
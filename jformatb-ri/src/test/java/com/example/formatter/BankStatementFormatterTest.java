@@ -16,23 +16,47 @@
 package com.example.formatter;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.apache.commons.lang3.StringUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import com.example.datatype.BankStatement;
+import com.example.datatype.BankStatement.AmountConverter;
 import com.example.datatype.BankStatement.Transaction;
 import com.opencsv.bean.CsvToBeanBuilder;
 
 import format.bind.FormatProcessingException;
+import format.bind.FormatReader;
+import format.bind.FormatWriter;
 import format.bind.Formatter;
+import format.bind.RecordFile;
+import format.bind.RecordReader;
+import format.bind.RecordWriter;
+import format.bind.converter.FieldConverter;
+import format.bind.runtime.impl.FormatProcessorFactoryImpl;
+import format.bind.spi.TypeFormatProcessorFactory;
 
 class BankStatementFormatterTest {
 
@@ -79,6 +103,185 @@ void parseLastTenTransactions() throws FormatProcessingException {
 		assertThat(actual.getTransactions()).hasSize(10);
 	}
 
+	@Test
+	void formatTransactionWithGeneratedWriter() throws FormatProcessingException {
+		Formatter<Transaction> formatter = Formatter.of(Transaction.class);
+		FormatWriter<Transaction, ?> expected = new FormatProcessorFactoryImpl().createWriter(Transaction.class, null);
+		assertThat(formatter.writer().getClass().getEnclosingClass())
+				.isNotNull()
+				.isAssignableTo(TypeFormatProcessorFactory.class);
+		buildTransactionList().forEach(transaction -> assertThat(formatter.format(transaction))
+				.isEqualTo(expected.write(transaction)));
+	}
+
+	@Test
+	void parseTransactionWithGeneratedReader() throws FormatProcessingException {
+		Formatter<Transaction> formatter = Formatter.of(Transaction.class);
+		FormatReader<Transaction, ?> expected = new FormatProcessorFactoryImpl().createReader(Transaction.class, null);
+		assertThat(formatter.reader().getClass().getEnclosingClass())
+				.isNotNull()
+				.isAssignableTo(TypeFormatProcessorFactory.class);
+		buildTransactionList().stream()
+				.map(formatter::format)
+				.forEach(text -> assertThat(formatter.parse(text)).isEqualTo(expected.read(text)));
+	}
+
+	@Test
+	void writeTransactionWithGeneratedWriter() throws FormatProcessingException {
+		Formatter<Transaction> formatter = Formatter.of(Transaction.class);
+		Transaction transaction = buildTransactionList().get(0);
+		byte[] expected = formatter.writer().writeBytes(transaction);
+
+		ByteBuffer small = ByteBuffer.allocateDirect(expected.length - 1);
+		assertThatThrownBy(() -> formatter.writer().writeTo(transaction, small))
+				.isInstanceOf(BufferOverflowException.class);
+		assertThat(small.position()).isZero();
+
+		ByteBuffer buffer = ByteBuffer.allocate(expected.length);
+		assertThat(formatter.writer().writeTo(transaction, size -> {
+			assertThat(size).isEqualTo(expected.length);
+			return buffer;
+		})).isEqualTo(expected.length);
+		assertThat(buffer.array()).isEqualTo(expected);
+	}
+
+	@Test
+	void shareStatelessConverter() {
+		FieldConverter<BigDecimal> converter = FieldConverter.provider().getConverter(BigDecimal.class, AmountConverter.class);
+		assertThat(FieldConverter.provider().getConverter(BigDecimal.class, AmountConverter.class)).isSameAs(converter);
+	}
+
+	@Test
+	void processTransactionsThroughBuffers() throws FormatProcessingException {
+		List<Transaction> rows = buildTransactionList();
+		Formatter<Transaction> formatter = Formatter.of(Transaction.class);
+		FormatProcessorFactoryImpl factory = new FormatProcessorFactoryImpl();
+		FormatWriter<Transaction, ?> writer = factory.createWriter(Transaction.class, null);
+		FormatReader<Transaction, ?> reader = factory.createReader(Transaction.class, null);
+
+		assertThat(processThroughBuffer(rows, writer, reader, ByteBuffer.allocate(rows.size() * 45))).isEqualTo(rows);
+		assertThat(processThroughBuffer(rows, writer, reader, ByteBuffer.allocateDirect(rows.size() * 45))).isEqualTo(rows);
+		assertThat(processThroughBuffer(rows, formatter.writer(), formatter.reader(), ByteBuffer.allocate(rows.size() * 45 + 10))).isEqualTo(rows);
+		assertThat(processThroughBuffer(rows, formatter.writer(), formatter.reader(), ByteBuffer.allocateDirect(rows.size() * 45))).isEqualTo(rows);
+	}
+
+	private List<Transaction> processThroughBuffer(List<Transaction> rows, FormatWriter<Transaction, ?> writer,
+			FormatReader<Transaction, ?> reader, ByteBuffer buffer) {
+		// Work on a slice to check the array offset handling
+		buffer.position(buffer.capacity() - rows.size() * 45);
+		ByteBuffer slice = buffer.slice();
+
+		rows.forEach(transaction -> assertThat(writer.writeTo(transaction, slice)).isEqualTo(45));
+		assertThat(slice.hasRemaining()).isFalse();
+
+		slice.flip();
+		List<Transaction> actual = new ArrayList<>();
+
+		while (slice.hasRemaining()) {
+			int position = slice.position();
+			actual.add(reader.readBuffer(slice));
+			assertThat(slice.position()).isEqualTo(position + 45);
+		}
+
+		return actual;
+	}
+
+	@Test
+	void parseTransactionRecords() throws IOException {
+		List<Transaction> rows = buildTransactionList();
+		Formatter<Transaction> formatter = Formatter.of(Transaction.class);
+		FormatReader<Transaction, ?> reader = new FormatProcessorFactoryImpl().createReader(Transaction.class, null);
+		ByteArrayOutputStream fixed = new ByteArrayOutputStream();
+		ByteArrayOutputStream delimited = new ByteArrayOutputStream();
+
+		for (Transaction transaction : rows) {
+			fixed.write(formatter.formatBytes(transaction));
+			delimited.write(formatter.formatBytes(transaction));
+			delimited.write("\r\n".getBytes());
+		}
+
+		assertThat(formatter.reader().getRecordLength()).isEqualTo(45);
+		assertThat(reader.getRecordLength()).isEqualTo(45);
+
+		// A buffer size which is not a multiple of the record length
+		try (Stream<Transaction> records = formatter.parseRecords(new ByteArrayInputStream(fixed.toByteArray())).withBufferSize(100).stream()) {
+			assertThat(records.collect(Collectors.toList())).isEqualTo(rows);
+		}
+
+		// A buffer smaller than the records
+		try (RecordReader<Transaction> records = RecordReader.of(reader, Channels.newChannel(new ByteArrayInputStream(delimited.toByteArray())))
+				.withDelimiter("\r\n".getBytes())
+				.withBufferSize(16)) {
+			List<Transaction> actual = new ArrayList<>();
+			records.forEachRemaining(actual::add);
+			assertThat(actual).isEqualTo(rows);
+			assertThat(records.hasNext()).isFalse();
+		}
+	}
+
+	@Test
+	void formatTransactionRecords() throws IOException {
+		List<Transaction> rows = buildTransactionList();
+		Formatter<Transaction> formatter = Formatter.of(Transaction.class);
+		FormatWriter<Transaction, ?> writer = new FormatProcessorFactoryImpl().createWriter(Transaction.class, null);
+		ByteArrayOutputStream expected = new ByteArrayOutputStream();
+
+		for (Transaction transaction : rows) {
+			expected.write(formatter.formatBytes(transaction));
+			expected.write('\n');
+		}
+
+		// A buffer size which is not a multiple of the record length
+		ByteArrayOutputStream fixed = new ByteArrayOutputStream();
+
+		try (RecordWriter<Transaction> records = formatter.formatRecords(fixed).withBufferSize(100)) {
+			records.writeAll(rows);
+		}
+
+		assertThat(fixed.toByteArray()).isEqualTo(buildTextMessage(rows).getBytes());
+
+		// A buffer smaller than the records, each record being formatted once
+		ByteArrayOutputStream delimited = new ByteArrayOutputStream();
+		AtomicInteger formatted = new AtomicInteger();
+
+		try (RecordWriter<Transaction> records = RecordWriter.of(writer.withListener((obj, values) -> formatted.incrementAndGet()), Channels.newChannel(delimited))
+				.withDelimiter("\n".getBytes())
+				.withBufferSize(16)) {
+			records.writeAll(rows.stream());
+		}
+
+		assertThat(delimited.toByteArray()).isEqualTo(expected.toByteArray());
+		assertThat(formatted).hasValue(rows.size());
+	}
+
+	@Test
+	void mapTransactionRecords(@TempDir Path directory) throws IOException {
+		List<Transaction> rows = buildTransactionList();
+		Formatter<Transaction> formatter = Formatter.of(Transaction.class);
+		FormatReader<Transaction, ?> reader = new FormatProcessorFactoryImpl().createReader(Transaction.class, null);
+		List<Transaction> copies = new ArrayList<>();
+		Path path = directory.resolve("transactions.txt");
+
+		// Enough records to be split across threads
+		while (copies.size() < 5000) {
+			copies.addAll(rows);
+		}
+
+		try (RecordWriter<Transaction> records = formatter.formatRecords(Files.newOutputStream(path))) {
+			records.writeAll(copies);
+		}
+
+		try (RecordFile<Transaction> file = formatter.mapRecords(path)) {
+			assertThat(file.size()).isEqualTo(copies.size());
+			assertThat(file.stream().collect(Collectors.toList())).isEqualTo(copies);
+		}
+
+		// Windows of a few records, not aligned with the window size
+		try (RecordFile<Transaction> file = RecordFile.of(reader, FileChannel.open(path)).withWindowSize(100)) {
+			assertThat(file.parallelStream().collect(Collectors.toList())).isEqualTo(copies);
+		}
+	}
+
 	void cleanup() throws IOException {
 		input.close();
 	}
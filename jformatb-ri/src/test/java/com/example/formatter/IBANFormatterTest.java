@@ -6,14 +6,20 @@
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.apache.commons.lang3.StringUtils;
 import org.assertj.core.api.Condition;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvFileSource;
 
@@ -25,6 +31,7 @@
 import com.example.datatype.ITBBAN;
 import com.example.datatype.BBAN.BBANBuilder;
 
+import format.bind.FormatReader;
 import format.bind.Formatter;
 
 class IBANFormatterTest {
@@ -69,7 +76,7 @@ void parseIBAN(String countryCode, String checkDigits, String bankCode, String b
 			String accountNumber, String nationalCheckDigits, String iban) {
 		IBAN actual = Formatter.of(IBAN.class)
 				.createReader()
-				.setListener((obj, values) -> resolvedValues.putAll(values))
+				.withListener((obj, values) -> resolvedValues.putAll(values))
 				.read(iban);
 		IBAN expected = buildIBAN(countryCode, checkDigits, bankCode, branchCode, accountNumber, nationalCheckDigits);
 		assertThat(actual)
@@ -79,6 +86,55 @@ void parseIBAN(String countryCode, String checkDigits, String bankCode, String b
 		assertThat(resolvedValues).containsEntry("bban", actual.getBban());
 	}
 
+	@Test
+	void configureReader() {
+		Formatter<IBAN> formatter = Formatter.of(IBAN.class);
+		FormatReader<IBAN, ?> reader = formatter.reader();
+		FormatReader<IBAN, ?> actual = reader.withListener((obj, values) -> resolvedValues.putAll(values));
+		assertThat(actual).isNotSameAs(reader);
+		assertThat(formatter.reader()).isSameAs(reader);
+
+		reader.read("GB29NWBK60161331926819");
+		assertThat(resolvedValues).isEmpty();
+
+		actual.read("GB29NWBK60161331926819");
+		assertThat(resolvedValues).containsKey("bban");
+	}
+
+	@Test
+	@SuppressWarnings("deprecation")
+	void configureReaderWithDeprecatedSetter() {
+		FormatReader<IBAN, ?> reader = Formatter.of(IBAN.class).reader();
+		FormatReader<IBAN, ?> actual = reader.setListener((obj, values) -> resolvedValues.putAll(values));
+		assertThat(actual).isNotSameAs(reader);
+
+		actual.read("GB29NWBK60161331926819");
+		assertThat(resolvedValues).containsKey("bban");
+	}
+
+	@Test
+	void parseIBANConcurrently() throws Exception {
+		String[] ibans = { "BE68539007547034", "DE89370400440532013000", "FR1420041010050500013M02606", "GB29NWBK60161331926819" };
+		Formatter<IBAN> formatter = Formatter.of(IBAN.class);
+		ExecutorService executor = Executors.newFixedThreadPool(ibans.length);
+
+		try {
+			List<Future<IBAN>> results = new ArrayList<>();
+			for (int i = 0; i < 100 * ibans.length; i++) {
+				String iban = ibans[i % ibans.length];
+				results.add(executor.submit(() -> formatter.parse(iban)));
+			}
+
+			for (int i = 0; i < results.size(); i++) {
+				assertThat(results.get(i).get())
+						.is(valid)
+						.hasToString(ibans[i % ibans.length]);
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
 	private static IBAN buildIBAN(String countryCode, String checkDigits, String bankCode, String branchCode,
 			String accountNumber, String nationalCheckDigits) {
 		return IBAN.builder()
@@ -16,6 +16,7 @@
 package com.example.formatter;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
@@ -23,6 +24,9 @@
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import org.apache.commons.codec.DecoderException;
 import org.apache.commons.codec.binary.Hex;
@@ -32,6 +36,7 @@
 import com.example.datatype.ISO8583;
 import com.example.datatype.ISO8583.DataElement;
 
+import format.bind.FormatProcessingException;
 import format.bind.Formatter;
 
 class ISO8583Test {
@@ -136,4 +141,119 @@ void parseEmvResponseData() throws DecoderException {
 				.isEqualTo(data);
 	}
 
+	@Test
+	void formatVariableDataElements() {
+		ISO8583 message = ISO8583.builder()
+				.dataElement(DataElement.of("4111111111111111"))
+				.dataElement(DataElement.of("HELLO"))
+				.dataElement(DataElement.of(new byte[] { 0x01, 0x02, 0x03 }))
+				.build();
+		String pattern = new StringBuilder()
+				.append("${DE[0]:--prefix=LL --length=19 --targetClass=java.lang.String}")
+				.append("${DE[1]:--prefix=LLL --targetClass=java.lang.String}")
+				.append("${DE[2]:--type=BINARY --prefix=BCD_LLL --targetClass=[B}")
+				.toString();
+		byte[] actual = Formatter.of(ISO8583.class)
+				.withPattern(pattern)
+				.formatBytes(message, StandardCharsets.US_ASCII);
+		assertThat(actual).asHexString()
+				.isEqualTo(Hex.encodeHexString("164111111111111111005HELLO".getBytes(StandardCharsets.US_ASCII), false) + "0003010203");
+	}
+
+	@Test
+	void parseVariableDataElements() throws DecoderException {
+		byte[] message = Hex.decodeHex(Hex.encodeHexString("164111111111111111005HELLO".getBytes(StandardCharsets.US_ASCII)) + "0003010203");
+		String pattern = new StringBuilder()
+				.append("${DE[0]:--prefix=LL --length=19 --targetClass=java.lang.String}")
+				.append("${DE[1]:--prefix=LLL --targetClass=java.lang.String}")
+				.append("${DE[2]:--type=BINARY --prefix=BCD_LLL --targetClass=[B}")
+				.toString();
+		ISO8583 actual = Formatter.of(ISO8583.class)
+				.withPattern(pattern)
+				.parseBytes(message, StandardCharsets.US_ASCII);
+		assertThat(actual.getDataElements())
+				.extracting(DataElement::getValue)
+				.containsExactly("4111111111111111", "HELLO", new byte[] { 0x01, 0x02, 0x03 });
+	}
+
+	@Test
+	void processBinaryPrefixedBitmapRepeatedly() {
+		// The plan compiled on first use is reused by the next records
+		Formatter<ISO8583> formatter = Formatter.of(ISO8583.class).withPattern("${MTI:4}${BITMAP:--type=BINARY --prefix=BINARY_1}");
+		ISO8583 message = ISO8583.fromString("01107010001102C04804");
+
+		for (int i = 0; i < 10; i++) {
+			byte[] bytes = formatter.formatBytes(message, StandardCharsets.US_ASCII);
+			assertThat(bytes).asHexString().isEqualTo("30313130" + "08" + "7010001102C04804");
+			assertThat(formatter.parseBytes(bytes, StandardCharsets.US_ASCII)).isEqualTo(message);
+		}
+	}
+
+	@Test
+	void formatVariableDataElementTooLong() {
+		ISO8583 message = ISO8583.builder()
+				.dataElement(DataElement.of("4111111111111111"))
+				.build();
+		Formatter<ISO8583> formatter = Formatter.of(ISO8583.class)
+				.withPattern("${DE[0]:--prefix=LL --length=12 --targetClass=java.lang.String}");
+		assertThatExceptionOfType(FormatProcessingException.class)
+				.isThrownBy(() -> formatter.formatBytes(message, StandardCharsets.US_ASCII));
+	}
+
+	@Test
+	void formatBitmapDataElements() {
+		Map<String, Object> data = new LinkedHashMap<>();
+		data.put("70", 301);
+		data.put("2", "4111111111111111");
+		data.put("3", "000000");
+		data.put("4", 1000L);
+		data.put("11", 1);
+		data.put("39", null);
+		ISO8583 message = ISO8583.builder()
+				.messageTypeIndicator(ISO8583.MessageTypeIndicator.fromString("0200"))
+				.data(data)
+				.build();
+		String actual = Formatter.of(ISO8583.class)
+				.withPattern("${MTI:4}${DATA}")
+				.format(message);
+		assertThat(actual).isEqualTo("0200F0200000000000000400000000000000164111111111111111000000000000001000000001301");
+	}
+
+	@Test
+	void parseBitmapDataElements() {
+		Map<String, Object> expected = new LinkedHashMap<>();
+		expected.put("2", "4111111111111111");
+		expected.put("3", "000000");
+		expected.put("4", 1000L);
+		expected.put("11", 1);
+		expected.put("70", 301);
+		ISO8583 actual = Formatter.of(ISO8583.class)
+				.withPattern("${MTI:4}${DATA}")
+				.parse("0200f0200000000000000400000000000000164111111111111111000000000000001000000001301");
+		assertThat(actual.getMessageTypeIndicator()).hasToString("0200");
+		assertThat(actual.getData()).containsExactlyEntriesOf(expected);
+	}
+
+	@Test
+	void parsePrimaryBitmapDataElements() {
+		ISO8583 actual = Formatter.of(ISO8583.class)
+				.withPattern("${MTI:4}${DATA}")
+				.parse("02107000000002000000164111111111111111000000000000001000" + "00");
+		assertThat(actual.getData())
+				.containsEntry("2", "4111111111111111")
+				.containsEntry("39", "00")
+				.doesNotContainKey("11");
+	}
+
+	@Test
+	void formatUndeclaredDataElement() {
+		ISO8583 message = ISO8583.builder()
+				.messageTypeIndicator(ISO8583.MessageTypeIndicator.fromString("0200"))
+				.data(Collections.singletonMap("5", "X"))
+				.build();
+		Formatter<ISO8583> formatter = Formatter.of(ISO8583.class).withPattern("${MTI:4}${DATA}");
+		assertThatExceptionOfType(FormatProcessingException.class)
+				.isThrownBy(() -> formatter.format(message));
+	}
+
 }
@@ -84,7 +84,7 @@ public FormatFieldDescriptorBuilderImpl targetClass(Class<?> targetClass) {
 	}
 
 	public FormatFieldDescriptor build() {
-		return descriptor;
+		return descriptor.resolve();
 	}
 
 }
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2024 jFormat-B
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package format.bind.runtime.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import format.bind.Formatter;
+import format.bind.annotation.Format;
+import format.bind.annotation.FormatField;
+import format.bind.annotation.FormatFieldOverride;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+class FormatFieldOverrideTest {
+
+	private static final Charset EBCDIC = Charset.forName("IBM037");
+
+	@Test
+	void overrideCharsetAndPlaceholder() {
+		Formatter<HostAccount> formatter = Formatter.of(HostAccount.class);
+		HostAccount account = new HostAccount();
+		account.setCode("AB12");
+		account.setNumber("12345678");
+
+		byte[] actual = formatter.formatBytes(account, StandardCharsets.US_ASCII);
+		assertThat(actual).startsWith("AB12".getBytes(EBCDIC));
+		assertThat(actual).endsWith("12345678".getBytes(StandardCharsets.US_ASCII));
+		assertThat(formatter.parseBytes(actual, StandardCharsets.US_ASCII)).isEqualTo(account);
+
+		// The overridden placeholder is encoded with the overridden charset
+		account.setCode(null);
+		actual = formatter.formatBytes(account, StandardCharsets.US_ASCII);
+		assertThat(actual).startsWith("****".getBytes(EBCDIC));
+		assertThat(formatter.parseBytes(actual, StandardCharsets.US_ASCII)).isEqualTo(account);
+	}
+
+	@Test
+	void ignoreSubclassOverrides() {
+		// Use the runtime plan, which resolves the overrides, instead of the generated processor
+		FormatWriterImpl<Account> writer = FormatWriterImpl.of(Account.class, null).withCharset(StandardCharsets.US_ASCII);
+		FormatReaderImpl<Account> reader = FormatReaderImpl.of(Account.class, null).withCharset(StandardCharsets.US_ASCII);
+		Account account = new Account("AB12", "12345678");
+
+		byte[] actual = writer.writeBytes(account);
+		assertThat(actual).isEqualTo("AB1212345678".getBytes(StandardCharsets.US_ASCII));
+		assertThat(reader.readBytes(actual)).isEqualTo(account);
+	}
+
+	@Data
+	@NoArgsConstructor
+	@AllArgsConstructor
+	@Format(pattern = "${code:4}${number:8}")
+	public static class Account {
+
+		@FormatField
+		private String code;
+
+		@FormatField
+		private String number;
+
+	}
+
+	@Data
+	@EqualsAndHashCode(callSuper = true)
+	@Format(pattern = "${code:4}${number:8}")
+	@FormatFieldOverride(property = "code", field = @FormatField(charset = "IBM037", placeholder = "****"))
+	public static class HostAccount extends Account {
+
+	}
+
+}
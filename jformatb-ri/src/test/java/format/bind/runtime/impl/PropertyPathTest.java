@@ -0,0 +1,90 @@
+/*
+ * Copyright 2024 jFormat-B
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package format.bind.runtime.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.datatype.BankStatement;
+import com.example.datatype.BankStatement.Transaction;
+
+import format.bind.Formatter;
+
+class PropertyPathTest {
+
+	@Test
+	void compileOpenIndex() {
+		PropertyPath path = PropertyPath.of("items[1+].amount");
+		assertThat(PropertyPath.of("items[1+].amount")).isSameAs(path);
+		assertThat(path.getSegments()).hasSize(2);
+
+		PropertyPath.Segment segment = path.getSegments().get(0);
+		assertThat(segment.getName()).isEqualTo("items");
+		assertThat(segment.isIndexed()).isTrue();
+		assertThat(segment.isOpen()).isTrue();
+		assertThat(segment.getIndex(0)).isEqualTo(1);
+		assertThat(segment.getIndex(3)).isEqualTo(4);
+
+		segment = PropertyPath.of("items[2].amount").getSegments().get(0);
+		assertThat(segment.isOpen()).isFalse();
+		assertThat(segment.getIndex(3)).isEqualTo(2);
+	}
+
+	@Test
+	void bindOpenIndex() throws Exception {
+		BankStatement statement = BankStatement.builder()
+				.transaction(transaction("10.00"))
+				.transaction(transaction("20.00"))
+				.transaction(transaction("30.00"))
+				.build();
+		statement.setTransactions(new ArrayList<>(statement.getTransactions()));
+
+		// Register the field accessors of the bean classes
+		Formatter.of(BankStatement.class).format(statement);
+
+		PropertyPath path = PropertyPath.of("transactions[1+]");
+		assertThat(path.get(statement, 0)).isEqualTo(transaction("20.00"));
+		assertThat(path.get(statement, 1)).isEqualTo(transaction("30.00"));
+		assertThat(path.get(statement, 2)).isNull();
+
+		path.getSegments().get(0).set(statement, 1, transaction("40.00"));
+		assertThat(statement.getTransactions())
+				.extracting(Transaction::getAmount)
+				.containsExactly(new BigDecimal("10.00"), new BigDecimal("20.00"), new BigDecimal("40.00"));
+	}
+
+	@Test
+	void rejectInvalidExpression() {
+		assertThatIllegalArgumentException().isThrownBy(() -> PropertyPath.of("items[1"));
+		assertThatIllegalArgumentException().isThrownBy(() -> PropertyPath.of("[1].amount"));
+	}
+
+	private static Transaction transaction(final String amount) {
+		return Transaction.builder()
+				.entryDate(LocalDate.of(2024, 1, 2))
+				.valueDate(LocalDate.of(2024, 1, 3))
+				.description("Transfer")
+				.amount(new BigDecimal(amount))
+				.build();
+	}
+
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2024 jFormat-B
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package format.bind.runtime.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class PropertyResolverTest {
+
+	private final PropertyResolver resolver = new PropertyResolver();
+
+	@ParameterizedTest(name = "resolveExpression({0})")
+	@CsvSource(delimiter = '|', value = {
+		"name|name|name|false|-1|false|",
+		"items[2].amount|items|items[2]|true|2|false|",
+		"items[0::9].amount|items|items[0::9]|true|-1|false|",
+		"items[*]|items|items[*]|true|-1|false|",
+		"entries[\"k1,k2\"].value|entries|entries[\"k1,k2\"]|false|-1|true|k1,k2",
+		"items[x]|items[x]|items[x]|false|-1|false|",
+	})
+	void resolveExpression(String expression, String property, String next, boolean indexed, int index, boolean mapped, String key) {
+		assertThat(resolver.getProperty(expression)).isEqualTo(property);
+		assertThat(resolver.next(expression)).isEqualTo(next);
+		assertThat(resolver.isIndexed(expression)).isEqualTo(indexed);
+		assertThat(resolver.getIndex(expression)).isEqualTo(index);
+		assertThat(resolver.isMapped(expression)).isEqualTo(mapped);
+		assertThat(resolver.getKey(expression)).isEqualTo(key);
+	}
+
+	@Test
+	void resolveBoundaries() {
+		assertThat(resolver.getBoundaries("items[2::5]")).containsExactly(2, 5);
+		assertThat(resolver.getBoundaries("items[1::*].amount")).containsExactly(1, -1);
+		assertThat(resolver.getBoundaries("items[*]")).containsExactly(0, -1);
+		assertThat(resolver.getBoundaries("items")).isEmpty();
+	}
+
+	@Test
+	void resolveTarget() {
+		assertThat(resolver.getTarget("cash.items[0].count")).isEqualTo("count");
+		assertThat(resolver.getTarget("entries[\"k1\"]")).isEqualTo("entries[\"k1\"]");
+		assertThat(resolver.hasNested("cash.items[0]")).isTrue();
+		assertThat(resolver.remove("cash.items[0]")).isEqualTo("items[0]");
+	}
+
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2024 jFormat-B
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package format.bind.runtime.impl.converter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.Test;
+
+import format.bind.FormatFieldDescriptor;
+import format.bind.annotation.FormatField.Type;
+import format.bind.converter.FieldConversionException;
+
+class BigDecimalConverterTest extends AbstractConverterTest<BigDecimal> {
+
+	BigDecimalConverterTest() {
+		super(BigDecimal.class);
+	}
+
+	@Test
+	void processPackedDecimalBigDecimal() {
+		FormatFieldDescriptor descriptor = fieldDescriptorBuilder()
+				.type(Type.PACKED_DECIMAL)
+				.length(4)
+				.scale(2)
+				.build();
+		byte[] target = new byte[descriptor.length()];
+		assertThat(converter.formatBytes(descriptor, new BigDecimal("-123.45"), target, 0)).isEqualTo(4);
+		assertThat(target).containsExactly(0x00, 0x12, 0x34, 0x5D);
+		assertThat(converter.parseBytes(descriptor, target)).isEqualTo(new BigDecimal("-123.45"));
+		// The value is written at the scale of the field
+		assertThat(converter.formatBytes(descriptor, new BigDecimal("1.5"))).containsExactly(0x00, 0x00, 0x15, 0x0C);
+		assertThat(converter.parseBytes(descriptor, new byte[] { 0x00, 0x00, 0x15, 0x0C })).isEqualTo(new BigDecimal("1.50"));
+		assertThatExceptionOfType(FieldConversionException.class)
+				.isThrownBy(() -> converter.formatBytes(descriptor, new BigDecimal("123456.78")))
+				.withCauseInstanceOf(IllegalArgumentException.class);
+		assertThatExceptionOfType(FieldConversionException.class)
+				.isThrownBy(() -> converter.formatBytes(descriptor, new BigDecimal("1.234")))
+				.withCauseInstanceOf(ArithmeticException.class);
+	}
+
+	@Test
+	void processBinaryBigDecimal() {
+		FormatFieldDescriptor descriptor = fieldDescriptorBuilder()
+				.type(Type.BINARY_INTEGER)
+				.length(2)
+				.scale(2)
+				.build();
+		assertThat(converter.formatBytes(descriptor, new BigDecimal("-0.02"))).containsExactly(0xFF, 0xFE);
+		assertThat(converter.parseBytes(descriptor, new byte[] { (byte) 0xFF, (byte) 0xFE })).isEqualTo(new BigDecimal("-0.02"));
+		assertThat(converter.parseBytes(descriptor, new byte[] { 0x7F, (byte) 0xFF })).isEqualTo(new BigDecimal("327.67"));
+		assertThatExceptionOfType(FieldConversionException.class)
+				.isThrownBy(() -> converter.formatBytes(descriptor, new BigDecimal("327.68")))
+				.withCauseInstanceOf(IllegalArgumentException.class);
+	}
+
+}
@@ -92,4 +92,26 @@ void parseBinaryByteArray() throws DecoderException {
 		assertThat(actual).asHexString().isEqualTo(source);
 	}
 
+	@Test
+	void formatShortBinaryByteArrayIntoBuffer() throws DecoderException {
+		FormatFieldDescriptor descriptor = fieldDescriptorBuilder()
+				.type(Type.BINARY)
+				.length(8)
+				.build();
+		byte[] target = Hex.decodeHex("FFFFFFFFFFFFFFFFFFFF");
+		int actual = converter.formatBytes(descriptor, Hex.decodeHex("0412AC89"), target, 1);
+		assertThat(actual).isEqualTo(descriptor.length());
+		assertThat(target).asHexString().isEqualTo("FF0412AC8900000000FF");
+	}
+
+	@Test
+	void parseBinaryByteArraySlice() throws DecoderException {
+		FormatFieldDescriptor descriptor = fieldDescriptorBuilder()
+				.type(Type.BINARY)
+				.length(4)
+				.build();
+		byte[] actual = converter.parseBytes(descriptor, Hex.decodeHex("441234AAAAAAAAAA"), 2, descriptor.length());
+		assertThat(actual).asHexString().isEqualTo("34AAAAAA");
+	}
+
 }
@@ -79,6 +79,40 @@ void parseCurrencyNumericCode() {
 		assertThat(actual).usingComparator(Comparator.comparing(Currency::getNumericCode)).isEqualTo(expected);
 	}
 
+	@Test
+	void formatCurrencyNumericCodeIntoBuffer() {
+		FormatFieldDescriptor descriptor = fieldDescriptorBuilder()
+				.length(4)
+				.type(Type.NUMERIC)
+				.build();
+		byte[] target = "USD:????;".getBytes(descriptor.charset());
+		int actual = converter.formatBytes(descriptor, Currency.getInstance("EUR"), target, 4);
+		assertThat(actual).isEqualTo(descriptor.length());
+		assertThat(new String(target, descriptor.charset())).isEqualTo("USD:0978;");
+	}
+
+	@Test
+	void formatCurrencyIntoSmallBuffer() {
+		FormatFieldDescriptor descriptor = fieldDescriptorBuilder()
+				.length(4)
+				.type(Type.NUMERIC)
+				.build();
+		byte[] target = "USD:??".getBytes(descriptor.charset());
+		int actual = converter.formatBytes(descriptor, Currency.getInstance("EUR"), target, 4);
+		assertThat(actual).isEqualTo(-descriptor.length());
+		assertThat(new String(target, descriptor.charset())).isEqualTo("USD:??");
+	}
+
+	@Test
+	void parseCurrencySlice() {
+		FormatFieldDescriptor descriptor = fieldDescriptorBuilder()
+				.length(3)
+				.build();
+		byte[] source = "978EUR000123".getBytes(descriptor.charset());
+		Currency actual = converter.parseBytes(descriptor, source, 3, descriptor.length());
+		assertThat(actual.getCurrencyCode()).isEqualTo("EUR");
+	}
+
 	@Test
 	void parseInvalidCurrencyCode() {
 		FormatFieldDescriptor descriptor = fieldDescriptorBuilder()
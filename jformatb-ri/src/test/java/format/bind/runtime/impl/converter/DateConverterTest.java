@@ -62,4 +62,19 @@ void parseDate() {
 		assertThat(actual).isEqualTo(instant);
 	}
 
+	@Test
+	void formatDateAfterParsingZone() {
+		FormatFieldDescriptor descriptor = fieldDescriptorBuilder()
+				.length(17)
+				.format("yyyyMMddHHmm z")
+				.locale("en-US")
+				.build();
+		Date epoch = new Date(0);
+		String expected = converter.format(descriptor, epoch);
+
+		// The parsed zone must not leak into the next formatted values
+		assertThat(converter.parse(descriptor, "202401011200 JST")).isEqualTo(Instant.parse("2024-01-01T03:00:00Z"));
+		assertThat(converter.format(descriptor, epoch)).isEqualTo(expected);
+	}
+
 }
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2024 jFormat-B
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package format.bind.runtime.impl.converter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.Test;
+
+import format.bind.FormatFieldDescriptor;
+import format.bind.converter.DoubleFieldConverter;
+
+class DoubleConverterTest extends AbstractConverterTest<Double> {
+
+	DoubleConverterTest() {
+		super(Double.class);
+	}
+
+	@Test
+	void formatScaledDoubleIntoBuffer() {
+		FormatFieldDescriptor descriptor = fieldDescriptorBuilder()
+				.length(10)
+				.scale(2)
+				.build();
+		byte[] target = new byte[descriptor.length()];
+
+		for (double value : new double[] { 0.0, 0.1, 0.29, 1.15, 1234567.89, 99999999.99 }) {
+			int length = ((DoubleFieldConverter) converter).formatDouble(descriptor, value, target, 0);
+			String expected = String.format("%010d", BigDecimal.valueOf(value).setScale(2).unscaledValue().longValueExact());
+			assertThat(new String(target, 0, length, descriptor.charset())).isEqualTo(expected);
+		}
+	}
+
+	@Test
+	void parseScaledDoubleSlice() {
+		FormatFieldDescriptor descriptor = fieldDescriptorBuilder()
+				.length(10)
+				.scale(3)
+				.build();
+		byte[] source = "[0000001015][0123456789]".getBytes(descriptor.charset());
+		DoubleFieldConverter doubleConverter = (DoubleFieldConverter) converter;
+		assertThat(doubleConverter.parseDouble(descriptor, source, 1, 10)).isEqualTo(1.015);
+		assertThat(doubleConverter.parseDouble(descriptor, source, 13, 10)).isEqualTo(123456.789);
+		assertThat(converter.parseBytes(descriptor, source, 13, 10)).isEqualTo(new BigDecimal("123456.789").doubleValue());
+	}
+
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2024 jFormat-B
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package format.bind.runtime.impl.converter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import org.junit.jupiter.api.Test;
+
+import format.bind.FormatFieldDescriptor;
+import format.bind.annotation.FormatField.Type;
+import format.bind.converter.FieldConversionException;
+import format.bind.converter.FieldConverter;
+import format.bind.converter.IntFieldConverter;
+
+class IntegerConverterTest extends AbstractConverterTest<Integer> {
+
+	IntegerConverterTest() {
+		super(Integer.class);
+	}
+
+	@Test
+	void processPackedDecimalInteger() {
+		FormatFieldDescriptor descriptor = fieldDescriptorBuilder()
+				.type(Type.PACKED_DECIMAL)
+				.length(3)
+				.build();
+		byte[] target = new byte[descriptor.length()];
+		assertThat(((IntFieldConverter) converter).formatInt(descriptor, -42, target, 0)).isEqualTo(3);
+		assertThat(target).containsExactly(0x00, 0x04, 0x2D);
+		assertThat(((IntFieldConverter) converter).parseInt(descriptor, target, 0, target.length)).isEqualTo(-42);
+		assertThat(converter.parseBytes(descriptor, new byte[] { 0x12, 0x34, 0x5C })).isEqualTo(12345);
+		assertThatExceptionOfType(FieldConversionException.class)
+				.isThrownBy(() -> ((IntFieldConverter) converter).formatInt(descriptor, 123456, target, 0))
+				.withCauseInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void parseWidePackedDecimalInteger() {
+		FormatFieldDescriptor descriptor = fieldDescriptorBuilder()
+				.type(Type.PACKED_DECIMAL)
+				.length(10)
+				.build();
+		// A wide field holds values out of the int range
+		byte[] source = FieldConverter.provider().getConverter(Long.class).formatBytes(descriptor, 3_000_000_000L);
+		assertThatExceptionOfType(FieldConversionException.class)
+				.isThrownBy(() -> ((IntFieldConverter) converter).parseInt(descriptor, source, 0, source.length))
+				.withCauseInstanceOf(ArithmeticException.class);
+		assertThatExceptionOfType(FieldConversionException.class)
+				.isThrownBy(() -> converter.parseBytes(descriptor, source))
+				.withCauseInstanceOf(ArithmeticException.class);
+		assertThat(converter.parseBytes(descriptor, converter.formatBytes(descriptor, Integer.MIN_VALUE))).isEqualTo(Integer.MIN_VALUE);
+	}
+
+	@Test
+	void processBinaryInteger() {
+		FormatFieldDescriptor descriptor = fieldDescriptorBuilder()
+				.type(Type.BINARY_INTEGER)
+				.length(4)
+				.build();
+		byte[] target = new byte[descriptor.length()];
+		((IntFieldConverter) converter).formatInt(descriptor, Integer.MIN_VALUE, target, 0);
+		assertThat(target).containsExactly(0x80, 0x00, 0x00, 0x00);
+		assertThat(((IntFieldConverter) converter).parseInt(descriptor, target, 0, target.length)).isEqualTo(Integer.MIN_VALUE);
+		assertThat(converter.formatBytes(descriptor, -2)).containsExactly(0xFF, 0xFF, 0xFF, 0xFE);
+		assertThat(converter.parseBytes(descriptor, new byte[] { (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFE })).isEqualTo(-2);
+	}
+
+	@Test
+	void processScaledBinaryInteger() {
+		FormatFieldDescriptor descriptor = fieldDescriptorBuilder()
+				.type(Type.BINARY_INTEGER)
+				.length(2)
+				.scale(2)
+				.build();
+		byte[] target = new byte[descriptor.length()];
+		((IntFieldConverter) converter).formatInt(descriptor, -3, target, 0);
+		assertThat(target).containsExactly(0xFE, 0xD4);
+		assertThat(((IntFieldConverter) converter).parseInt(descriptor, target, 0, target.length)).isEqualTo(-3);
+		assertThatExceptionOfType(FieldConversionException.class)
+				.isThrownBy(() -> ((IntFieldConverter) converter).formatInt(descriptor, 400, target, 0))
+				.withCauseInstanceOf(IllegalArgumentException.class);
+		// The unscaled value -1 is not an integer at scale 2
+		assertThatExceptionOfType(FieldConversionException.class)
+				.isThrownBy(() -> converter.parseBytes(descriptor, new byte[] { (byte) 0xFF, (byte) 0xFF }))
+				.withCauseInstanceOf(ArithmeticException.class);
+	}
+
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2024 jFormat-B
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package format.bind.runtime.impl.converter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import format.bind.FormatFieldDescriptor;
+import format.bind.converter.FieldConversionException;
+
+class LocalDateTimeConverterTest extends AbstractConverterTest<LocalDateTime> {
+
+	LocalDateTimeConverterTest() {
+		super(LocalDateTime.class);
+	}
+
+	@ParameterizedTest(name = "parseLocalDateTime({0}, {1})")
+	@CsvSource({
+		"yyyyMMddHHmmss, 20240229235959",
+		"yyyyMMddHHmmss, 20230230120000",
+		"yyyyMMddHHmmss, 20240101240000",
+		"ddMMyyHHmm, 3112991200",
+		"ddMMyyHH, 01012400",
+	})
+	void parseLocalDateTime(String pattern, String source) {
+		FormatFieldDescriptor descriptor = fieldDescriptorBuilder()
+				.length(source.length())
+				.format(pattern)
+				.build();
+		LocalDateTime expected = DateTimeFormatter.ofPattern(pattern).parse(source, LocalDateTime::from);
+		byte[] bytes = ("[" + source + "]").getBytes(descriptor.charset());
+		assertThat(converter.parseBytes(descriptor, bytes, 1, source.length())).isEqualTo(expected);
+	}
+
+	@ParameterizedTest(name = "parseInvalidLocalDateTime({0}, {1})")
+	@CsvSource({
+		"yyyyMMddHHmmss, 20241301120000",
+		"yyyyMMddHHmmss, 2024010112000A",
+		"MMddHHmmss, 0101120000",
+	})
+	void parseInvalidLocalDateTime(String pattern, String source) {
+		FormatFieldDescriptor descriptor = fieldDescriptorBuilder()
+				.length(source.length())
+				.format(pattern)
+				.build();
+		assertThatExceptionOfType(FieldConversionException.class)
+				.isThrownBy(() -> converter.parse(descriptor, source));
+	}
+
+	@ParameterizedTest(name = "formatLocalDateTime({0}, {1})")
+	@CsvSource({
+		"yyyyMMddHHmmss, 2024-02-29T23:59:59",
+		"ddMMyyHHmm, 1999-12-31T12:00",
+		"ddMMyyHHmm, 2001-01-09T08:05",
+		"yyyyMMdd, 0999-06-01T00:00",
+	})
+	void formatLocalDateTime(String pattern, LocalDateTime value) {
+		FormatFieldDescriptor descriptor = fieldDescriptorBuilder()
+				.length(pattern.length())
+				.format(pattern)
+				.build();
+		byte[] target = new byte[descriptor.length()];
+		int length = converter.formatBytes(descriptor, value, target, 0);
+		assertThat(new String(target, 0, length, descriptor.charset())).isEqualTo(DateTimeFormatter.ofPattern(pattern).format(value));
+	}
+
+	@Test
+	void reuseResolvedFormat() {
+		FormatFieldDescriptor descriptor = fieldDescriptorBuilder()
+				.length(14)
+				.format("yyyyMMddHHmmss")
+				.build();
+		LocalDateTime value = LocalDateTime.of(2024, 2, 29, 23, 59, 59);
+		byte[] bytes = converter.formatBytes(descriptor, value);
+		Object format = ((ResolvedFieldDescriptor) descriptor).resolvedFormat();
+		assertThat(format).isNotNull();
+		assertThat(converter.parseBytes(descriptor, bytes)).isEqualTo(value);
+		assertThat(((ResolvedFieldDescriptor) descriptor).resolvedFormat()).isSameAs(format);
+	}
+
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2024 jFormat-B
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package format.bind.runtime.impl.converter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.nio.charset.Charset;
+
+import org.junit.jupiter.api.Test;
+
+import format.bind.FormatFieldDescriptor;
+import format.bind.annotation.FormatField.Type;
+import format.bind.converter.FieldConversionException;
+import format.bind.converter.LongFieldConverter;
+
+class LongConverterTest extends AbstractConverterTest<Long> {
+
+	LongConverterTest() {
+		super(Long.class);
+	}
+
+	@Test
+	void formatLongIntoBuffer() {
+		FormatFieldDescriptor descriptor = fieldDescriptorBuilder()
+				.length(8)
+				.build();
+		byte[] target = "EUR:????????;".getBytes(descriptor.charset());
+		int actual = ((LongFieldConverter) converter).formatLong(descriptor, 123456L, target, 4);
+		assertThat(actual).isEqualTo(descriptor.length());
+		assertThat(new String(target, descriptor.charset())).isEqualTo("EUR:00123456;");
+	}
+
+	@Test
+	void formatLongIntoSmallBuffer() {
+		FormatFieldDescriptor descriptor = fieldDescriptorBuilder()
+				.length(4)
+				.build();
+		byte[] target = "EUR:????".getBytes(descriptor.charset());
+		// The value is longer than its field
+		int actual = ((LongFieldConverter) converter).formatLong(descriptor, 123456L, target, 4);
+		assertThat(actual).isEqualTo(-6);
+		assertThat(new String(target, descriptor.charset())).isEqualTo("EUR:????");
+	}
+
+	@Test
+	void parseLongSlice() {
+		FormatFieldDescriptor descriptor = fieldDescriptorBuilder()
+				.length(8)
+				.build();
+		byte[] source = "EUR:00123456;".getBytes(descriptor.charset());
+		long actual = ((LongFieldConverter) converter).parseLong(descriptor, source, 4, descriptor.length());
+		assertThat(actual).isEqualTo(123456L);
+	}
+
+	@Test
+	void processScaledLong() {
+		FormatFieldDescriptor descriptor = fieldDescriptorBuilder()
+				.length(6)
+				.scale(2)
+				.build();
+		byte[] target = new byte[descriptor.length()];
+		((LongFieldConverter) converter).formatLong(descriptor, 1234L, target, 0);
+		assertThat(new String(target, descriptor.charset())).isEqualTo("123400");
+		assertThat(((LongFieldConverter) converter).parseLong(descriptor, target, 0, target.length)).isEqualTo(1234L);
+		assertThat(converter.parse(descriptor, "123400")).isEqualTo(1234L);
+		assertThatExceptionOfType(FieldConversionException.class)
+				.isThrownBy(() -> ((LongFieldConverter) converter).parseLong(descriptor, "123456".getBytes(), 0, 6))
+				.withCauseInstanceOf(ArithmeticException.class);
+	}
+
+	@Test
+	void parseLongPlaceholder() {
+		FormatFieldDescriptor descriptor = fieldDescriptorBuilder()
+				.length(4)
+				.placeholder("0")
+				.build();
+		assertThat(converter.parse(descriptor, "0000")).isNull();
+		assertThat(((LongFieldConverter) converter).parseLong(descriptor, "0000".getBytes(), 0, 4)).isZero();
+	}
+
+	@Test
+	void processEbcdicLong() {
+		FormatFieldDescriptor descriptor = fieldDescriptorBuilder()
+				.length(8)
+				.charset(Charset.forName("IBM037"))
+				.build();
+		byte[] target = new byte[descriptor.length()];
+		((LongFieldConverter) converter).formatLong(descriptor, 123456L, target, 0);
+		assertThat(target).isEqualTo("00123456".getBytes(descriptor.charset()));
+		assertThat(((LongFieldConverter) converter).parseLong(descriptor, target, 0, target.length)).isEqualTo(123456L);
+		assertThat(((LongFieldConverter) converter).parseLong(descriptor, "-0000042".getBytes(descriptor.charset()), 0, 8)).isEqualTo(-42L);
+	}
+
+	@Test
+	void processPackedDecimalLong() {
+		FormatFieldDescriptor descriptor = fieldDescriptorBuilder()
+				.type(Type.PACKED_DECIMAL)
+				.length(4)
+				.scale(2)
+				.build();
+		byte[] target = new byte[descriptor.length()];
+		((LongFieldConverter) converter).formatLong(descriptor, -12345L, target, 0);
+		assertThat(target).containsExactly(0x12, 0x34, 0x50, 0x0D);
+		assertThat(((LongFieldConverter) converter).parseLong(descriptor, target, 0, target.length)).isEqualTo(-12345L);
+		assertThat(converter.parseBytes(descriptor, new byte[] { 0x00, 0x12, 0x30, 0x0F })).isEqualTo(123L);
+		assertThatExceptionOfType(FieldConversionException.class)
+				.isThrownBy(() -> ((LongFieldConverter) converter).formatLong(descriptor, 123456L, target, 0))
+				.withCauseInstanceOf(IllegalArgumentException.class);
+		assertThatExceptionOfType(FieldConversionException.class)
+				.isThrownBy(() -> converter.parseBytes(descriptor, new byte[] { 0x00, 0x1A, 0x00, 0x0C }))
+				.withCauseInstanceOf(NumberFormatException.class);
+	}
+
+	@Test
+	void processBinaryIntegerLong() {
+		FormatFieldDescriptor descriptor = fieldDescriptorBuilder()
+				.type(Type.BINARY_INTEGER)
+				.length(4)
+				.build();
+		assertThat(converter.formatBytes(descriptor, 0x12345678L)).containsExactly(0x12, 0x34, 0x56, 0x78);
+		assertThat(converter.formatBytes(descriptor, -2L)).containsExactly(0xFF, 0xFF, 0xFF, 0xFE);
+		assertThat(converter.parseBytes(descriptor, new byte[] { (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFE })).isEqualTo(-2L);
+		assertThat(converter.parseBytes(descriptor, new byte[] { 0x7F, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF })).isEqualTo(Integer.MAX_VALUE);
+		assertThatExceptionOfType(FieldConversionException.class)
+				.isThrownBy(() -> converter.formatBytes(descriptor, 1L << 31))
+				.withCauseInstanceOf(IllegalArgumentException.class);
+	}
+
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2024 jFormat-B
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package format.bind.runtime.impl.converter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import org.junit.jupiter.api.Test;
+
+import format.bind.FormatFieldDescriptor;
+import format.bind.annotation.FormatField.Type;
+import format.bind.converter.FieldConversionException;
+
+class ShortConverterTest extends AbstractConverterTest<Short> {
+
+	ShortConverterTest() {
+		super(Short.class);
+	}
+
+	@Test
+	void processPackedDecimalShort() {
+		FormatFieldDescriptor descriptor = fieldDescriptorBuilder()
+				.type(Type.PACKED_DECIMAL)
+				.length(2)
+				.build();
+		byte[] target = new byte[descriptor.length()];
+		assertThat(converter.formatBytes(descriptor, (short) -123, target, 0)).isEqualTo(2);
+		assertThat(target).containsExactly(0x12, 0x3D);
+		assertThat(converter.parseBytes(descriptor, target)).isEqualTo((short) -123);
+		assertThat(converter.parseBytes(descriptor, new byte[] { 0x12, 0x3F })).isEqualTo((short) 123);
+		assertThatExceptionOfType(FieldConversionException.class)
+				.isThrownBy(() -> converter.formatBytes(descriptor, Short.MAX_VALUE))
+				.withCauseInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void processBinaryShort() {
+		FormatFieldDescriptor descriptor = fieldDescriptorBuilder()
+				.type(Type.BINARY_INTEGER)
+				.length(2)
+				.build();
+		assertThat(converter.formatBytes(descriptor, (short) -2)).containsExactly(0xFF, 0xFE);
+		assertThat(converter.formatBytes(descriptor, Short.MIN_VALUE)).containsExactly(0x80, 0x00);
+		assertThat(converter.parseBytes(descriptor, new byte[] { (byte) 0xFF, (byte) 0xFE })).isEqualTo((short) -2);
+		assertThat(converter.parseBytes(descriptor, new byte[] { 0x7F, (byte) 0xFF })).isEqualTo(Short.MAX_VALUE);
+	}
+
+	@Test
+	void parseWideBinaryShort() {
+		FormatFieldDescriptor descriptor = fieldDescriptorBuilder()
+				.type(Type.BINARY_INTEGER)
+				.length(4)
+				.build();
+		assertThat(converter.parseBytes(descriptor, converter.formatBytes(descriptor, (short) -32768))).isEqualTo(Short.MIN_VALUE);
+		// A wide field holds values out of the short range
+		assertThatExceptionOfType(FieldConversionException.class)
+				.isThrownBy(() -> converter.parseBytes(descriptor, new byte[] { 0x00, 0x01, 0x00, 0x00 }))
+				.withCauseInstanceOf(ArithmeticException.class);
+	}
+
+}
@@ -5,9 +5,11 @@
 package it.bancomat.message.converter;
 
 import format.bind.FormatFieldDescriptor;
+import format.bind.annotation.FormatStateless;
 import format.bind.converter.FieldConverter;
 import it.bancomat.message.Denomination;
 
+@FormatStateless
 public final class DenominationConverter implements FieldConverter<Denomination> {
 
 	private static FieldConverter<Integer> converter = FieldConverter.provider().getConverter(Integer.class);
@@ -5,9 +5,11 @@
 package it.bancomat.message.converter;
 
 import format.bind.FormatFieldDescriptor;
+import format.bind.annotation.FormatStateless;
 import format.bind.converter.FieldConverter;
 import it.bancomat.message.RequestMessage.TransmissionFlag;
 
+@FormatStateless
 public class TransmissionFlagConverter implements FieldConverter<TransmissionFlag> {
 
 	@Override